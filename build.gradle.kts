@@ -6,6 +6,7 @@ plugins {
     id("com.github.johnrengelman.shadow") version "8.1.1"
     id("signing")
     id("eu.kakde.gradle.sonatype-maven-central-publisher") version "1.0.6"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 
@@ -37,9 +38,18 @@ dependencies {
     // https://mvnrepository.com/artifact/com.fasterxml.jackson.core/jackson-databind
     api("com.fasterxml.jackson.core:jackson-databind:2.19.2")
 
+    // https://mvnrepository.com/artifact/com.fasterxml.jackson.dataformat/jackson-dataformat-smile
+    api("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:2.19.2")
+
+    // https://mvnrepository.com/artifact/com.fasterxml.jackson.dataformat/jackson-dataformat-cbor
+    api("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:2.19.2")
+
     // https://mvnrepository.com/artifact/org.hibernate.orm/hibernate-core
     api("org.hibernate.orm:hibernate-core:7.0.7.Final")
 
+    // https://mvnrepository.com/artifact/org.hibernate.orm/hibernate-hikaricp
+    api("org.hibernate.orm:hibernate-hikaricp:7.0.7.Final")
+
     // https://mvnrepository.com/artifact/org.mariadb.jdbc/mariadb-java-client
     api("org.mariadb.jdbc:mariadb-java-client:3.5.4")
 
@@ -49,6 +59,9 @@ dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
 
+    // https://mvnrepository.com/artifact/com.h2database/h2
+    jmhImplementation("com.h2database:h2:2.3.232")
+
     // https://mvnrepository.com/artifact/org.projectlombok/lombok
     compileOnly("org.projectlombok:lombok:1.18.38")
     annotationProcessor("org.projectlombok:lombok:1.18.38")
@@ -118,3 +131,9 @@ signing {
 tasks.test {
     useJUnitPlatform()
 }
+
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
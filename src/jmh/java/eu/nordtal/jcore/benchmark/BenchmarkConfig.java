@@ -0,0 +1,57 @@
+package eu.nordtal.jcore.benchmark;
+
+import eu.nordtal.jcore.config.JsonConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Config used by the config benchmarks
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class BenchmarkConfig extends JsonConfig {
+
+    public String name = "benchmark";
+
+    public int version = 1;
+
+    public List<Item> items = new ArrayList<>();
+
+    public Map<String, Item> itemsByName = new LinkedHashMap<>();
+
+    /**
+     * Creates a {@link BenchmarkConfig} containing the given number of items
+     *
+     * @param size the number of items
+     * @return the created {@link BenchmarkConfig}
+     */
+    public static BenchmarkConfig withItems(final int size) {
+        final BenchmarkConfig config = new BenchmarkConfig();
+        for (int i = 0; i < size; i++) {
+            final Item item = new Item();
+            item.itemName = "item-" + i;
+            item.price = i * 1.5;
+            item.tags = List.of("tag-" + (i % 10), "tag-" + (i % 7));
+            config.items.add(item);
+            config.itemsByName.put(item.itemName, item);
+        }
+        return config;
+    }
+
+    /**
+     * Nested object of {@link BenchmarkConfig}
+     */
+    public static class Item {
+
+        public String itemName;
+
+        public double price;
+
+        public List<String> tags = new ArrayList<>();
+
+        public boolean enabled = true;
+    }
+}
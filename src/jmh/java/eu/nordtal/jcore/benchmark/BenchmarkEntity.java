@@ -0,0 +1,66 @@
+package eu.nordtal.jcore.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Entity used by the repository benchmarks
+ * <p>
+ *     The id is generated from a sequence, so new entities are recognized as transient and inserted with JDBC
+ *     batching, as in the save paths being measured.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@Entity
+@Table(name = "benchmark_entity", indexes = @Index(columnList = "category"))
+public class BenchmarkEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_entity_seq")
+    @SequenceGenerator(name = "benchmark_entity_seq", sequenceName = "benchmark_entity_seq", allocationSize = 100)
+    private Long id;
+
+    private String name;
+
+    private String category;
+
+    private int score;
+
+    /**
+     * No-args-constructor required by Hibernate
+     */
+    public BenchmarkEntity() {}
+
+    /**
+     * Creates a new {@link BenchmarkEntity} with values derived from a number, leaving the id to be generated
+     *
+     * @param number the number to derive the values from
+     */
+    public BenchmarkEntity(final long number) {
+        this.name = "entity-" + number;
+        this.category = "category-" + (number % 100);
+        this.score = (int) (number % 1000);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,22 @@
+package eu.nordtal.jcore.benchmark;
+
+import eu.nordtal.jcore.persistence.mariadb.MariaDbRepository;
+import eu.nordtal.jcore.persistence.mariadb.MariaDbSessionFactoryConstructor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Repository used by the repository benchmarks
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class BenchmarkRepository extends MariaDbRepository<BenchmarkEntity> {
+
+    /**
+     * Creates a new {@link BenchmarkRepository}
+     *
+     * @param uri the JDBC uri of the database
+     */
+    public BenchmarkRepository(final @NotNull String uri) {
+        super(new MariaDbSessionFactoryConstructor<>(uri, "sa", "", BenchmarkEntity.class));
+    }
+}
@@ -0,0 +1,79 @@
+package eu.nordtal.jcore.benchmark;
+
+import eu.nordtal.jcore.config.JsonConfigLoader;
+import eu.nordtal.jcore.config.exception.ConfigException;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading and saving {@link eu.nordtal.jcore.config.JsonConfig} files of growing size with
+ * {@link JsonConfigLoader}
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigBenchmark {
+
+    @Param({"10", "10000"})
+    private int items;
+
+    private File directory;
+
+    private File loadFile;
+
+    private File saveFile;
+
+    private BenchmarkConfig config;
+
+    /**
+     * Writes the config file to load
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ConfigException {
+        directory = Files.createTempDirectory("jcore-config-benchmark").toFile();
+        loadFile = new File(directory, "load.json");
+        saveFile = new File(directory, "save.json");
+        config = BenchmarkConfig.withItems(items);
+        JsonConfigLoader.save(loadFile, config);
+    }
+
+    /**
+     * Deletes the config files
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public BenchmarkConfig load() throws ConfigException {
+        return JsonConfigLoader.load(loadFile, BenchmarkConfig.class);
+    }
+
+    @Benchmark
+    public void save() throws ConfigException {
+        JsonConfigLoader.save(saveFile, config);
+    }
+}
@@ -0,0 +1,109 @@
+package eu.nordtal.jcore.benchmark;
+
+import eu.nordtal.jcore.persistence.mariadb.MariaDbSessionFactoryRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks the operations of {@link eu.nordtal.jcore.persistence.mariadb.MariaDbRepository} on tables of growing
+ * size, using an in-memory H2 database in MariaDB mode
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1000", "10000", "100000"})
+    private int tableSize;
+
+    private BenchmarkRepository repository;
+
+    /**
+     * The number the values of the next new entity are derived from
+     */
+    private final AtomicLong nextNumber = new AtomicLong();
+
+    /**
+     * Creates the database and fills the table, whose generated ids then range from {@code 1} to {@code tableSize}
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new BenchmarkRepository("jdbc:h2:mem:benchmark_" + tableSize + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+        final List<BenchmarkEntity> entities = new ArrayList<>(BATCH_SIZE * 10);
+        for (long number = 0; number < tableSize; number++) {
+            entities.add(new BenchmarkEntity(number));
+            if (entities.size() == BATCH_SIZE * 10) {
+                repository.saveAll(entities);
+                entities.clear();
+            }
+        }
+        repository.saveAll(entities);
+        nextNumber.set(tableSize);
+    }
+
+    /**
+     * Closes the database connection
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MariaDbSessionFactoryRegistry.closeAll();
+    }
+
+    @Benchmark
+    public BenchmarkEntity saveSingle() {
+        return repository.save(new BenchmarkEntity(nextNumber.getAndIncrement()));
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> saveBatch() {
+        final List<BenchmarkEntity> entities = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            entities.add(new BenchmarkEntity(nextNumber.getAndIncrement()));
+        }
+        return repository.saveAll(entities);
+    }
+
+    @Benchmark
+    public BenchmarkEntity findById() {
+        return repository.findFirstById(ThreadLocalRandom.current().nextLong(1, tableSize + 1L));
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> findByField() {
+        return repository.findAll("category", "category-" + ThreadLocalRandom.current().nextInt(100));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<BenchmarkEntity> all() {
+        return repository.all();
+    }
+}
@@ -0,0 +1,126 @@
+package eu.nordtal.jcore.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * The formats a {@link JsonConfig} can be stored in by the {@link JsonConfigLoader}
+ * <p>
+ *     All formats share the same data model, so the same {@link JsonConfig} classes, field diffing and
+ *     {@link JsonConfig#preSave()}/{@link JsonConfig#postLoad()} hooks work with each of them. The binary formats
+ *     are considerably faster to parse and smaller on disk, which pays off for large generated configs, but cannot be
+ *     edited by hand.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public enum ConfigFormat {
+
+    /**
+     * Pretty printed JSON text
+     */
+    JSON(".json", configure(new ObjectMapper()), true),
+
+    /**
+     * Binary JSON using Jackson's Smile format
+     */
+    SMILE(".smile", configure(new SmileMapper()), false),
+
+    /**
+     * Binary JSON using the Concise Binary Object Representation (RFC 8949)
+     */
+    CBOR(".cbor", configure(new CBORMapper()), false);
+
+    /**
+     * The file extension of the format, including the leading dot
+     */
+    @NotNull
+    private final String extension;
+
+    @NotNull
+    private final ObjectMapper objectMapper;
+
+    @NotNull
+    private final ObjectWriter objectWriter;
+
+    ConfigFormat(final @NotNull String extension, final @NotNull ObjectMapper objectMapper, final boolean prettyPrint) {
+        this.extension = extension;
+        this.objectMapper = objectMapper;
+        this.objectWriter = prettyPrint ? objectMapper.writerWithDefaultPrettyPrinter() : objectMapper.writer();
+    }
+
+    /**
+     * Detects the format of a config file by its extension
+     *
+     * @param configPath the {@link Path} of the config file
+     * @return the {@link ConfigFormat} matching the extension, or {@link ConfigFormat#JSON} for any other extension
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull ConfigFormat of(final @NotNull Path configPath) {
+        final Path fileName = configPath.getFileName();
+        return fileName == null ? JSON : of(fileName.toString());
+    }
+
+    /**
+     * Detects the format of a config file or resource by its extension
+     *
+     * @param fileName the name of the config file or resource
+     * @return the {@link ConfigFormat} matching the extension, or {@link ConfigFormat#JSON} for any other extension
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull ConfigFormat of(final @NotNull String fileName) {
+        final String lowerCaseName = fileName.toLowerCase(Locale.ROOT);
+        for (ConfigFormat format : values()) {
+            if (lowerCaseName.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * @return the file extension of the format, including the leading dot
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @return the {@link ObjectMapper} reading and binding the format
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * @return the {@link ObjectWriter} serializing configs to the format
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull ObjectWriter getObjectWriter() {
+        return objectWriter;
+    }
+
+    /**
+     * Applies the settings shared by all formats to an {@link ObjectMapper}
+     *
+     * @param objectMapper the {@link ObjectMapper} of a format
+     * @return the configured {@link ObjectMapper}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull ObjectMapper configure(final @NotNull ObjectMapper objectMapper) {
+        return objectMapper
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+}
@@ -0,0 +1,28 @@
+package eu.nordtal.jcore.config;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * One step upgrading the saved JSON of a {@link JsonConfig} from one schema version to the next
+ * <p>
+ *     Migrations are registered with {@link JsonConfigLoader#registerMigration(Class, int, ConfigMigration)} and run
+ *     on the parsed {@link ObjectNode} before it is bound onto the {@link JsonConfig}, so renamed or retyped fields
+ *     can carry their values over instead of being dropped. Only the steps between the saved and the latest version
+ *     are run, after which the file is rewritten once with the latest version.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@FunctionalInterface
+public interface ConfigMigration {
+
+    /**
+     * Transforms the saved JSON of a config in place
+     *
+     * @param json the root {@link ObjectNode} of the config, using the property names as saved in the file
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    void migrate(@NotNull ObjectNode json);
+
+}
@@ -0,0 +1,119 @@
+package eu.nordtal.jcore.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable registry of {@link JsonConfig} instances loaded by {@link JsonConfigLoader#loadAll(java.nio.file.Path, Map)}
+ * <p>
+ *     Configs are registered by the name of the file they have been loaded from and can be looked up either by that
+ *     name or, as long as only one file is loaded into it, by their {@link Class}.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public final class ConfigRegistry {
+
+    /**
+     * The loaded configs by file name, in the order they have been requested
+     */
+    @NotNull
+    private final Map<String, JsonConfig> configs;
+
+    /**
+     * Creates a new {@link ConfigRegistry}
+     *
+     * @param configs the loaded configs by file name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    ConfigRegistry(final @NotNull Map<String, JsonConfig> configs) {
+        this.configs = Collections.unmodifiableMap(new LinkedHashMap<>(configs));
+    }
+
+    /**
+     * Returns the config loaded from a file
+     *
+     * @param fileName    the name of the file relative to the loaded directory
+     * @param configClass the {@link Class} of {@link T}
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @return the loaded instance of {@link T}
+     * @throws NoSuchElementException if no config has been loaded from the file
+     * @throws ClassCastException     if the config loaded from the file is not of type {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public <T extends JsonConfig> @NotNull T get(final @NotNull String fileName, final @NotNull Class<T> configClass) {
+        final JsonConfig config = configs.get(fileName);
+        if (config == null) {
+            throw new NoSuchElementException(String.format("No config has been loaded from file '%s'", fileName));
+        }
+        return configClass.cast(config);
+    }
+
+    /**
+     * Returns the only config of a {@link Class}
+     *
+     * @param configClass the {@link Class} of {@link T}
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @return the loaded instance of {@link T}
+     * @throws NoSuchElementException if no config of the {@link Class} has been loaded
+     * @throws IllegalStateException  if multiple files have been loaded into the {@link Class}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public <T extends JsonConfig> @NotNull T get(final @NotNull Class<T> configClass) {
+        T found = null;
+        for (JsonConfig config : configs.values()) {
+            if (config.getClass() != configClass) {
+                continue;
+            }
+            if (found != null) {
+                throw new IllegalStateException(String.format("Multiple configs of class [%s] have been loaded, look them up by file name", configClass.getName()));
+            }
+            found = configClass.cast(config);
+        }
+        if (found == null) {
+            throw new NoSuchElementException(String.format("No config of class [%s] has been loaded", configClass.getName()));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the config loaded from a file, if any
+     *
+     * @param fileName the name of the file relative to the loaded directory
+     * @return the loaded {@link JsonConfig} or {@code null} if no config has been loaded from the file
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @Nullable JsonConfig find(final @NotNull String fileName) {
+        return configs.get(fileName);
+    }
+
+    /**
+     * @return the names of all loaded files
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Set<String> fileNames() {
+        return configs.keySet();
+    }
+
+    /**
+     * @return an unmodifiable view of all loaded configs by file name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Map<String, JsonConfig> asMap() {
+        return configs;
+    }
+
+    /**
+     * @return the number of loaded configs
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public int size() {
+        return configs.size();
+    }
+}
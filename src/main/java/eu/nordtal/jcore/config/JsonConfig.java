@@ -1,14 +1,29 @@
 package eu.nordtal.jcore.config;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
- * This class is currently just a reservation for possible future features.
- * For now, all functionality regarding json config files is handled by {@link JsonConfigLoader}
+ * Base class of all configs loaded and saved by the {@link JsonConfigLoader}
+ * <p>
+ *     It carries the schema version the config has been saved with, which decides the {@link ConfigMigration}s run
+ *     on load, and provides the {@link #preSave()} and {@link #postLoad()} hooks.
+ * </p>
  *
  * @see JsonConfigLoader
  * @author Till Hoffmann / @tillhfm - 15.04.2025
  */
 public abstract class JsonConfig {
 
+    /**
+     * The schema version the config has been saved with, omitted from the file while it is {@code 0}
+     *
+     * @see ConfigMigration
+     */
+    @JsonProperty(JsonConfigLoader.VERSION_FIELD)
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private int configVersion;
+
     /**
      * No-args-constructor
      * @author Till Hoffmann / @tillhfm - 23.08.2025
@@ -27,4 +42,20 @@ public abstract class JsonConfig {
      */
     protected void postLoad() {}
 
+    /**
+     * @return the schema version the config has been saved with
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public int getConfigVersion() {
+        return configVersion;
+    }
+
+    /**
+     * @param configVersion the schema version to save the config with
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    void setConfigVersion(final int configVersion) {
+        this.configVersion = configVersion;
+    }
+
 }
@@ -1,19 +1,40 @@
 package eu.nordtal.jcore.config;
 
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import eu.nordtal.jcore.config.exception.ConfigException;
 import eu.nordtal.jcore.config.exception.ConfigInitializationException;
+import eu.nordtal.jcore.config.exception.ConfigLoadException;
+import eu.nordtal.jcore.config.exception.ConfigMigrationException;
 import eu.nordtal.jcore.config.exception.ConfigReadException;
 import eu.nordtal.jcore.config.exception.ConfigWriteException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 /**
@@ -26,15 +47,60 @@ public class JsonConfigLoader {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonConfigLoader.class);
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false)
-            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    /**
+     * Converts between configs and the format-independent {@link JsonNode} tree
+     */
+    private static final ObjectMapper OBJECT_MAPPER = ConfigFormat.JSON.getObjectMapper();
+
+    /**
+     * The name of the property storing the schema version of a config
+     */
+    public static final String VERSION_FIELD = "config_version";
+
+    /**
+     * The registered migrations of every config class by the version they migrate from
+     */
+    private static final Map<Class<? extends JsonConfig>, NavigableMap<Integer, ConfigMigration>> MIGRATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a {@link ConfigMigration} upgrading a config class from one schema version to the next
+     * <p>
+     *     The latest version of a config class is one above the highest version a migration is registered for, so
+     *     migrations have to be registered for every version from {@code 0} on, before the config is loaded.
+     * </p>
+     *
+     * @param configClass the {@link Class} of the config to migrate
+     * @param fromVersion the version the migration upgrades from to {@code fromVersion + 1}
+     * @param migration   the {@link ConfigMigration} to run
+     * @throws IllegalArgumentException if the version is negative
+     * @throws IllegalStateException    if a migration is already registered for the version
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static void registerMigration(final @NotNull Class<? extends JsonConfig> configClass, final int fromVersion, final @NotNull ConfigMigration migration) {
+        if (fromVersion < 0) {
+            throw new IllegalArgumentException(String.format("Invalid version to migrate from [%d]", fromVersion));
+        }
+        if (MIGRATIONS.computeIfAbsent(configClass, key -> new ConcurrentSkipListMap<>()).putIfAbsent(fromVersion, migration) != null) {
+            throw new IllegalStateException(String.format("A migration from version %d is already registered for config class [%s]", fromVersion, configClass.getName()));
+        }
+    }
+
+    /**
+     * Returns the latest schema version of a config class, which new and migrated configs are saved with
+     *
+     * @param configClass the {@link Class} of the config
+     * @return one above the highest version a migration is registered for, or {@code 0} if none are registered
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static int latestVersion(final @NotNull Class<? extends JsonConfig> configClass) {
+        final NavigableMap<Integer, ConfigMigration> migrations = MIGRATIONS.get(configClass);
+        return migrations == null || migrations.isEmpty() ? 0 : migrations.lastKey() + 1;
+    }
 
     /**
      * Loads a {@link T} from a {@link File} and creates a default config
      * <p>
-     *     For details see {@link JsonConfigLoader#loadConfig(File, Class)}.
+     *     For details see {@link JsonConfigLoader#loadConfig(Path, Class, ConfigFormat)}.
      * </p>
      *
      * @param configFile the {@link File} to load the config from
@@ -45,11 +111,141 @@ public class JsonConfigLoader {
      * @author Till Hoffmann / @tillhfm - 17.04.2025
      */
     public static @NotNull <T extends JsonConfig> T load(final @NotNull File configFile, final @NotNull Class<T> configClass) throws ConfigException {
-        if (!configFile.exists()) {
-            createDefaultConfig(configFile, configClass);
+        return load(configFile.toPath(), configClass);
+    }
+
+    /**
+     * Loads a {@link T} from a {@link Path} and creates a default config, detecting the {@link ConfigFormat} by the
+     * extension of the {@link Path}
+     * <p>
+     *     For details see {@link JsonConfigLoader#loadConfig(Path, Class, ConfigFormat)}.
+     * </p>
+     *
+     * @param configPath  the {@link Path} to load the config from
+     * @param configClass the {@link Class} of {@link T}
+     * @return the loaded instance of {@link T}
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @throws ConfigException in case of an exception while reading, parsing or saving the JSON
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull <T extends JsonConfig> T load(final @NotNull Path configPath, final @NotNull Class<T> configClass) throws ConfigException {
+        return load(configPath, configClass, ConfigFormat.of(configPath));
+    }
+
+    /**
+     * Loads a {@link T} stored in a {@link ConfigFormat} from a {@link Path} and creates a default config
+     * <p>
+     *     For details see {@link JsonConfigLoader#loadConfig(Path, Class, ConfigFormat)}.
+     * </p>
+     *
+     * @param configPath  the {@link Path} to load the config from
+     * @param configClass the {@link Class} of {@link T}
+     * @param format      the {@link ConfigFormat} the config is stored in
+     * @return the loaded instance of {@link T}
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @throws ConfigException in case of an exception while reading, parsing or saving the config
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull <T extends JsonConfig> T load(final @NotNull Path configPath, final @NotNull Class<T> configClass, final @NotNull ConfigFormat format) throws ConfigException {
+        if (Files.notExists(configPath)) {
+            createDefaultConfig(configPath, configClass, format);
         }
 
-        return loadConfig(configFile, configClass);
+        return loadConfig(configPath, configClass, format);
+    }
+
+    /**
+     * Loads multiple configs from a directory in parallel, using one thread per available processor
+     * <p>
+     *     For details see {@link JsonConfigLoader#loadAll(Path, Map, int)}.
+     * </p>
+     *
+     * @param directory the directory containing the config files
+     * @param configs   the {@link Class} of every config by the name of its file relative to the directory
+     * @return the {@link ConfigRegistry} holding all loaded configs
+     * @throws ConfigLoadException if any of the configs could not be loaded
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull ConfigRegistry loadAll(final @NotNull Path directory, final @NotNull Map<String, Class<? extends JsonConfig>> configs) throws ConfigLoadException {
+        return loadAll(directory, configs, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Loads multiple configs from a directory in parallel
+     * <p>
+     *     Every config is loaded like by {@link JsonConfigLoader#load(Path, Class)} on a bounded pool of threads. All
+     *     configs are attempted even if some fail, and every failure is reported together in one
+     *     {@link ConfigLoadException} after all other configs have been loaded.
+     * </p>
+     *
+     * @param directory   the directory containing the config files
+     * @param configs     the {@link Class} of every config by the name of its file relative to the directory
+     * @param parallelism the maximum number of configs to load at the same time
+     * @return the {@link ConfigRegistry} holding all loaded configs
+     * @throws ConfigLoadException if any of the configs could not be loaded
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull ConfigRegistry loadAll(final @NotNull Path directory, final @NotNull Map<String, Class<? extends JsonConfig>> configs, final int parallelism) throws ConfigLoadException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(String.format("Invalid parallelism [%d]", parallelism));
+        }
+
+        final Map<String, Future<? extends JsonConfig>> futures = new LinkedHashMap<>();
+        final int threads = Math.max(1, Math.min(configs.size(), parallelism));
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().daemon().name("config-loader-", 0).factory())) {
+            configs.forEach((fileName, configClass) -> futures.put(fileName, executor.submit(() -> load(directory.resolve(fileName), configClass))));
+        }
+
+        final Map<String, JsonConfig> loaded = new LinkedHashMap<>();
+        final Map<String, ConfigException> failures = new LinkedHashMap<>();
+        futures.forEach((fileName, future) -> {
+            try {
+                loaded.put(fileName, future.get());
+            } catch (ExecutionException e) {
+                failures.put(fileName, e.getCause() instanceof ConfigException configException
+                        ? configException
+                        : new ConfigException(String.format("Unexpected error loading config file '%s'", fileName), e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(fileName, new ConfigException(String.format("Interrupted while loading config file '%s'", fileName), e));
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            throw new ConfigLoadException(directory, configs.size(), failures);
+        }
+        return new ConfigRegistry(loaded);
+    }
+
+    /**
+     * Loads a {@link T} from a classpath resource, e.g. a config bundled within a jar
+     * <p>
+     *     Resources are read-only, so neither a default config is created nor are differences saved.
+     * </p>
+     *
+     * @param resourceName the name of the resource, e.g. {@code config/defaults.json}, whose extension determines the {@link ConfigFormat}
+     * @param configClass  the {@link Class} of {@link T}, whose {@link ClassLoader} is used to find the resource
+     * @return the loaded instance of {@link T}
+     * @param <T>          generic describing the implemented type of {@link JsonConfig}
+     * @throws ConfigReadException in case the resource does not exist or an error occurs reading or parsing the JSON
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull <T extends JsonConfig> T loadResource(final @NotNull String resourceName, final @NotNull Class<T> configClass) throws ConfigReadException {
+        final byte[] bytes;
+        try (InputStream inputStream = configClass.getClassLoader().getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new ConfigReadException(String.format("Config resource '%s' does not exist", resourceName), null);
+            }
+            bytes = inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new ConfigReadException(String.format("Error reading config resource '%s'", resourceName), e);
+        }
+
+        final JsonNode json = readJson(resourceName, bytes, ConfigFormat.of(resourceName));
+        migrate(resourceName, json, configClass);
+        final T config = readConfig(resourceName, json, configClass);
+        config.postLoad();
+        return config;
     }
 
     /**
@@ -61,42 +257,101 @@ public class JsonConfigLoader {
      * @author Till Hoffmann / @tillhfm - 17.04.2025
      */
     public static void save(final @NotNull File configFile, final @NotNull JsonConfig config) throws ConfigWriteException {
-        writeInstanceToFile(configFile, config);
+        save(configFile.toPath(), config);
     }
 
     /**
-     * Loads a {@link T} from a {@link File}
+     * Saves a {@link JsonConfig} to a {@link Path}
      * <p>
-     *     In the process, the JSON from the {@link File} is parsed onto a fresh of instance of {@link T}, which is then
-     *     parsed back into a {@link JsonNode}. The {@link T} is checked for differences and newly added fields and
-     *     missing ones are collected and printed to console. If differences were found, the parsed {@link T} is saved
-     *     to remove missing fields and add the defaults of new ones to the {@link File}.
+     *     For details see {@link JsonConfigLoader#writeInstanceToFile(Path, JsonConfig, ConfigFormat)}.
      * </p>
      *
-     * @param configFile the {@link File} storing the JSON
+     * @param configPath the {@link Path} to save to
+     * @param config     the {@link JsonConfig} instance to save
+     * @throws ConfigWriteException in case of an exception while parsing the JSON or writing to the {@link Path}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static void save(final @NotNull Path configPath, final @NotNull JsonConfig config) throws ConfigWriteException {
+        save(configPath, config, ConfigFormat.of(configPath));
+    }
+
+    /**
+     * Saves a {@link JsonConfig} in a {@link ConfigFormat} to a {@link Path}
+     * <p>
+     *     For details see {@link JsonConfigLoader#writeInstanceToFile(Path, JsonConfig, ConfigFormat)}.
+     * </p>
+     *
+     * @param configPath the {@link Path} to save to
+     * @param config     the {@link JsonConfig} instance to save
+     * @param format     the {@link ConfigFormat} to store the config in
+     * @throws ConfigWriteException in case of an exception while serializing the config or writing to the {@link Path}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static void save(final @NotNull Path configPath, final @NotNull JsonConfig config, final @NotNull ConfigFormat format) throws ConfigWriteException {
+        writeInstanceToFile(configPath, config, format);
+    }
+
+    /**
+     * Converts a config file to another {@link ConfigFormat}, e.g. a hand-edited JSON file to a binary format
+     * <p>
+     *     The source is loaded like by {@link JsonConfigLoader#load(Path, Class)} and saved to the target, both
+     *     detecting their {@link ConfigFormat} by the extension of their {@link Path}.
+     * </p>
+     *
+     * @param sourcePath  the {@link Path} to load the config from
+     * @param targetPath  the {@link Path} to save the config to
+     * @param configClass the {@link Class} of {@link T}
+     * @return the converted instance of {@link T}
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @throws ConfigException in case of an exception while loading the source or saving the target
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull <T extends JsonConfig> T convert(final @NotNull Path sourcePath, final @NotNull Path targetPath, final @NotNull Class<T> configClass) throws ConfigException {
+        final T config = load(sourcePath, configClass);
+        save(targetPath, config);
+        return config;
+    }
+
+    /**
+     * Loads a {@link T} from a {@link Path}
+     * <p>
+     *     In the process, the bytes of the {@link Path} are parsed once into a {@link JsonNode}, which is migrated to
+     *     the latest version of {@link T} and bound onto a fresh instance of {@link T}. The {@link T} is then converted
+     *     back into a {@link JsonNode} and checked for differences, and newly added fields and missing ones are
+     *     collected and printed to console. If the config has been migrated or differences were found, the parsed
+     *     {@link T} is saved to remove missing fields and add the defaults of new ones to the {@link Path}. Configs
+     *     saved with a newer version than known are never saved, so that their unknown fields are kept.
+     * </p>
+     *
+     * @param configPath  the {@link Path} storing the config
      * @param configClass the {@link Class} of {@link T}
+     * @param format      the {@link ConfigFormat} the config is stored in
      * @return the loaded instance of {@link T}
      * @param <T>         generic describing the implemented type of {@link JsonConfig}
      * @throws ConfigException in case of errors while reading, parsing and saving the JSONs
      */
-    private static @NotNull <T extends JsonConfig> T loadConfig(final @NotNull File configFile, final @NotNull Class<T> configClass) throws ConfigException {
-        final JsonNode savedJson = readJson(configFile);
-        final T mergedConfig = readConfig(configFile, configClass);
+    private static @NotNull <T extends JsonConfig> T loadConfig(final @NotNull Path configPath, final @NotNull Class<T> configClass, final @NotNull ConfigFormat format) throws ConfigException {
+        final String fileName = fileName(configPath);
+        final JsonNode savedJson = readJson(fileName, readBytes(configPath, fileName), format);
+        final int savedVersion = migrate(fileName, savedJson, configClass);
+        final int latestVersion = latestVersion(configClass);
+        final T mergedConfig = readConfig(fileName, savedJson, configClass);
         final JsonNode mergedJson = configToJson(mergedConfig);
 
         // Calculate differences
         final Map<String, Boolean> differences = jsonDifferences(savedJson, mergedJson);
 
-        // If no differences were found, return
-        if (differences.isEmpty()) {
-            return mergedConfig;
+        // Print and save migrations and differences
+        if (savedVersion <= latestVersion && (savedVersion < latestVersion || !differences.isEmpty())) {
+            writeInstanceToFile(configPath, mergedConfig, format);
+            if (savedVersion < latestVersion) {
+                LOG.info("Config file '{}' has been migrated from version {} to {}", fileName, savedVersion, latestVersion);
+            } else {
+                LOG.info("Config file '{}' has been updated", fileName);
+            }
+            printDifferences(fileName, differences);
         }
 
-        // Print and save differences
-        writeInstanceToFile(configFile, mergedConfig);
-        LOG.info("Config file '{}' has been updated", configFile.getName());
-        printDifferences(configFile.getName(), differences);
-
         // Run the postLoad implementation
         mergedConfig.postLoad();
 
@@ -104,39 +359,140 @@ public class JsonConfigLoader {
     }
 
     /**
-     * Reads a {@link File} as {@link T}
+     * Parses a {@link T} stored in a {@link ConfigFormat} from an existing {@link Path} without writing to it
+     * <p>
+     *     Unlike {@link JsonConfigLoader#load(Path, Class, ConfigFormat)}, no default config is created for a missing
+     *     {@link Path}, and migrations as well as added or removed fields are only applied to the returned instance
+     *     instead of being saved. This is used to reload a config that is being edited, so a half-written file is never
+     *     overwritten.
+     * </p>
+     *
+     * @param configPath  the {@link Path} storing the config
+     * @param configClass the {@link Class} of {@link T}
+     * @param format      the {@link ConfigFormat} the config is stored in
+     * @return the parsed instance of {@link T}
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @throws ConfigException in case of an exception while reading, migrating or parsing the config
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    static @NotNull <T extends JsonConfig> T parse(final @NotNull Path configPath, final @NotNull Class<T> configClass, final @NotNull ConfigFormat format) throws ConfigException {
+        final String fileName = fileName(configPath);
+        final JsonNode savedJson = readJson(fileName, readBytes(configPath, fileName), format);
+        migrate(fileName, savedJson, configClass);
+        final T config = readConfig(fileName, savedJson, configClass);
+        config.postLoad();
+        return config;
+    }
+
+    /**
+     * Reads all bytes of a config {@link Path}
+     *
+     * @param configPath the {@link Path} storing the config
+     * @param fileName   the name of the file, used for error messages
+     * @return the read bytes
+     * @throws ConfigReadException in case of an error reading the {@link Path}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static byte @NotNull [] readBytes(final @NotNull Path configPath, final @NotNull String fileName) throws ConfigReadException {
+        try {
+            return Files.readAllBytes(configPath);
+        } catch (IOException e) {
+            throw new ConfigReadException(String.format("Error reading JSON config file '%s'", fileName), e);
+        }
+    }
+
+    /**
+     * Runs the {@link ConfigMigration}s needed to upgrade a parsed {@link JsonNode} to the latest version of {@link T}
+     * in place
+     *
+     * @param fileName    the name of the file the JSON has been read from, used for log and error messages
+     * @param json        the parsed {@link JsonNode}
+     * @param configClass the {@link Class} of {@link T}
+     * @return the version the JSON has been saved with
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @throws ConfigMigrationException if a migration is missing or fails
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static <T extends JsonConfig> int migrate(final @NotNull String fileName, final @NotNull JsonNode json, final @NotNull Class<T> configClass) throws ConfigMigrationException {
+        final int latestVersion = latestVersion(configClass);
+        if (!(json instanceof ObjectNode objectNode)) {
+            return latestVersion;
+        }
+
+        final int savedVersion = objectNode.path(VERSION_FIELD).asInt(0);
+        if (savedVersion > latestVersion) {
+            LOG.warn("Config file '{}' has been saved with version {}, which is newer than the latest known version {}", fileName, savedVersion, latestVersion);
+            return savedVersion;
+        }
+
+        final NavigableMap<Integer, ConfigMigration> migrations = MIGRATIONS.getOrDefault(configClass, Collections.emptyNavigableMap());
+        for (int version = savedVersion; version < latestVersion; version++) {
+            final ConfigMigration migration = migrations.get(version);
+            if (migration == null) {
+                throw new ConfigMigrationException(fileName, configClass, version, "no migration is registered", null);
+            }
+            try {
+                migration.migrate(objectNode);
+            } catch (RuntimeException e) {
+                throw new ConfigMigrationException(fileName, configClass, version, "migration failed", e);
+            }
+        }
+
+        if (savedVersion < latestVersion) {
+            objectNode.put(VERSION_FIELD, latestVersion);
+        }
+        return savedVersion;
+    }
+
+    /**
+     * Binds a parsed {@link JsonNode} onto a fresh instance of {@link T}
      *
-     * @param configFile  the {@link File} to read
+     * @param fileName    the name of the file the JSON has been read from, used for error messages
+     * @param json        the parsed {@link JsonNode}
      * @param configClass the {@link Class} of {@link T}
-     * @return the parsed {@link T}
+     * @return the bound {@link T}
      * @param <T>         generic describing the implemented type of {@link JsonConfig}
-     * @throws ConfigReadException in case of an error reading the JSON
+     * @throws ConfigReadException in case of an error binding the JSON
      * @author Till Hoffmann / @tillhfm - 17.04.2025
      */
-    private static @NotNull <T extends JsonConfig> T readConfig(final @NotNull File configFile, final @NotNull Class<T> configClass) throws ConfigReadException {
+    private static @NotNull <T extends JsonConfig> T readConfig(final @NotNull String fileName, final @NotNull JsonNode json, final @NotNull Class<T> configClass) throws ConfigReadException {
         try {
-            return OBJECT_MAPPER.readValue(configFile, configClass);
+            return OBJECT_MAPPER.treeToValue(json, configClass);
         } catch (IOException e) {
-            throw new ConfigReadException(String.format("Error reading JSON config file '%s' to class [%s]", configFile.getName(), configClass.getName()), e);
+            throw new ConfigReadException(String.format("Error reading JSON config file '%s' to class [%s]", fileName, configClass.getName()), e);
         }
     }
 
     /**
-     * Reads a {@link File} as {@link JsonNode}
+     * Parses bytes in a {@link ConfigFormat} as {@link JsonNode}
      *
-     * @param configFile the {@link File} to read
+     * @param fileName the name of the file the bytes have been read from, used for error messages
+     * @param bytes    the bytes to parse
+     * @param format   the {@link ConfigFormat} of the bytes
      * @return the parsed {@link JsonNode}
-     * @throws ConfigReadException in case of an error reading the JSON
+     * @throws ConfigReadException in case of an error parsing the JSON
      * @author Till Hoffmann / @tillhfm - 17.04.2025
      */
-    private static @NotNull JsonNode readJson(final @NotNull File configFile) throws ConfigReadException {
+    private static @NotNull JsonNode readJson(final @NotNull String fileName, final byte @NotNull [] bytes, final @NotNull ConfigFormat format) throws ConfigReadException {
         try {
-            return OBJECT_MAPPER.readTree(configFile);
+            return format.getObjectMapper().readTree(bytes);
         } catch (IOException e) {
-            throw new ConfigReadException(String.format("Error reading JSON config file '%s' to JsonNode", configFile.getName()), e);
+            throw new ConfigReadException(String.format("Error reading JSON config file '%s' to JsonNode", fileName), e);
         }
     }
 
+    /**
+     * Returns the file name of a {@link Path} for log and error messages
+     *
+     * @param configPath the {@link Path}
+     * @return the name of the file, or the whole {@link Path} if it has no name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull String fileName(final @NotNull Path configPath) {
+        final Path fileName = configPath.getFileName();
+        return fileName == null ? configPath.toString() : fileName.toString();
+    }
+
     /**
      * Converts a {@link JsonConfig} instance to a {@link JsonConfig}
      *
@@ -179,6 +535,54 @@ public class JsonConfigLoader {
         }
     }
 
+    /**
+     * Collects the property paths that differ between two instances of a {@link JsonConfig}
+     * <p>
+     *     In addition to the added and missing properties found by
+     *     {@link JsonConfigLoader#jsonDifferences(JsonNode, JsonNode)}, properties whose value has changed are
+     *     contained. Changes within arrays are reported as a change of the whole array.
+     * </p>
+     *
+     * @param oldConfig the old {@link JsonConfig} instance
+     * @param newConfig the new {@link JsonConfig} instance to compare the old one to
+     * @return the sorted {@link Set} of changed property paths, empty if both instances serialize equally
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    static @NotNull Set<String> changedPaths(final @NotNull JsonConfig oldConfig, final @NotNull JsonConfig newConfig) {
+        final JsonNode oldJson = configToJson(oldConfig);
+        final JsonNode newJson = configToJson(newConfig);
+        final Set<String> changedPaths = new TreeSet<>(jsonDifferences(oldJson, newJson).keySet());
+        valueChangesRecursive(oldJson, newJson, "", changedPaths);
+        return changedPaths;
+    }
+
+    /**
+     * Recursively collects the paths of properties contained in an old and a new {@link JsonNode} whose values differ
+     *
+     * @param oldNode      the old {@link JsonNode}
+     * @param newNode      the new {@link JsonNode} to compare the old one to
+     * @param path         keeps track of the property path when descending in the recursive stack, should be an empty {@link String} when calling this function
+     * @param changedPaths the {@link Set} to write the changed paths to
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see JsonConfigLoader#changedPaths(JsonConfig, JsonConfig)
+     */
+    private static void valueChangesRecursive(final @NotNull JsonNode oldNode, final @NotNull JsonNode newNode, final @NotNull String path, final @NotNull Set<String> changedPaths) {
+        final Iterator<String> fieldNames = newNode.fieldNames();
+        while (fieldNames.hasNext()) {
+            final String key = fieldNames.next();
+            final JsonNode oldChild = oldNode.get(key);
+            final JsonNode newChild = newNode.get(key);
+            if (oldChild == null) {
+                continue;
+            }
+            if (oldChild.isObject() && newChild.isObject()) {
+                valueChangesRecursive(oldChild, newChild, path + key + ".", changedPaths);
+            } else if (!oldChild.equals(newChild)) {
+                changedPaths.add(path + key);
+            }
+        }
+    }
+
     /**
      * Recursively collects the differences of an old and a new {@link JsonNode} into a {@link Map} of property paths and
      * {@code true} if they have been added or {@code false} if they are missing
@@ -235,43 +639,173 @@ public class JsonConfigLoader {
     }
 
     /**
-     * Creates a default config from a {@link T} class if the provided {@link File} does not exist
+     * Creates a default config from a {@link T} class if the provided {@link Path} does not exist
      *
-     * @param configFile  the {@link File} to write the config to
+     * @param configPath  the {@link Path} to write the config to
      * @param configClass the {@link Class} of {@link T}
+     * @param format      the {@link ConfigFormat} to store the config in
      * @param <T>         generic describing the implemented type of {@link JsonConfig}
      * @throws ConfigInitializationException if the class does not have a no-args-constructor, or it cannot be accessed
-     * @throws ConfigWriteException          in case of an error converting the {@link T} to JSON or writing the {@link File}
+     * @throws ConfigWriteException          in case of an error converting the {@link T} to JSON or writing the {@link Path}
      * @author Till Hoffmann / @tillhfm - 16.04.2025
      */
-    private static <T extends JsonConfig> void createDefaultConfig(final @NotNull File configFile, final @NotNull Class<T> configClass) throws ConfigInitializationException, ConfigWriteException {
-        if (configFile.exists()) {
+    private static <T extends JsonConfig> void createDefaultConfig(final @NotNull Path configPath, final @NotNull Class<T> configClass, final @NotNull ConfigFormat format) throws ConfigInitializationException, ConfigWriteException {
+        if (Files.exists(configPath)) {
             return;
         }
 
         final T defaultInstance = createDefaultInstance(configClass);
-        writeInstanceToFile(configFile, defaultInstance);
+        writeInstanceToFile(configPath, defaultInstance, format);
     }
 
     /**
-     * Writes an instance of {@link JsonConfig} to a {@link File}
+     * Writes an instance of {@link JsonConfig} to a {@link Path} atomically
+     * <p>
+     *     The JSON is written to a temporary file next to the target, which is forced to the storage device and then
+     *     moved over the target in one step. Readers and crashes therefore only ever see the complete old or the
+     *     complete new config. If the file system does not support atomic moves, the target is replaced
+     *     non-atomically. On POSIX file systems the temporary file takes over the permissions, owner and group of an
+     *     existing target first, while a newly created config gets the default permissions of the process like any
+     *     other new file. The directory is forced to the storage device after the move so the rename itself survives
+     *     a crash.
+     * </p>
+     * <p>
+     *     Configs are always written with the latest schema version of their class, as every instance in memory
+     *     already has the current fields. Otherwise a config created with {@code new} would be saved without a
+     *     version and its migrations would run again on the next load.
+     * </p>
      *
-     * @param configFile the {@link File} to write to
-     * @param instance   the instance of the {@link JsonConfig} class to save as JSON
-     * @throws ConfigWriteException in case of an error converting the {@link JsonConfig} to JSON or writing the {@link File}
+     * @param configPath the {@link Path} to write to
+     * @param instance   the instance of the {@link JsonConfig} class to save
+     * @param format     the {@link ConfigFormat} to store the config in
+     * @throws ConfigWriteException in case of an error converting the {@link JsonConfig} to JSON or writing the {@link Path}
      * @author Till Hoffmann / @tillhfm - 16.04.2025
      */
-    private static void writeInstanceToFile(final @NotNull File configFile, final @NotNull JsonConfig instance) throws ConfigWriteException {
+    private static void writeInstanceToFile(final @NotNull Path configPath, final @NotNull JsonConfig instance, final @NotNull ConfigFormat format) throws ConfigWriteException {
         // Run the preSave implementation
         instance.preSave();
+        final int latestVersion = latestVersion(instance.getClass());
+        if (instance.getConfigVersion() < latestVersion) {
+            instance.setConfigVersion(latestVersion);
+        }
+
+        final Path targetPath = configPath.toAbsolutePath();
+        Path tempPath = null;
         try {
-            if (configFile.getParentFile().mkdirs() || configFile.createNewFile()) {
-                LOG.info("Created config file {} for class type {}", configFile.getName(), instance.getClass().getSimpleName());
+            final byte[] bytes = format.getObjectWriter().writeValueAsBytes(instance);
+            final boolean created = Files.notExists(targetPath);
+
+            Files.createDirectories(targetPath.getParent());
+            tempPath = createTempFile(targetPath);
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            if (!created) {
+                copyPosixAttributes(targetPath, tempPath);
+            }
+
+            try {
+                Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempPath = null;
+            forceDirectory(targetPath.getParent());
+
+            if (created) {
+                LOG.info("Created config file {} for class type {}", fileName(targetPath), instance.getClass().getSimpleName());
+            }
+        } catch (IOException e) {
+            throw new ConfigWriteException(configPath, instance.getClass(), e);
+        } finally {
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException e) {
+                    LOG.warn("Error deleting temporary config file '{}'", tempPath, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the temporary file a config is written to before it is moved over the target
+     * <p>
+     *     Unlike {@link Files#createTempFile(Path, String, String, java.nio.file.attribute.FileAttribute[])}, which
+     *     restricts the file to its creator, the file is created with the default permissions of the process, i.e.
+     *     those left by the umask on POSIX file systems. A newly created config is therefore as readable as before it
+     *     was written atomically.
+     * </p>
+     *
+     * @param targetPath the config file to replace
+     * @return the {@link Path} of the created empty file next to the target
+     * @throws IOException in case of an error creating the file
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull Path createTempFile(final @NotNull Path targetPath) throws IOException {
+        while (true) {
+            final String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong());
+            try {
+                return Files.createFile(targetPath.resolveSibling(fileName(targetPath) + suffix + ".tmp"));
+            } catch (FileAlreadyExistsException e) {
+                // Another writer picked the same name, try the next one
             }
+        }
+    }
 
-            OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(configFile, instance);
+    /**
+     * Copies the POSIX permissions, owner and group of a config file to the temporary file replacing it
+     * <p>
+     *     Nothing is copied on file systems without POSIX attributes. The permissions are always copied, as the
+     *     temporary file has the default permissions of the process. Changing the owner or group usually requires privileges, so
+     *     it is only attempted if they differ and a failure is logged instead of thrown.
+     * </p>
+     *
+     * @param targetPath the existing config file
+     * @param tempPath   the temporary file
+     * @throws IOException in case of an error reading the attributes or setting the permissions
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static void copyPosixAttributes(final @NotNull Path targetPath, final @NotNull Path tempPath) throws IOException {
+        final PosixFileAttributeView targetView = Files.getFileAttributeView(targetPath, PosixFileAttributeView.class);
+        final PosixFileAttributeView tempView = Files.getFileAttributeView(tempPath, PosixFileAttributeView.class);
+        if (targetView == null || tempView == null) {
+            return;
+        }
+
+        final PosixFileAttributes target = targetView.readAttributes();
+        final PosixFileAttributes temp = tempView.readAttributes();
+        tempView.setPermissions(target.permissions());
+        try {
+            if (!target.owner().equals(temp.owner())) {
+                tempView.setOwner(target.owner());
+            }
+            if (!target.group().equals(temp.group())) {
+                tempView.setGroup(target.group());
+            }
         } catch (IOException e) {
-            throw new ConfigWriteException(configFile, instance.getClass(), e);
+            LOG.warn("Could not keep the owner and group of config file '{}'", fileName(targetPath), e);
+        }
+    }
+
+    /**
+     * Forces a directory to the storage device, so a file renamed within it is durable
+     * <p>
+     *     Platforms that cannot open directories as channels, like Windows, are skipped.
+     * </p>
+     *
+     * @param directory the directory to force
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static void forceDirectory(final @NotNull Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.debug("Could not force directory '{}' to the storage device", directory, e);
         }
     }
 
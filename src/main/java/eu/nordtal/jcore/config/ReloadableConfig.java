@@ -0,0 +1,319 @@
+package eu.nordtal.jcore.config;
+
+import eu.nordtal.jcore.config.exception.ConfigException;
+import eu.nordtal.jcore.config.exception.ConfigReadException;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handle to a {@link JsonConfig} that is reloaded whenever its file changes
+ * <p>
+ *     The directory of the config file is watched with a {@link WatchService}. Change events are debounced, so editors
+ *     writing a file in several steps cause a single reload, which runs on a separate thread. Reloading only parses the
+ *     file, so unlike {@link JsonConfigLoader#load(Path, Class)} it never writes defaults or migrations back and never
+ *     recreates a deleted file. The reloaded instance is published atomically, so {@link ReloadableConfig#get()} is a
+ *     single volatile read and always returns a completely loaded instance. If the edited file cannot be parsed, the
+ *     error is logged and the previous instance is kept.
+ * </p>
+ * <p>
+ *     <b>Warning:</b> Published instances are shared between all readers and must not be modified. Readers should
+ *     call {@link ReloadableConfig#get()} for every use instead of keeping a reference to an instance.
+ * </p>
+ *
+ * @param <T> generic describing the implemented type of {@link JsonConfig}
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see JsonConfigLoader
+ */
+public final class ReloadableConfig<T extends JsonConfig> implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReloadableConfig.class);
+
+    /**
+     * The default time to wait for further change events before reloading
+     */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+    @NotNull
+    private final Path configPath;
+
+    /**
+     * The name of the config file for log messages and thread names
+     */
+    @NotNull
+    private final String fileName;
+
+    @NotNull
+    private final Class<T> configClass;
+
+    /**
+     * The {@link ConfigFormat} detected by the extension of the config file
+     */
+    @NotNull
+    private final ConfigFormat format;
+
+    @NotNull
+    private final Duration debounce;
+
+    @NotNull
+    private final WatchService watchService;
+
+    /**
+     * Runs the debounced reloads
+     */
+    @NotNull
+    private final ScheduledExecutorService reloader;
+
+    /**
+     * The thread waiting for change events
+     */
+    @NotNull
+    private final Thread watcher;
+
+    private final List<Listener<? super T>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The currently published instance
+     */
+    @NotNull
+    private volatile T current;
+
+    /**
+     * The reload scheduled by the latest change event, only accessed by the watcher thread
+     */
+    private ScheduledFuture<?> scheduledReload;
+
+    private ReloadableConfig(final @NotNull Path configPath, final @NotNull Class<T> configClass, final @NotNull Duration debounce, final @NotNull T initial) throws ConfigReadException {
+        this.configPath = configPath.toAbsolutePath();
+        this.fileName = this.configPath.getFileName().toString();
+        this.configClass = configClass;
+        this.format = ConfigFormat.of(this.configPath);
+        this.debounce = debounce;
+        this.current = initial;
+
+        final Path directory = this.configPath.getParent();
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new ConfigReadException(String.format("Error watching directory '%s' of config file '%s'", directory, fileName), e);
+        }
+
+        this.reloader = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("config-reloader-" + fileName).factory());
+        this.watcher = Thread.ofPlatform().daemon().name("config-watcher-" + fileName).start(this::watch);
+    }
+
+    /**
+     * Loads a {@link T} from a {@link File} and starts watching the {@link File} for changes, using
+     * {@link ReloadableConfig#DEFAULT_DEBOUNCE}
+     *
+     * @param configFile  the {@link File} to load the config from
+     * @param configClass the {@link Class} of {@link T}
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @return the {@link ReloadableConfig} holding the loaded instance
+     * @throws ConfigException in case of an exception while loading the initial instance or watching the {@link File}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <T extends JsonConfig> @NotNull ReloadableConfig<T> watch(final @NotNull File configFile, final @NotNull Class<T> configClass) throws ConfigException {
+        return watch(configFile, configClass, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Loads a {@link T} from a {@link File} and starts watching the {@link File} for changes
+     *
+     * @param configFile  the {@link File} to load the config from
+     * @param configClass the {@link Class} of {@link T}
+     * @param debounce    the time to wait for further change events before reloading
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @return the {@link ReloadableConfig} holding the loaded instance
+     * @throws ConfigException in case of an exception while loading the initial instance or watching the {@link File}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <T extends JsonConfig> @NotNull ReloadableConfig<T> watch(final @NotNull File configFile, final @NotNull Class<T> configClass, final @NotNull Duration debounce) throws ConfigException {
+        return watch(configFile.toPath(), configClass, debounce);
+    }
+
+    /**
+     * Loads a {@link T} from a {@link Path} and starts watching the {@link Path} for changes, using
+     * {@link ReloadableConfig#DEFAULT_DEBOUNCE}
+     *
+     * @param configPath  the {@link Path} to load the config from
+     * @param configClass the {@link Class} of {@link T}
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @return the {@link ReloadableConfig} holding the loaded instance
+     * @throws ConfigException in case of an exception while loading the initial instance or watching the {@link Path}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <T extends JsonConfig> @NotNull ReloadableConfig<T> watch(final @NotNull Path configPath, final @NotNull Class<T> configClass) throws ConfigException {
+        return watch(configPath, configClass, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Loads a {@link T} from a {@link Path} and starts watching the {@link Path} for changes
+     *
+     * @param configPath  the {@link Path} to load the config from
+     * @param configClass the {@link Class} of {@link T}
+     * @param debounce    the time to wait for further change events before reloading
+     * @param <T>         generic describing the implemented type of {@link JsonConfig}
+     * @return the {@link ReloadableConfig} holding the loaded instance
+     * @throws ConfigException in case of an exception while loading the initial instance or watching the {@link Path}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <T extends JsonConfig> @NotNull ReloadableConfig<T> watch(final @NotNull Path configPath, final @NotNull Class<T> configClass, final @NotNull Duration debounce) throws ConfigException {
+        final T initial = JsonConfigLoader.load(configPath, configClass);
+        return new ReloadableConfig<>(configPath, configClass, debounce, initial);
+    }
+
+    /**
+     * Returns the currently published instance
+     *
+     * @return the current {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull T get() {
+        return current;
+    }
+
+    /**
+     * Adds a {@link Listener} that is called on the reloading thread whenever a changed instance has been published
+     *
+     * @param listener the {@link Listener} to add
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public void addListener(final @NotNull Listener<? super T> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously added {@link Listener}
+     *
+     * @param listener the {@link Listener} to remove
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public void removeListener(final @NotNull Listener<? super T> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Reloads the config from its {@link Path} on the calling thread and publishes it if it has changed
+     * <p>
+     *     The {@link Path} is only read, see {@link JsonConfigLoader#parse(Path, Class, ConfigFormat)}.
+     * </p>
+     *
+     * @return {@code true} if a changed instance has been published
+     * @throws ConfigException in case of an exception while parsing the {@link Path}, the previous instance is kept
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public synchronized boolean reload() throws ConfigException {
+        final T reloaded = JsonConfigLoader.parse(configPath, configClass, format);
+        final T previous = current;
+        final Set<String> changedPaths = JsonConfigLoader.changedPaths(previous, reloaded);
+        if (changedPaths.isEmpty()) {
+            return false;
+        }
+
+        current = reloaded;
+        LOG.info("Config file '{}' has been reloaded, changed: {}", fileName, changedPaths);
+        for (Listener<? super T> listener : listeners) {
+            try {
+                listener.onChange(previous, reloaded, changedPaths);
+            } catch (RuntimeException e) {
+                LOG.error("Error in change listener of config file '{}'", fileName, e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops watching the {@link Path}
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOG.warn("Error closing watch service of config file '{}'", fileName, e);
+        }
+        watcher.interrupt();
+        reloader.shutdownNow();
+    }
+
+    /**
+     * Waits for change events of the config {@link Path} and schedules a reload for each, replacing the reload
+     * scheduled by the previous event
+     */
+    private void watch() {
+        final Path watchedName = configPath.getFileName();
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || watchedName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+
+                if (changed) {
+                    if (scheduledReload != null) {
+                        scheduledReload.cancel(false);
+                    }
+                    scheduledReload = reloader.schedule(this::reloadQuietly, debounce.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Reloads the config and logs instead of throwing errors
+     */
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (ConfigException | RuntimeException e) {
+            LOG.error("Error reloading config file '{}', keeping the previous config", fileName, e);
+        }
+    }
+
+    /**
+     * Listener called after a changed instance of a {@link ReloadableConfig} has been published
+     *
+     * @param <T> generic describing the implemented type of {@link JsonConfig}
+     */
+    @FunctionalInterface
+    public interface Listener<T extends JsonConfig> {
+
+        /**
+         * Called after a changed instance has been published
+         *
+         * @param oldConfig    the previously published instance
+         * @param newConfig    the newly published instance
+         * @param changedPaths the property paths that have been added, removed or changed, e.g. {@code database.port}
+         * @author Till Hoffmann / @tillhfm - 17.10.2026
+         */
+        void onChange(@NotNull T oldConfig, @NotNull T newConfig, @NotNull Set<String> changedPaths);
+    }
+}
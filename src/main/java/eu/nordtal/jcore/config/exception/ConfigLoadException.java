@@ -0,0 +1,48 @@
+package eu.nordtal.jcore.config.exception;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exception that is thrown if one or more configs of a directory could not be loaded
+ * <p>
+ *     Every single failure is available by file name through {@link ConfigLoadException#getFailures()} and is also
+ *     attached as suppressed {@link Exception}.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class ConfigLoadException extends ConfigException {
+
+    @NotNull
+    private final Map<String, ConfigException> failures;
+
+    /**
+     * Creates a new {@link ConfigLoadException}
+     *
+     * @param directory  the directory the configs have been loaded from
+     * @param totalCount the number of configs that should have been loaded
+     * @param failures   the failures by file name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public ConfigLoadException(final @NotNull Path directory, final int totalCount, final @NotNull Map<String, ConfigException> failures) {
+        super(
+                String.format("Error loading %d of %d config files in directory '%s': %s", failures.size(), totalCount, directory, failures.keySet()),
+                null
+        );
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        this.failures.values().forEach(this::addSuppressed);
+    }
+
+    /**
+     * @return the failures by file name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Map<String, ConfigException> getFailures() {
+        return failures;
+    }
+}
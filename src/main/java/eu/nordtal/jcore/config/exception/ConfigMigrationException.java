@@ -0,0 +1,14 @@
+package eu.nordtal.jcore.config.exception;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import eu.nordtal.jcore.config.JsonConfig;
+
+public class ConfigMigrationException extends ConfigException {
+    public ConfigMigrationException(final @NotNull String fileName, final @NotNull Class<? extends JsonConfig> configClass, final int fromVersion, final @NotNull String reason, final @Nullable Throwable cause) {
+        super(
+                String.format("Error migrating config file '%s' of config class [%s] from version %d: %s", fileName, configClass.getName(), fromVersion, reason),
+                cause
+        );
+    }
+}
@@ -5,6 +5,7 @@ import org.jetbrains.annotations.Nullable;
 import eu.nordtal.jcore.config.JsonConfig;
 
 import java.io.File;
+import java.nio.file.Path;
 
 public class ConfigWriteException extends ConfigException {
     public ConfigWriteException(final @NotNull File configFile, final @NotNull Class<? extends JsonConfig> configClass, final @Nullable Throwable cause) {
@@ -13,4 +14,11 @@ public class ConfigWriteException extends ConfigException {
                 cause
         );
     }
+
+    public ConfigWriteException(final @NotNull Path configPath, final @NotNull Class<? extends JsonConfig> configClass, final @Nullable Throwable cause) {
+        super(
+                String.format("Error writing instance of config class [%s] to file '%s'", configClass.getName(), configPath.getFileName()),
+                cause
+        );
+    }
 }
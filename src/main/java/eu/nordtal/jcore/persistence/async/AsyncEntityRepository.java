@@ -0,0 +1,477 @@
+package eu.nordtal.jcore.persistence.async;
+
+import eu.nordtal.jcore.persistence.common.Aggregate;
+import eu.nordtal.jcore.persistence.common.EntityRepository;
+import eu.nordtal.jcore.persistence.common.Page;
+import eu.nordtal.jcore.persistence.common.Slice;
+import eu.nordtal.jcore.persistence.mariadb.MariaDbRepository;
+import eu.nordtal.jcore.persistence.mongodb.MongoDbRepository;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * This class wraps an {@link EntityRepository} to run its blocking operations on virtual threads
+ * <p>
+ *     Every operation returns a {@link CompletableFuture} and runs on its own virtual thread, so callers do not block
+ *     while waiting for the database. The number of operations running against the database at the same time is
+ *     limited by a {@link Semaphore}, so that any number of concurrent callers queue up cheaply instead of exhausting
+ *     the connection pool. The wrappers created by {@link AsyncEntityRepository#of(MariaDbRepository)} and
+ *     {@link AsyncEntityRepository#of(MongoDbRepository)} share one {@link Semaphore} per connection pool, so the limit
+ *     holds across all repositories using it. Streaming operations are not offered, as they keep database resources
+ *     open while being consumed.
+ * </p>
+ *
+ * @param <T> the class type of the entity the repository is handling
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class AsyncEntityRepository<T> implements AutoCloseable {
+
+    /**
+     * The underlying repository
+     */
+    @NotNull
+    private final EntityRepository<T> delegate;
+
+    /**
+     * Limits the number of operations running against the database, possibly shared with other wrappers
+     */
+    @NotNull
+    private final Semaphore permits;
+
+    /**
+     * Runs every operation on a new virtual thread
+     */
+    @NotNull
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Creates a new {@link AsyncEntityRepository} with its own limit of operations in flight
+     *
+     * @param delegate    the {@link EntityRepository} to run the operations on
+     * @param maxInFlight the maximum number of operations running against the underlying repository at the same time
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public AsyncEntityRepository(final @NotNull EntityRepository<T> delegate, final int maxInFlight) {
+        this(delegate, permits(maxInFlight));
+    }
+
+    /**
+     * Creates a new {@link AsyncEntityRepository} limiting the operations in flight by the given permits
+     * <p>
+     *     Wrappers of repositories using the same connection pool should share the same {@link Semaphore}, sized to the
+     *     maximum size of the pool.
+     * </p>
+     *
+     * @param delegate the {@link EntityRepository} to run the operations on
+     * @param permits  the {@link Semaphore} every operation holds a permit of while running
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public AsyncEntityRepository(final @NotNull EntityRepository<T> delegate, final @NotNull Semaphore permits) {
+        this.delegate = delegate;
+        this.permits = permits;
+    }
+
+    /**
+     * Creates a new {@link AsyncEntityRepository} for a {@link MariaDbRepository}, sharing the limit of operations in
+     * flight with all other wrappers of the same database connection
+     *
+     * @param repository the {@link MariaDbRepository} to run the operations on
+     * @param <T>        the class type of the entity the repository is handling
+     * @return the created {@link AsyncEntityRepository}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see MariaDbRepository#getOperationPermits()
+     */
+    public static <T> @NotNull AsyncEntityRepository<T> of(final @NotNull MariaDbRepository<T> repository) {
+        return new AsyncEntityRepository<>(repository, repository.getOperationPermits());
+    }
+
+    /**
+     * Creates a new {@link AsyncEntityRepository} for a {@link MongoDbRepository}, sharing the limit of operations in
+     * flight with all other wrappers of the same client
+     *
+     * @param repository the {@link MongoDbRepository} to run the operations on
+     * @param <T>        the class type of the entity the repository is handling
+     * @return the created {@link AsyncEntityRepository}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see MongoDbRepository#getOperationPermits()
+     */
+    public static <T> @NotNull AsyncEntityRepository<T> of(final @NotNull MongoDbRepository<T> repository) {
+        return new AsyncEntityRepository<>(repository, repository.getOperationPermits());
+    }
+
+    /**
+     * Creates or updates an entity to the database
+     *
+     * @param entity the entity of type {@link T} to be saved to the database
+     * @return a {@link CompletableFuture} completed with the saved entity of type {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#save(Object)
+     */
+    public @NotNull CompletableFuture<T> save(final @NotNull T entity) {
+        return submit(() -> delegate.save(entity));
+    }
+
+    /**
+     * Creates or updates multiple entities to the database in one operation
+     *
+     * @param entities the entities of type {@link T} to be saved to the database
+     * @return a {@link CompletableFuture} completed with the saved entities in the order of the given {@link Collection}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#saveAll(Collection)
+     */
+    public @NotNull CompletableFuture<List<T>> saveAll(final @NotNull Collection<T> entities) {
+        return submit(() -> delegate.saveAll(entities));
+    }
+
+    /**
+     * Finds the first entity of type {@link T} from the database by entry field name and value
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return a {@link CompletableFuture} completed with the first entity of type {@link T} or {@code null} if none was found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findFirst(String, Object)
+     */
+    public @NotNull CompletableFuture<T> findFirst(final @NotNull String field, final @Nullable Object value) {
+        return submit(() -> delegate.findFirst(field, value));
+    }
+
+    /**
+     * Finds the first entity of type {@link T} from the database by entry id field and value
+     *
+     * @param value the value of the id field to filter for
+     * @return a {@link CompletableFuture} completed with the entity of type {@link T} or {@code null} if none was found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findFirstById(Object)
+     */
+    public @NotNull CompletableFuture<T> findFirstById(final @Nullable Object value) {
+        return submit(() -> delegate.findFirstById(value));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by their ids
+     *
+     * @param ids the ids to look up, of the same type as the id field
+     * @return a {@link CompletableFuture} completed with the found entities in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findAllByIds(Collection)
+     */
+    public @NotNull CompletableFuture<List<T>> findAllByIds(final @NotNull Collection<?> ids) {
+        return submit(() -> delegate.findAllByIds(ids));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by their ids and maps them by id
+     *
+     * @param ids the ids to look up, of the same type as the id field
+     * @param <K> the type of the ids
+     * @return a {@link CompletableFuture} completed with a {@link Map} of the found ids and entities in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findAllByIdsAsMap(Collection)
+     */
+    public <K> @NotNull CompletableFuture<Map<K, T>> findAllByIdsAsMap(final @NotNull Collection<K> ids) {
+        return submit(() -> delegate.findAllByIdsAsMap(ids));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by entry field name and value
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return a {@link CompletableFuture} completed with all matching entities contained in a {@link List}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findAll(String, Object)
+     */
+    public @NotNull CompletableFuture<List<T>> findAll(final @NotNull String field, final @Nullable Object value) {
+        return submit(() -> delegate.findAll(field, value));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database whose field has one of the given values
+     *
+     * @param field  the name of the field to filter for
+     * @param values the values of the field to filter for, of the same type as the field
+     * @return a {@link CompletableFuture} completed with all matching entities contained in a {@link List}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findAllIn(String, Collection)
+     */
+    public @NotNull CompletableFuture<List<T>> findAllIn(final @NotNull String field, final @NotNull Collection<?> values) {
+        return submit(() -> delegate.findAllIn(field, values));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database matching all given field values
+     *
+     * @param criteria the names and values of the fields to filter for
+     * @return a {@link CompletableFuture} completed with all matching entities contained in a {@link List}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findAll(Map)
+     */
+    public @NotNull CompletableFuture<List<T>> findAll(final @NotNull Map<String, Object> criteria) {
+        return submit(() -> delegate.findAll(criteria));
+    }
+
+    /**
+     * Reads only the fields of a {@link Record} projection of all entities matching a field value
+     *
+     * @param field      the name of the field to filter for
+     * @param value      the value of the field to filter for
+     * @param projection the {@link Record} class to map the read fields into
+     * @param <P>        the type of the projection
+     * @return a {@link CompletableFuture} completed with the projections of all matching entities contained in a {@link List}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findAll(String, Object, Class)
+     */
+    public <P extends Record> @NotNull CompletableFuture<List<P>> findAll(final @NotNull String field, final @Nullable Object value, final @NotNull Class<P> projection) {
+        return submit(() -> delegate.findAll(field, value, projection));
+    }
+
+    /**
+     * Reads only the given fields of all entities matching a field value
+     *
+     * @param field  the name of the field to filter for
+     * @param value  the value of the field to filter for
+     * @param fields the names of the entity fields to read
+     * @return a {@link CompletableFuture} completed with a {@link Map} of field names and values for every matching entity, contained in a {@link List}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#findFields(String, Object, List)
+     */
+    public @NotNull CompletableFuture<List<Map<String, Object>>> findFields(final @NotNull String field, final @Nullable Object value, final @NotNull List<String> fields) {
+        return submit(() -> delegate.findFields(field, value, fields));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database
+     *
+     * @return a {@link CompletableFuture} completed with all entities contained in a {@link List}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#all()
+     */
+    public @NotNull CompletableFuture<List<T>> all() {
+        return submit(delegate::all);
+    }
+
+    /**
+     * Counts the entities of type {@link T} in the database by entry field name and value
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return a {@link CompletableFuture} completed with the number of matching entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#count(String, Object)
+     */
+    public @NotNull CompletableFuture<Long> count(final @NotNull String field, final @Nullable Object value) {
+        return submit(() -> delegate.count(field, value));
+    }
+
+    /**
+     * Checks whether an entity of type {@link T} with the given field value exists in the database
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return a {@link CompletableFuture} completed with {@code true} if at least one entity matches
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#exists(String, Object)
+     */
+    public @NotNull CompletableFuture<Boolean> exists(final @NotNull String field, final @Nullable Object value) {
+        return submit(() -> delegate.exists(field, value));
+    }
+
+    /**
+     * Computes an aggregate function over a numeric field of all entities in the database
+     *
+     * @param aggregate the {@link Aggregate} function to compute
+     * @param field     the name of the numeric field to aggregate
+     * @return a {@link CompletableFuture} completed with the computed value, or {@code null} if there are no entities with a value in the field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#aggregate(Aggregate, String)
+     */
+    public @NotNull CompletableFuture<Number> aggregate(final @NotNull Aggregate aggregate, final @NotNull String field) {
+        return submit(() -> delegate.aggregate(aggregate, field));
+    }
+
+    /**
+     * Computes an aggregate function over a numeric field for every group of entities sharing a field value
+     *
+     * @param aggregate    the {@link Aggregate} function to compute
+     * @param field        the name of the numeric field to aggregate
+     * @param groupByField the name of the field whose values the entities are grouped by
+     * @param <K>          the type of the group by field
+     * @return a {@link CompletableFuture} completed with a {@link Map} of every value of the group by field and the value computed for its entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#aggregate(Aggregate, String, String)
+     */
+    public <K> @NotNull CompletableFuture<Map<K, Number>> aggregate(final @NotNull Aggregate aggregate, final @NotNull String field, final @NotNull String groupByField) {
+        return submit(() -> delegate.aggregate(aggregate, field, groupByField));
+    }
+
+    /**
+     * Reads one page of entities ordered by a field
+     *
+     * @param orderField the name of the field to order by
+     * @param pageNumber the zero-based number of the page
+     * @param pageSize   the maximum number of entities per page
+     * @return a {@link CompletableFuture} completed with the requested {@link Page}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#page(String, int, int)
+     */
+    public @NotNull CompletableFuture<Page<T>> page(final @NotNull String orderField, final int pageNumber, final int pageSize) {
+        return submit(() -> delegate.page(orderField, pageNumber, pageSize));
+    }
+
+    /**
+     * Reads the entities following a key of a unique field, ordered by that field
+     *
+     * @param orderField the name of the unique field to order by
+     * @param afterKey   the {@link Slice#lastKey()} of the previous slice, or {@code null} for the first slice
+     * @param size       the maximum number of entities in the slice
+     * @return a {@link CompletableFuture} completed with the requested {@link Slice}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#slice(String, Comparable, int)
+     */
+    public @NotNull CompletableFuture<Slice<T>> slice(final @NotNull String orderField, final @Nullable Comparable<?> afterKey, final int size) {
+        return submit(() -> delegate.slice(orderField, afterKey, size));
+    }
+
+    /**
+     * Updates fields of the entity with the given id in the database without loading it
+     *
+     * @param id      the id of the entity to update
+     * @param changes the names of the fields to update and their new values
+     * @return a {@link CompletableFuture} completed with {@code true} if an entity with the id has been updated
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#update(Object, Map)
+     */
+    public @NotNull CompletableFuture<Boolean> update(final @NotNull Object id, final @NotNull Map<String, Object> changes) {
+        return submit(() -> delegate.update(id, changes));
+    }
+
+    /**
+     * Updates fields of the entity with the given id in the database if it still has the expected version
+     *
+     * @param id              the id of the entity to update
+     * @param changes         the names of the fields to update and their new values
+     * @param expectedVersion the version the entity has to have
+     * @return a {@link CompletableFuture} completed with {@code true} if the entity has been updated, {@code false} if no entity with the id and version exists
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#update(Object, Map, Object)
+     */
+    public @NotNull CompletableFuture<Boolean> update(final @NotNull Object id, final @NotNull Map<String, Object> changes, final @NotNull Object expectedVersion) {
+        return submit(() -> delegate.update(id, changes, expectedVersion));
+    }
+
+    /**
+     * Adds a delta to a numeric field of the entity with the given id in the database
+     *
+     * @param id    the id of the entity to update
+     * @param field the name of the numeric field to increment
+     * @param delta the value to add, negative to decrement
+     * @return a {@link CompletableFuture} completed with {@code true} if an entity with the id has been updated
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#increment(Object, String, Number)
+     */
+    public @NotNull CompletableFuture<Boolean> increment(final @NotNull Object id, final @NotNull String field, final @NotNull Number delta) {
+        return submit(() -> delegate.increment(id, field, delta));
+    }
+
+    /**
+     * Deletes an entity from the database
+     *
+     * @param entity the entity of type {@link T} to be deleted
+     * @return a {@link CompletableFuture} completed once the entity has been deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#delete(Object)
+     */
+    public @NotNull CompletableFuture<Void> delete(final @NotNull T entity) {
+        return submit(() -> {
+            delegate.delete(entity);
+            return null;
+        });
+    }
+
+    /**
+     * Deletes multiple entities from the database in one operation
+     *
+     * @param entities the entities of type {@link T} to be deleted
+     * @return a {@link CompletableFuture} completed once the entities have been deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#deleteAll(Collection)
+     */
+    public @NotNull CompletableFuture<Void> deleteAll(final @NotNull Collection<T> entities) {
+        return submit(() -> {
+            delegate.deleteAll(entities);
+            return null;
+        });
+    }
+
+    /**
+     * Deletes all entities matching a field value from the database without loading them
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return a {@link CompletableFuture} completed with the number of deleted entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see EntityRepository#deleteWhere(String, Object)
+     */
+    public @NotNull CompletableFuture<Long> deleteWhere(final @NotNull String field, final @Nullable Object value) {
+        return submit(() -> delegate.deleteWhere(field, value));
+    }
+
+    /**
+     * Stops accepting new operations and waits for all submitted operations to finish
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    /**
+     * Creates the permits of a wrapper with its own limit of operations in flight
+     *
+     * @param maxInFlight the maximum number of operations running at the same time
+     * @return a fair {@link Semaphore} with the given number of permits
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull Semaphore permits(final int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException(String.format("Invalid maximum number of operations in flight [%d]", maxInFlight));
+        }
+        return new Semaphore(maxInFlight, true);
+    }
+
+    /**
+     * Runs an operation on a virtual thread once a permit is available
+     *
+     * @param operation the blocking operation to run
+     * @param <R>       the result type of the operation
+     * @return a {@link CompletableFuture} completed with the result of the operation
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private <R> @NotNull CompletableFuture<R> submit(final @NotNull Supplier<R> operation) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return operation.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+}
@@ -0,0 +1,45 @@
+package eu.nordtal.jcore.persistence.cache;
+
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * This record holds the settings of a {@link CachingEntityRepository}
+ * <p>
+ *     Instances are derived from {@link CacheSettings#DEFAULT} using the generated {@code with...} methods, e.g.
+ *     {@code CacheSettings.DEFAULT.withMaximumSize(50_000)}.
+ * </p>
+ *
+ * @param maximumSize        the maximum number of cached ids, including cached misses
+ * @param timeToLive         the time a found entity stays cached after it has been loaded
+ * @param negativeTimeToLive the time a miss stays cached after it has been loaded, {@link Duration#ZERO} disables caching of misses
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@With
+public record CacheSettings(long maximumSize, @NotNull Duration timeToLive, @NotNull Duration negativeTimeToLive) {
+
+    /**
+     * The default settings used if none are specified
+     */
+    public static final CacheSettings DEFAULT = new CacheSettings(
+            10_000,
+            Duration.ofMinutes(5),
+            Duration.ofSeconds(30)
+    );
+
+    /**
+     * Validates the settings
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public CacheSettings {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid maximum cache size [%d]", maximumSize));
+        }
+        if (timeToLive.isNegative() || negativeTimeToLive.isNegative()) {
+            throw new IllegalArgumentException("Cache time to live must not be negative");
+        }
+    }
+}
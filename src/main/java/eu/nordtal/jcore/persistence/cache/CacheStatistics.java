@@ -0,0 +1,24 @@
+package eu.nordtal.jcore.persistence.cache;
+
+/**
+ * This record holds a snapshot of the counters of a {@link CachingEntityRepository}
+ *
+ * @param hits      the number of id lookups answered from the cache
+ * @param misses    the number of id lookups that had to be loaded from the underlying repository
+ * @param evictions the number of cache entries removed because the cache was full or they expired
+ * @param size      the current number of cache entries
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public record CacheStatistics(long hits, long misses, long evictions, long size) {
+
+    /**
+     * Calculates the ratio of lookups answered from the cache
+     *
+     * @return the hit ratio between {@code 0} and {@code 1}, or {@code 0} if there were no lookups
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public double hitRatio() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
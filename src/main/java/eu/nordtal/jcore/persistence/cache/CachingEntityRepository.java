@@ -0,0 +1,667 @@
+package eu.nordtal.jcore.persistence.cache;
+
+import eu.nordtal.jcore.persistence.common.Aggregate;
+import eu.nordtal.jcore.persistence.common.EntityRepository;
+import eu.nordtal.jcore.persistence.common.Page;
+import eu.nordtal.jcore.persistence.common.Slice;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * This class wraps an {@link EntityRepository} with a read-through cache for lookups by id
+ * <p>
+ *     Results of {@link EntityRepository#findFirstById(Object)} and {@link EntityRepository#findAllByIds(Collection)}
+ *     are cached for {@link CacheSettings#timeToLive()},
+ *     misses for {@link CacheSettings#negativeTimeToLive()}. Concurrent lookups of the same uncached id share a single
+ *     load from the underlying repository. Writes through this repository invalidate the affected ids, all other
+ *     operations are passed through uncached. Once the cache holds more than {@link CacheSettings#maximumSize()}
+ *     entries, expired entries and then the least recently used entries are evicted until it is below 90% of its
+ *     maximum size.
+ * </p>
+ * <p>
+ *     <b>Warning:</b> Cached entities are shared between all callers and must not be modified. Writes that do not
+ *     go through this repository are only visible once the cached entry expires.
+ * </p>
+ *
+ * @param <T> the class type of the entity the repository is handling
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class CachingEntityRepository<T> implements EntityRepository<T> {
+
+    /**
+     * The underlying repository
+     */
+    @NotNull
+    private final EntityRepository<T> delegate;
+
+    /**
+     * Extracts the id of an entity, as used for {@link EntityRepository#findFirstById(Object)}
+     */
+    @NotNull
+    private final Function<? super T, ?> idExtractor;
+
+    /**
+     * The settings of this cache
+     */
+    @NotNull
+    private final CacheSettings settings;
+
+    /**
+     * The cached entries by id
+     */
+    private final Map<Object, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The loads currently in progress by id
+     */
+    private final Map<Object, CompletableFuture<T>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Ensures only one thread evicts at a time
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new {@link CachingEntityRepository}
+     *
+     * @param delegate    the {@link EntityRepository} to cache lookups of
+     * @param idExtractor extracts the id of an entity, as used for {@link EntityRepository#findFirstById(Object)}
+     * @param settings    the {@link CacheSettings} of this cache
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public CachingEntityRepository(final @NotNull EntityRepository<T> delegate, final @NotNull Function<? super T, ?> idExtractor, final @NotNull CacheSettings settings) {
+        this.delegate = delegate;
+        this.idExtractor = idExtractor;
+        this.settings = settings;
+    }
+
+    /**
+     * Creates a new {@link CachingEntityRepository} using {@link CacheSettings#DEFAULT}
+     *
+     * @param delegate    the {@link EntityRepository} to cache lookups of
+     * @param idExtractor extracts the id of an entity, as used for {@link EntityRepository#findFirstById(Object)}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public CachingEntityRepository(final @NotNull EntityRepository<T> delegate, final @NotNull Function<? super T, ?> idExtractor) {
+        this(delegate, idExtractor, CacheSettings.DEFAULT);
+    }
+
+    /**
+     * Saves an entity through the underlying repository and invalidates its id
+     *
+     * @param entity the entity of type {@link T} to be saved to the database
+     * @return the saved entity of type {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull T save(final @NotNull T entity) {
+        final T saved = delegate.save(entity);
+        invalidateEntity(saved);
+        return saved;
+    }
+
+    /**
+     * Saves multiple entities through the underlying repository and invalidates their ids
+     *
+     * @param entities the entities of type {@link T} to be saved to the database
+     * @return the saved entities of type {@link T} in the order of the given {@link Collection}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> saveAll(final @NotNull Collection<T> entities) {
+        final List<T> saved = delegate.saveAll(entities);
+        saved.forEach(this::invalidateEntity);
+        return saved;
+    }
+
+    @Override
+    public @Nullable T findFirst(final @NotNull String field, final @Nullable Object value) {
+        return delegate.findFirst(field, value);
+    }
+
+    /**
+     * Finds an entity by id, answering from the cache if possible
+     *
+     * @param value the value of the id to look up
+     * @return the entity of type {@link T} or {@code null} if none was found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @Nullable T findFirstById(final @Nullable Object value) {
+        if (value == null) {
+            return delegate.findFirstById(null);
+        }
+
+        final Entry<T> entry = entries.get(value);
+        if (entry != null) {
+            final long now = System.nanoTime();
+            if (!entry.isExpired(now)) {
+                hits.increment();
+                entry.touch(now);
+                return entry.value();
+            }
+            if (entries.remove(value, entry)) {
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        return load(value);
+    }
+
+    /**
+     * Finds entities by id, answering from the cache where possible and loading all other ids in one call to the
+     * underlying repository
+     *
+     * @param ids the ids to look up
+     * @return the found entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> findAllByIds(final @NotNull Collection<?> ids) {
+        return List.copyOf(findAllByIdsAsMap(ids).values());
+    }
+
+    /**
+     * Finds entities by id and maps them by id, answering from the cache where possible and loading all other ids in
+     * one call to the underlying repository
+     * <p>
+     *     Ids currently loaded by another lookup are not loaded again, but awaited.
+     * </p>
+     *
+     * @param ids the ids to look up
+     * @param <K> the type of the ids
+     * @return a {@link Map} of the found ids and entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public <K> @NotNull Map<K, T> findAllByIdsAsMap(final @NotNull Collection<K> ids) {
+        final Map<K, T> found = new HashMap<>();
+        final Map<K, CompletableFuture<T>> owned = new LinkedHashMap<>();
+        final Map<K, CompletableFuture<T>> awaited = new HashMap<>();
+        final Set<K> seen = new HashSet<>();
+        final long now = System.nanoTime();
+
+        for (K id : ids) {
+            if (id == null || !seen.add(id)) {
+                continue;
+            }
+            final Entry<T> entry = entries.get(id);
+            if (entry != null) {
+                if (!entry.isExpired(now)) {
+                    hits.increment();
+                    entry.touch(now);
+                    if (entry.value() != null) {
+                        found.put(id, entry.value());
+                    }
+                    continue;
+                }
+                if (entries.remove(id, entry)) {
+                    evictions.increment();
+                }
+            }
+
+            misses.increment();
+            final CompletableFuture<T> future = new CompletableFuture<>();
+            final CompletableFuture<T> inProgress = loading.putIfAbsent(id, future);
+            if (inProgress != null) {
+                awaited.put(id, inProgress);
+            } else {
+                owned.put(id, future);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            final Map<K, T> loaded;
+            try {
+                loaded = delegate.findAllByIdsAsMap(owned.keySet());
+            } catch (RuntimeException e) {
+                owned.forEach((id, future) -> {
+                    loading.remove(id, future);
+                    future.completeExceptionally(e);
+                });
+                throw e;
+            }
+            owned.forEach((id, future) -> {
+                final T value = loaded.get(id);
+                putIfCurrent(id, future, value);
+                future.complete(value);
+                if (value != null) {
+                    found.put(id, value);
+                }
+            });
+        }
+        awaited.forEach((id, future) -> {
+            final T value = await(future);
+            if (value != null) {
+                found.put(id, value);
+            }
+        });
+
+        final Map<K, T> result = new LinkedHashMap<>();
+        for (K id : ids) {
+            final T value = id == null ? null : found.get(id);
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull List<T> findAll(final @NotNull String field, final @Nullable Object value) {
+        return delegate.findAll(field, value);
+    }
+
+    @Override
+    public @NotNull List<T> findAllIn(final @NotNull String field, final @NotNull Collection<?> values) {
+        return delegate.findAllIn(field, values);
+    }
+
+    @Override
+    public @NotNull List<T> findAll(final @NotNull Map<String, Object> criteria) {
+        return delegate.findAll(criteria);
+    }
+
+    @Override
+    public <P extends Record> @NotNull List<P> findAll(final @NotNull String field, final @Nullable Object value, final @NotNull Class<P> projection) {
+        return delegate.findAll(field, value, projection);
+    }
+
+    @Override
+    public @NotNull List<Map<String, Object>> findFields(final @NotNull String field, final @Nullable Object value, final @NotNull List<String> fields) {
+        return delegate.findFields(field, value, fields);
+    }
+
+    @Override
+    public @NotNull List<T> all() {
+        return delegate.all();
+    }
+
+    @Override
+    public @NotNull Stream<T> stream(final @NotNull String field, final @Nullable Object value) {
+        return delegate.stream(field, value);
+    }
+
+    @Override
+    public @NotNull Stream<T> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public long count(final @NotNull String field, final @Nullable Object value) {
+        return delegate.count(field, value);
+    }
+
+    @Override
+    public boolean exists(final @NotNull String field, final @Nullable Object value) {
+        return delegate.exists(field, value);
+    }
+
+    @Override
+    public @Nullable Number aggregate(final @NotNull Aggregate aggregate, final @NotNull String field) {
+        return delegate.aggregate(aggregate, field);
+    }
+
+    @Override
+    public <K> @NotNull Map<K, Number> aggregate(final @NotNull Aggregate aggregate, final @NotNull String field, final @NotNull String groupByField) {
+        return delegate.aggregate(aggregate, field, groupByField);
+    }
+
+    @Override
+    public @NotNull Page<T> page(final @NotNull String orderField, final int pageNumber, final int pageSize) {
+        return delegate.page(orderField, pageNumber, pageSize);
+    }
+
+    @Override
+    public @NotNull Slice<T> slice(final @NotNull String orderField, final @Nullable Comparable<?> afterKey, final int size) {
+        return delegate.slice(orderField, afterKey, size);
+    }
+
+    /**
+     * Updates an entity through the underlying repository and invalidates its id
+     *
+     * @param id      the id of the entity to update
+     * @param changes the names of the fields to update and their new values
+     * @return {@code true} if an entity with the id has been updated
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes) {
+        try {
+            return delegate.update(id, changes);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Updates an entity with a version check through the underlying repository and invalidates its id
+     *
+     * @param id              the id of the entity to update
+     * @param changes         the names of the fields to update and their new values
+     * @param expectedVersion the version the entity has to have
+     * @return {@code true} if the entity has been updated
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes, final @NotNull Object expectedVersion) {
+        try {
+            return delegate.update(id, changes, expectedVersion);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Increments a field of an entity through the underlying repository and invalidates its id
+     *
+     * @param id    the id of the entity to update
+     * @param field the name of the numeric field to increment
+     * @param delta the value to add
+     * @return {@code true} if an entity with the id has been updated
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean increment(final @NotNull Object id, final @NotNull String field, final @NotNull Number delta) {
+        try {
+            return delegate.increment(id, field, delta);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * Deletes an entity through the underlying repository and invalidates its id
+     *
+     * @param entity the entity of type {@link T} to be deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void delete(final @NotNull T entity) {
+        try {
+            delegate.delete(entity);
+        } finally {
+            invalidateEntity(entity);
+        }
+    }
+
+    /**
+     * Deletes multiple entities through the underlying repository and invalidates their ids
+     *
+     * @param entities the entities of type {@link T} to be deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void deleteAll(final @NotNull Collection<T> entities) {
+        try {
+            delegate.deleteAll(entities);
+        } finally {
+            entities.forEach(this::invalidateEntity);
+        }
+    }
+
+    /**
+     * Deletes entities by field through the underlying repository and invalidates the whole cache, as the ids of the
+     * deleted entities are unknown
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return the number of deleted entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public long deleteWhere(final @NotNull String field, final @Nullable Object value) {
+        try {
+            return delegate.deleteWhere(field, value);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Removes an id from the cache and discards any load of it that is currently in progress
+     *
+     * @param id the id to invalidate
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public void invalidate(final @NotNull Object id) {
+        loading.remove(id);
+        entries.remove(id);
+    }
+
+    /**
+     * Removes all ids from the cache and discards all loads that are currently in progress
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public void invalidateAll() {
+        loading.clear();
+        entries.clear();
+    }
+
+    /**
+     * Creates a snapshot of the counters of this cache
+     *
+     * @return the current {@link CacheStatistics}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull CacheStatistics statistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /**
+     * Loads an id from the underlying repository, or waits for a load of the same id already in progress
+     * <p>
+     *     The loaded value is only cached if the id has not been invalidated while loading, see
+     *     {@link CachingEntityRepository#putIfCurrent(Object, CompletableFuture, Object)}.
+     * </p>
+     *
+     * @param id the id to load
+     * @return the loaded entity of type {@link T} or {@code null} if none was found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @Nullable T load(final @NotNull Object id) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final CompletableFuture<T> inProgress = loading.putIfAbsent(id, future);
+        if (inProgress != null) {
+            return await(inProgress);
+        }
+
+        try {
+            final T value = delegate.findFirstById(id);
+            putIfCurrent(id, future, value);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loading.remove(id, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for a load in progress and rethrows its exception unwrapped
+     *
+     * @param future the {@link CompletableFuture} of the load
+     * @return the loaded entity of type {@link T} or {@code null} if none was found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @Nullable T await(final @NotNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Finishes a load by caching its value, unless the id has been invalidated since the load started
+     * <p>
+     *     {@link CachingEntityRepository#invalidate(Object)} discards the registered load before removing the cached
+     *     entry. The load is unregistered and its value cached in one atomic step on the registered loads, so an
+     *     invalidation either discards the load before its value is cached, or removes the value right after it has
+     *     been cached. A stale value can therefore never outlive an invalidation.
+     * </p>
+     *
+     * @param id     the loaded id
+     * @param future the {@link CompletableFuture} the load has been registered with
+     * @param value  the loaded entity or {@code null} if none was found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void putIfCurrent(final @NotNull Object id, final @NotNull CompletableFuture<T> future, final @Nullable T value) {
+        final long timeToLive = (value == null ? settings.negativeTimeToLive() : settings.timeToLive()).toNanos();
+        final boolean[] cached = new boolean[1];
+        loading.computeIfPresent(id, (key, registered) -> {
+            if (registered != future) {
+                return registered;
+            }
+            if (timeToLive > 0) {
+                final long now = System.nanoTime();
+                entries.put(id, new Entry<>(value, now + timeToLive, now));
+                cached[0] = true;
+            }
+            return null;
+        });
+        if (cached[0] && entries.size() > settings.maximumSize()) {
+            evict();
+        }
+    }
+
+    /**
+     * Evicts expired entries and then the least recently used entries until the cache is below 90% of its maximum
+     * size
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final long target = Math.max(settings.maximumSize() * 9 / 10, settings.maximumSize() - 1);
+            final long now = System.nanoTime();
+
+            // Remove expired entries first
+            entries.entrySet().removeIf(mapEntry -> {
+                final boolean expired = mapEntry.getValue().isExpired(now);
+                if (expired) {
+                    evictions.increment();
+                }
+                return expired;
+            });
+
+            // Remove the least recently used entries until the target size is reached
+            if (entries.size() > target) {
+                // Snapshot the access times, as they may change while sorting
+                final List<Candidate<T>> candidates = new ArrayList<>(entries.size());
+                entries.forEach((id, entry) -> candidates.add(new Candidate<>(id, entry, entry.lastAccess())));
+                candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+                final Iterator<Candidate<T>> iterator = candidates.iterator();
+                while (entries.size() > target && iterator.hasNext()) {
+                    final Candidate<T> candidate = iterator.next();
+                    if (entries.remove(candidate.id(), candidate.entry())) {
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Invalidates the id of an entity if it has one
+     *
+     * @param entity the entity to invalidate the id of
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void invalidateEntity(final @NotNull T entity) {
+        final Object id = idExtractor.apply(entity);
+        if (id != null) {
+            invalidate(id);
+        }
+    }
+
+    /**
+     * An entry considered for eviction
+     *
+     * @param id         the cached id
+     * @param entry      the cached {@link Entry}
+     * @param lastAccess the {@link Entry#lastAccess()} when the eviction started
+     * @param <T>        the class type of the entity
+     */
+    private record Candidate<T>(@NotNull Object id, @NotNull Entry<T> entry, long lastAccess) {
+    }
+
+    /**
+     * A cached lookup result
+     *
+     * @param <T> the class type of the entity
+     */
+    private static final class Entry<T> {
+
+        /**
+         * The cached entity or {@code null} for a cached miss
+         */
+        @Nullable
+        private final T value;
+
+        /**
+         * The {@link System#nanoTime()} at which this entry expires
+         */
+        private final long expiresAt;
+
+        /**
+         * The {@link System#nanoTime()} at which this entry was last returned, ordering the eviction
+         */
+        private volatile long lastAccess;
+
+        private Entry(final @Nullable T value, final long expiresAt, final long lastAccess) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+
+        private @Nullable T value() {
+            return value;
+        }
+
+        private long lastAccess() {
+            return lastAccess;
+        }
+
+        private void touch(final long now) {
+            lastAccess = now;
+        }
+
+        private boolean isExpired(final long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
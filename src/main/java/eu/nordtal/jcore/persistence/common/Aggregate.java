@@ -0,0 +1,30 @@
+package eu.nordtal.jcore.persistence.common;
+
+/**
+ * The aggregate functions computed by the database for
+ * {@link EntityRepository#aggregate(Aggregate, String)} and {@link EntityRepository#aggregate(Aggregate, String, String)}
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public enum Aggregate {
+
+    /**
+     * The sum of all values
+     */
+    SUM,
+
+    /**
+     * The smallest value
+     */
+    MIN,
+
+    /**
+     * The largest value
+     */
+    MAX,
+
+    /**
+     * The arithmetic mean of all values
+     */
+    AVG
+}
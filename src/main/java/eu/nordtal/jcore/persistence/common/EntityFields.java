@@ -0,0 +1,73 @@
+package eu.nordtal.jcore.persistence.common;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class for reading entity fields by name using reflection
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public final class EntityFields {
+
+    private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private EntityFields() {}
+
+    /**
+     * Reads the value of a field from an entity
+     *
+     * @param entity    the entity to read the field from
+     * @param fieldName the name of the field declared in the entity class or one of its superclasses
+     * @return the value of the field
+     * @throws IllegalArgumentException if the entity class does not declare a field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @Nullable Object read(final @NotNull Object entity, final @NotNull String fieldName) {
+        try {
+            return field(entity.getClass(), fieldName).get(entity);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(String.format("Field '%s' of class [%s] is not accessible", fieldName, entity.getClass().getName()), e);
+        }
+    }
+
+    /**
+     * Returns the accessible {@link Field} with the given name from the class or one of its superclasses
+     *
+     * @param type      the {@link Class} declaring the field
+     * @param fieldName the name of the field
+     * @return the {@link Field}
+     * @throws IllegalArgumentException if the class does not declare a field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull Field field(final @NotNull Class<?> type, final @NotNull String fieldName) {
+        return FIELDS.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(fieldName, key -> findField(type, fieldName));
+    }
+
+    /**
+     * Searches the class hierarchy for a {@link Field} with the given name and makes it accessible
+     *
+     * @param type      the {@link Class} to start searching at
+     * @param fieldName the name of the field
+     * @return the {@link Field}
+     * @throws IllegalArgumentException if no class in the hierarchy declares a field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull Field findField(final @NotNull Class<?> type, final @NotNull String fieldName) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                final Field field = current.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException ignored) {
+                // Continue with superclass
+            }
+        }
+        throw new IllegalArgumentException(String.format("Class [%s] has no field '%s'", type.getName(), fieldName));
+    }
+}
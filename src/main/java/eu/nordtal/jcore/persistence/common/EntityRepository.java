@@ -3,10 +3,29 @@ package eu.nordtal.jcore.persistence.common;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * This class specifies database actions that should be available for all database entities of this project
+ * <p>
+ *     Fields are named by the Java names of the entity's fields in all methods, including the field names used as
+ *     keys of criteria and changes and the component names of projections. Nested paths are not supported. The
+ *     MongoDB repositories also accept the names fields are stored under in the database, e.g. {@code _id}, but
+ *     callers relying on that are tied to MongoDB.
+ * </p>
+ * <p>
+ *     Only the methods of the first release are abstract. All methods added since have default implementations, so
+ *     existing implementations keep compiling: they are built on the abstract methods where that is possible, e.g.
+ *     {@link #saveAll(Collection)} saving one entity after another, and throw an
+ *     {@link UnsupportedOperationException} otherwise. The default implementations take one round-trip per entity
+ *     or load whole results, so implementations should override them with single queries.
+ * </p>
  *
  * @param <T> the class type of the entity the repository is handling
  * @author Till Hoffmann / @tillhfm - 18.04.2025
@@ -22,6 +41,24 @@ public interface EntityRepository<T> {
      */
     @NotNull T save(@NotNull final T entity);
 
+    /**
+     * Creates or updates multiple entities to the database in one operation
+     * <p>
+     *     The default implementation saves the entities one after another with {@link #save(Object)}.
+     * </p>
+     *
+     * @param entities the entities of type {@link T} to be saved to the database
+     * @return the saved entities of type {@link T} in the order of the given {@link Collection}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull List<T> saveAll(@NotNull final Collection<T> entities) {
+        final List<T> saved = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
     /**
      * Finds the first entity of type {@link T} from the database by entry field name and value
      *
@@ -41,6 +78,53 @@ public interface EntityRepository<T> {
      */
     @Nullable T findFirstById(@Nullable final Object value);
 
+    /**
+     * Finds all entities of type {@link T} from the database by their ids in as few round-trips as possible
+     * <p>
+     *     Ids without an entity are left out, all other entities are returned in the order of the given ids.
+     * </p>
+     * <p>
+     *     The default implementation looks up the ids one after another with {@link #findFirstById(Object)}.
+     * </p>
+     *
+     * @param ids the ids to look up, of the same type as the id field
+     * @return the found entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull List<T> findAllByIds(@NotNull final Collection<?> ids) {
+        final List<T> entities = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            final T entity = findFirstById(id);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by their ids in as few round-trips as possible and maps
+     * them by id
+     * <p>
+     *     The default implementation looks up the ids one after another with {@link #findFirstById(Object)}.
+     * </p>
+     *
+     * @param ids the ids to look up, of the same type as the id field
+     * @param <K> the type of the ids
+     * @return a {@link Map} of the found ids and entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default <K> @NotNull Map<K, T> findAllByIdsAsMap(@NotNull final Collection<K> ids) {
+        final Map<K, T> entities = new LinkedHashMap<>();
+        for (K id : ids) {
+            final T entity = findFirstById(id);
+            if (entity != null) {
+                entities.put(id, entity);
+            }
+        }
+        return entities;
+    }
+
     /**
      * Finds all entities of type {@link T} from the database by entry field name and value
      *
@@ -51,6 +135,95 @@ public interface EntityRepository<T> {
      */
     @NotNull List<T> findAll(@NotNull final String field, @Nullable final Object value);
 
+    /**
+     * Finds all entities of type {@link T} from the database whose field equals one of the given values
+     * <p>
+     *     The entities are returned in the order of the values they matched. {@code null} values match nothing.
+     * </p>
+     * <p>
+     *     The default implementation queries the values one after another with {@link #findAll(String, Object)}.
+     * </p>
+     *
+     * @param field  the name of the field to filter for
+     * @param values the values of the field to filter for, of the same type as the field
+     * @return all matching entities of type {@link T} contained in a {@link List} or an empty {@link List} if none were found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull List<T> findAllIn(@NotNull final String field, @NotNull final Collection<?> values) {
+        final List<T> entities = new ArrayList<>();
+        for (Object value : new LinkedHashSet<>(values)) {
+            if (value != null) {
+                entities.addAll(findAll(field, value));
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database matching all given field names and values
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null}. An empty {@link Map} matches all
+     *     entities.
+     * </p>
+     * <p>
+     *     The default implementation supports no more than one criterion, which is passed to
+     *     {@link #findAll(String, Object)}, and throws an {@link UnsupportedOperationException} otherwise.
+     * </p>
+     *
+     * @param criteria the names and values of the fields to filter for
+     * @return all matching entities of type {@link T} contained in a {@link List} or an empty {@link List} if none were found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull List<T> findAll(@NotNull final Map<String, Object> criteria) {
+        if (criteria.isEmpty()) {
+            return all();
+        }
+        if (criteria.size() == 1) {
+            final Map.Entry<String, Object> criterion = criteria.entrySet().iterator().next();
+            return findAll(criterion.getKey(), criterion.getValue());
+        }
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support findAll with multiple criteria", getClass().getName()));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by entry field name and value and reads only the fields
+     * needed for a projection
+     * <p>
+     *     The projection is a {@link Record} whose component names equal the names of the entity fields to read.
+     * </p>
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param field      the name of the field to filter for
+     * @param value      the value of the field to filter for
+     * @param projection the {@link Record} class to map the read fields into
+     * @param <P>        the type of the projection
+     * @return the projections of all matching entities contained in a {@link List} or an empty {@link List} if none were found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see Projections
+     */
+    default <P extends Record> @NotNull List<P> findAll(@NotNull final String field, @Nullable final Object value, @NotNull final Class<P> projection) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support projections", getClass().getName()));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by entry field name and value and reads only the given
+     * fields
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param field  the name of the field to filter for
+     * @param value  the value of the field to filter for
+     * @param fields the names of the entity fields to read
+     * @return a {@link Map} of field names and values in the order of the given fields for every matching entity, contained in a {@link List}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull List<Map<String, Object>> findFields(@NotNull final String field, @Nullable final Object value, @NotNull final List<String> fields) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support findFields", getClass().getName()));
+    }
+
     /**
      * Finds all entities of type {@link T} from the database
      *
@@ -59,6 +232,209 @@ public interface EntityRepository<T> {
      */
     @NotNull List<T> all();
 
+    /**
+     * Counts the entities of type {@link T} in the database by entry field name and value without loading them
+     * <p>
+     *     The default implementation loads the matching entities with {@link #findAll(String, Object)}.
+     * </p>
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return the number of matching entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default long count(@NotNull final String field, @Nullable final Object value) {
+        return findAll(field, value).size();
+    }
+
+    /**
+     * Checks whether any entity of type {@link T} in the database matches an entry field name and value without
+     * loading it
+     * <p>
+     *     The default implementation loads the first matching entity with {@link #findFirst(String, Object)}.
+     * </p>
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return {@code true} if at least one entity matches
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default boolean exists(@NotNull final String field, @Nullable final Object value) {
+        return findFirst(field, value) != null;
+    }
+
+    /**
+     * Computes an aggregate over a numeric field of all entities of type {@link T} in the database
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param aggregate the {@link Aggregate} function to compute
+     * @param field     the name of the numeric field to aggregate
+     * @return the computed value, or {@code null} if there are no entities with a value in the field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @Nullable Number aggregate(@NotNull final Aggregate aggregate, @NotNull final String field) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support aggregates", getClass().getName()));
+    }
+
+    /**
+     * Computes an aggregate over a numeric field of all entities of type {@link T} in the database for every value of
+     * another field
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param aggregate    the {@link Aggregate} function to compute
+     * @param field        the name of the numeric field to aggregate
+     * @param groupByField the name of the field whose values the entities are grouped by
+     * @param <K>          the type of the group by field
+     * @return a {@link Map} of every value of the group by field and the value computed for its entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default <K> @NotNull Map<K, Number> aggregate(@NotNull final Aggregate aggregate, @NotNull final String field, @NotNull final String groupByField) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support aggregates", getClass().getName()));
+    }
+
+    /**
+     * Streams all entities of type {@link T} from the database by entry field name and value
+     * <p>
+     *     Entities are fetched lazily while the {@link Stream} is consumed, so the whole result never has to fit into
+     *     memory. The {@link Stream} holds database resources until it is closed and therefore has to be used within
+     *     a try-with-resources block.
+     * </p>
+     * <p>
+     *     The default implementation loads all matching entities with {@link #findAll(String, Object)} first.
+     * </p>
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return a {@link Stream} of all matching entities of type {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull Stream<T> stream(@NotNull final String field, @Nullable final Object value) {
+        return findAll(field, value).stream();
+    }
+
+    /**
+     * Streams all entities of type {@link T} from the database
+     * <p>
+     *     Entities are fetched lazily while the {@link Stream} is consumed, so the whole result never has to fit into
+     *     memory. The {@link Stream} holds database resources until it is closed and therefore has to be used within
+     *     a try-with-resources block.
+     * </p>
+     * <p>
+     *     The default implementation loads all entities with {@link #all()} first.
+     * </p>
+     *
+     * @return a {@link Stream} of all entities of type {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull Stream<T> streamAll() {
+        return all().stream();
+    }
+
+    /**
+     * Reads one page of entities of type {@link T} from the database ordered by a field using offset pagination
+     * <p>
+     *     Deep pages get slower the larger the offset is, as the database has to skip all previous rows. For
+     *     iterating over large tables use {@link EntityRepository#slice(String, Comparable, int)} instead.
+     * </p>
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param orderField the name of the field to order by
+     * @param pageNumber the zero-based number of the page
+     * @param pageSize   the maximum number of entities per page
+     * @return the requested {@link Page}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull Page<T> page(@NotNull final String orderField, final int pageNumber, final int pageSize) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support page", getClass().getName()));
+    }
+
+    /**
+     * Reads one slice of entities of type {@link T} from the database ordered by a field using keyset pagination
+     * <p>
+     *     Only entities with an order field value greater than {@code afterKey} are read, so the cost per slice stays
+     *     constant regardless of how deep the slice is. The order field has to be unique and should be indexed.
+     * </p>
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param orderField the name of the unique field to order by
+     * @param afterKey   the {@link Slice#lastKey()} of the previous slice, or {@code null} for the first slice
+     * @param size       the maximum number of entities in the slice
+     * @return the requested {@link Slice}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default @NotNull Slice<T> slice(@NotNull final String orderField, @Nullable final Comparable<?> afterKey, final int size) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support slice", getClass().getName()));
+    }
+
+    /**
+     * Updates fields of an entity of type {@link T} in the database by its id without loading it
+     * <p>
+     *     Only the given fields are written. If the entity has a version field, the version is incremented, so that
+     *     concurrent optimistic updates of the entity fail.
+     * </p>
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param id      the id of the entity to update
+     * @param changes the names of the fields to update and their new values
+     * @return {@code true} if an entity with the id has been updated, {@code false} if none exists
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default boolean update(@NotNull final Object id, @NotNull final Map<String, Object> changes) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support update", getClass().getName()));
+    }
+
+    /**
+     * Updates fields of an entity of type {@link T} in the database by its id without loading it, if its version
+     * still equals the expected version
+     * <p>
+     *     Only the given fields are written and the version is incremented in the same statement, so updates based on
+     *     a stale read never overwrite a newer state.
+     * </p>
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param id              the id of the entity to update
+     * @param changes         the names of the fields to update and their new values
+     * @param expectedVersion the version the entity has to have
+     * @return {@code true} if the entity has been updated, {@code false} if no entity with the id and version exists
+     * @throws IllegalArgumentException if the entity has no version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default boolean update(@NotNull final Object id, @NotNull final Map<String, Object> changes, @NotNull final Object expectedVersion) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support update", getClass().getName()));
+    }
+
+    /**
+     * Adds a delta to a numeric field of an entity of type {@link T} in the database by its id without loading it
+     * <p>
+     *     The addition is done by the database, so concurrent increments of the same field are never lost. If the
+     *     entity has a version field, the version is incremented as well.
+     * </p>
+     * <p>
+     *     The default implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param id    the id of the entity to update
+     * @param field the name of the numeric field to increment
+     * @param delta the value to add, negative to decrement
+     * @return {@code true} if an entity with the id has been updated, {@code false} if none exists
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default boolean increment(@NotNull final Object id, @NotNull final String field, @NotNull final Number delta) {
+        throw new UnsupportedOperationException(String.format("Repository class [%s] does not support increment", getClass().getName()));
+    }
+
     /**
      * Deletes an entity of type {@link T} from the database
      *
@@ -67,4 +443,37 @@ public interface EntityRepository<T> {
      */
     void delete(@NotNull final T entity);
 
+    /**
+     * Deletes multiple entities of type {@link T} from the database in one operation
+     * <p>
+     *     The default implementation deletes the entities one after another with {@link #delete(Object)}.
+     * </p>
+     *
+     * @param entities the entities of type {@link T} to be deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default void deleteAll(@NotNull final Collection<T> entities) {
+        for (T entity : entities) {
+            delete(entity);
+        }
+    }
+
+    /**
+     * Deletes all entities of type {@link T} from the database by entry field name and value without loading them
+     * <p>
+     *     The default implementation loads the matching entities with {@link #findAll(String, Object)} and deletes them
+     *     with {@link #deleteAll(Collection)}.
+     * </p>
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return the number of deleted entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    default long deleteWhere(@NotNull final String field, @Nullable final Object value) {
+        final List<T> entities = findAll(field, value);
+        deleteAll(entities);
+        return entities.size();
+    }
+
 }
\ No newline at end of file
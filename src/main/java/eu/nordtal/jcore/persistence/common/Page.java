@@ -0,0 +1,39 @@
+package eu.nordtal.jcore.persistence.common;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * This record holds one page of entities read using offset pagination
+ *
+ * @param content       the entities of this page
+ * @param pageNumber    the zero-based number of this page
+ * @param pageSize      the requested maximum number of entities per page
+ * @param totalElements the total number of entities across all pages
+ * @param <T>           the class type of the entities
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see EntityRepository#page(String, int, int)
+ */
+public record Page<T>(@NotNull List<T> content, int pageNumber, int pageSize, long totalElements) {
+
+    /**
+     * Calculates the total number of pages
+     *
+     * @return the total number of pages
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public long totalPages() {
+        return (totalElements + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Checks whether there is a page after this one
+     *
+     * @return {@code true} if there is a page after this one
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public boolean hasNext() {
+        return pageNumber + 1L < totalPages();
+    }
+}
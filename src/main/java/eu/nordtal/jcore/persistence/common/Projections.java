@@ -0,0 +1,116 @@
+package eu.nordtal.jcore.persistence.common;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class for mapping entity fields into projection records
+ * <p>
+ *     A projection is a {@link Record} whose component names equal the names of the entity fields it is filled with.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see EntityRepository#findAll(String, Object, Class)
+ */
+public final class Projections {
+
+    private static final Map<Class<?>, Projection<?>> PROJECTIONS = new ConcurrentHashMap<>();
+
+    private Projections() {}
+
+    /**
+     * Returns the component names of a projection record in declaration order
+     *
+     * @param projection the {@link Record} class
+     * @return the component names
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull List<String> componentNames(final @NotNull Class<? extends Record> projection) {
+        return projection(projection).componentNames();
+    }
+
+    /**
+     * Creates a projection record from an entity by reading the entity fields named like its components
+     *
+     * @param projection the {@link Record} class
+     * @param entity     the entity to read the fields from
+     * @param <P>        the type of the projection
+     * @return the created projection
+     * @throws IllegalArgumentException if the entity has no field named like one of the components
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <P extends Record> @NotNull P fromEntity(final @NotNull Class<P> projection, final @NotNull Object entity) {
+        final Projection<P> mapping = projection(projection);
+        final Object[] values = mapping.componentNames().stream()
+                .map(name -> EntityFields.read(entity, name))
+                .toArray();
+        return mapping.create(values);
+    }
+
+    /**
+     * Reads the given fields from an entity into a {@link Map}
+     *
+     * @param entity the entity to read the fields from
+     * @param fields the names of the fields to read
+     * @return a {@link Map} of field names and values in the order of the given fields
+     * @throws IllegalArgumentException if the entity has no field with one of the given names
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull Map<String, Object> fieldsFromEntity(final @NotNull Object entity, final @NotNull List<String> fields) {
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            values.put(field, EntityFields.read(entity, field));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the cached mapping information of a projection record
+     *
+     * @param projection the {@link Record} class
+     * @param <P>        the type of the projection
+     * @return the {@link Projection}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @SuppressWarnings("unchecked")
+    private static <P extends Record> @NotNull Projection<P> projection(final @NotNull Class<P> projection) {
+        return (Projection<P>) PROJECTIONS.computeIfAbsent(projection, key -> {
+            final RecordComponent[] components = projection.getRecordComponents();
+            final Class<?>[] types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+            try {
+                final Constructor<P> constructor = projection.getDeclaredConstructor(types);
+                constructor.setAccessible(true);
+                return new Projection<>(constructor, Arrays.stream(components).map(RecordComponent::getName).toList());
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(String.format("Projection [%s] has no canonical constructor", projection.getName()), e);
+            }
+        });
+    }
+
+    /**
+     * The mapping information of a projection record
+     *
+     * @param constructor    the canonical constructor of the record
+     * @param componentNames the component names in declaration order
+     * @param <P>            the type of the projection
+     */
+    private record Projection<P>(@NotNull Constructor<P> constructor, @NotNull List<String> componentNames) {
+
+        private @NotNull P create(final @Nullable Object[] values) {
+            try {
+                return constructor.newInstance(values);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException(String.format("Error creating projection [%s]", constructor.getDeclaringClass().getName()), e);
+            }
+        }
+    }
+}
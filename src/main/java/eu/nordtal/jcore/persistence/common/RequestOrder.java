@@ -0,0 +1,75 @@
+package eu.nordtal.jcore.persistence.common;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Utility class for returning the results of multi-value lookups in the order of the requested values
+ * <p>
+ *     Databases return the results of {@code IN} queries in an arbitrary order, so the results are reordered by the
+ *     position of their key in the request. Keys are compared with {@link Object#equals(Object)}, so the requested
+ *     values have to be of the same type as the entity field, e.g. {@link Long} for a {@code long} id.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see EntityRepository#findAllByIds(java.util.Collection)
+ * @see EntityRepository#findAllIn(String, java.util.Collection)
+ */
+public final class RequestOrder {
+
+    private RequestOrder() {}
+
+    /**
+     * Sorts entities by the position of their key in the requested values
+     * <p>
+     *     Entities whose key has not been requested are put at the end.
+     * </p>
+     *
+     * @param requested the requested values in request order
+     * @param entities  the entities to sort
+     * @param key       extracts the key of an entity
+     * @param <T>       the class type of the entities
+     * @return the sorted entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <T> @NotNull List<T> sort(final @NotNull List<?> requested, final @NotNull List<T> entities, final @NotNull Function<? super T, ?> key) {
+        final Map<Object, Integer> positions = new HashMap<>();
+        for (int i = 0; i < requested.size(); i++) {
+            positions.putIfAbsent(requested.get(i), i);
+        }
+        final List<T> sorted = new ArrayList<>(entities);
+        sorted.sort(Comparator.comparingInt(entity -> positions.getOrDefault(key.apply(entity), Integer.MAX_VALUE)));
+        return sorted;
+    }
+
+    /**
+     * Maps entities by their key in the order of the requested values, leaving out keys without an entity
+     *
+     * @param requested the requested keys in request order
+     * @param entities  the found entities in any order
+     * @param key       extracts the key of an entity
+     * @param <K>       the type of the keys
+     * @param <T>       the class type of the entities
+     * @return a {@link Map} of the requested keys and their entities in request order
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <K, T> @NotNull Map<K, T> map(final @NotNull List<K> requested, final @NotNull List<T> entities, final @NotNull Function<? super T, ?> key) {
+        final Map<Object, T> byKey = new HashMap<>();
+        entities.forEach(entity -> byKey.put(key.apply(entity), entity));
+        final Map<K, T> result = new LinkedHashMap<>();
+        for (K requestedKey : requested) {
+            final T entity = byKey.get(requestedKey);
+            if (entity != null) {
+                result.put(requestedKey, entity);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package eu.nordtal.jcore.persistence.common;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * This record holds one slice of entities read using keyset pagination
+ * <p>
+ *     The next slice is read by passing {@link Slice#lastKey()} as key to
+ *     {@link EntityRepository#slice(String, Comparable, int)}.
+ * </p>
+ *
+ * @param content the entities of this slice
+ * @param lastKey the value of the order field of the last entity in this slice, or {@code null} if the slice is empty
+ * @param hasNext whether there are more entities after this slice
+ * @param <T>     the class type of the entities
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see EntityRepository#slice(String, Comparable, int)
+ */
+public record Slice<T>(@NotNull List<T> content, @Nullable Comparable<?> lastKey, boolean hasNext) {
+}
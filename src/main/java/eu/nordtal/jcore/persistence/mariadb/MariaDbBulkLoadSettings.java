@@ -0,0 +1,37 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import lombok.With;
+
+/**
+ * This record holds the settings of a {@link MariaDbBulkLoader}
+ * <p>
+ *     Instances are derived from {@link MariaDbBulkLoadSettings#DEFAULT} using the generated {@code with...} methods,
+ *     e.g. {@code MariaDbBulkLoadSettings.DEFAULT.withWriters(8)}.
+ * </p>
+ *
+ * @param chunkSize the maximum number of rows written by one multi-row statement and committed in one transaction
+ * @param writers   the maximum number of connections writing chunks in parallel, should not exceed {@link MariaDbSettings#maximumPoolSize()}
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@With
+public record MariaDbBulkLoadSettings(int chunkSize, int writers) {
+
+    /**
+     * The default settings used if none are specified
+     */
+    public static final MariaDbBulkLoadSettings DEFAULT = new MariaDbBulkLoadSettings(1000, 4);
+
+    /**
+     * Validates the settings
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbBulkLoadSettings {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid chunk size [%d]", chunkSize));
+        }
+        if (writers < 1) {
+            throw new IllegalArgumentException(String.format("Invalid number of writers [%d]", writers));
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.BasicAttributeMapping;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityVersionMapping;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class writes large numbers of entities of a {@link MariaDbRepository} to the database bypassing the
+ * persistence context of Hibernate
+ * <p>
+ *     Entities are grouped into chunks of {@link MariaDbBulkLoadSettings#chunkSize()} rows, each written with a single
+ *     multi-row {@code INSERT} statement in its own transaction on up to {@link MariaDbBulkLoadSettings#writers()}
+ *     connections in parallel. The table and columns are read from the Hibernate metamodel of the repository's
+ *     {@link SessionFactory} and the values are bound by the same JDBC types Hibernate uses, so attribute converters
+ *     and enum mappings are applied as usual.
+ * </p>
+ * <p>
+ *     Only entities mapped to a single table without inheritance, with a basic id and basic attributes only, are
+ *     supported. Entities without an id are only written if the id column is {@code AUTO_INCREMENT}, and their
+ *     generated ids are not set on the entities. Lifecycle callbacks and caches such as
+ *     {@link eu.nordtal.jcore.persistence.cache.CachingEntityRepository} are bypassed, and a failed load leaves all
+ *     chunks committed before the failure in the database.
+ * </p>
+ * <p>
+ *     A {@code @Version} column is maintained like Hibernate does, but not checked: inserted rows get the version of
+ *     the entity, or the initial version of the mapping if it has none, and upserts increment the version of existing
+ *     rows instead of overwriting it, so concurrent writers holding an older version still fail their next update.
+ *     Timestamp versions are set to the current time on every write. Neither is set on the entities.
+ * </p>
+ *
+ * @param <T> the class type of the entity the loader is writing
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class MariaDbBulkLoader<T> {
+
+    /**
+     * The maximum number of placeholders the MariaDB protocol allows in one prepared statement
+     */
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    /**
+     * The repository whose database connection and entity class are used
+     */
+    @NotNull
+    private final MariaDbRepository<T> repository;
+
+    @NotNull
+    private final MariaDbBulkLoadSettings settings;
+
+    /**
+     * The table metadata read from the current {@link SessionFactory}, rebuilt once it is rebuilt
+     */
+    @Nullable
+    private volatile Table<T> table;
+
+    /**
+     * Creates a new {@link MariaDbBulkLoader} using {@link MariaDbBulkLoadSettings#DEFAULT}
+     *
+     * @param repository the {@link MariaDbRepository} whose entities to write
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbBulkLoader(final @NotNull MariaDbRepository<T> repository) {
+        this(repository, MariaDbBulkLoadSettings.DEFAULT);
+    }
+
+    /**
+     * Creates a new {@link MariaDbBulkLoader}
+     *
+     * @param repository the {@link MariaDbRepository} whose entities to write
+     * @param settings   the {@link MariaDbBulkLoadSettings} sizing chunks and writers
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbBulkLoader(final @NotNull MariaDbRepository<T> repository, final @NotNull MariaDbBulkLoadSettings settings) {
+        this.repository = repository;
+        this.settings = settings;
+    }
+
+    /**
+     * Inserts entities, failing on the first chunk containing an id that already exists
+     *
+     * @param entities the entities of type {@link T} to insert
+     * @return the number of written entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public long insert(final @NotNull Collection<T> entities) {
+        return write(entities.stream(), false);
+    }
+
+    /**
+     * Inserts entities read lazily from a {@link Stream}, failing on the first chunk containing an id that already exists
+     *
+     * @param entities the entities of type {@link T} to insert, only as many are held in memory as chunks are in flight
+     * @return the number of written entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public long insert(final @NotNull Stream<T> entities) {
+        return write(entities, false);
+    }
+
+    /**
+     * Inserts entities or updates all columns of the existing rows with the same id using
+     * {@code INSERT ... ON DUPLICATE KEY UPDATE}
+     *
+     * @param entities the entities of type {@link T} to insert or update
+     * @return the number of written entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public long upsert(final @NotNull Collection<T> entities) {
+        return write(entities.stream(), true);
+    }
+
+    /**
+     * Inserts entities read lazily from a {@link Stream} or updates all columns of the existing rows with the same id
+     * using {@code INSERT ... ON DUPLICATE KEY UPDATE}
+     *
+     * @param entities the entities of type {@link T} to insert or update, only as many are held in memory as chunks are in flight
+     * @return the number of written entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public long upsert(final @NotNull Stream<T> entities) {
+        return write(entities, true);
+    }
+
+    /**
+     * Splits the entities into chunks and writes them on up to {@link MariaDbBulkLoadSettings#writers()} connections
+     * <p>
+     *     No further chunks are started once a chunk has failed. All failures are thrown together after the running
+     *     chunks have finished.
+     * </p>
+     *
+     * @param entities the entities of type {@link T} to write
+     * @param upsert   whether existing rows are updated instead of failing the chunk
+     * @return the number of written entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private long write(final @NotNull Stream<T> entities, final boolean upsert) {
+        final SessionFactory sessionFactory = repository.getSessionFactory();
+        final Table<T> table = table(sessionFactory);
+        final int chunkSize = Math.min(settings.chunkSize(), MAX_PLACEHOLDERS / table.columns().size());
+        final String fullChunkSql = table.sql(chunkSize, upsert);
+
+        final Semaphore permits = new Semaphore(settings.writers());
+        final AtomicLong written = new AtomicLong();
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try (entities; ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final Iterator<T> iterator = entities.iterator();
+            while (iterator.hasNext() && failure.get() == null) {
+                final List<T> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                final String sql = chunk.size() == chunkSize ? fullChunkSql : table.sql(chunk.size(), upsert);
+
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        writeChunk(sessionFactory, table, sql, chunk);
+                        written.addAndGet(chunk.size());
+                    } catch (RuntimeException e) {
+                        if (!failure.compareAndSet(null, e)) {
+                            failure.get().addSuppressed(e);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return written.get();
+    }
+
+    /**
+     * Writes one chunk of entities with a single multi-row statement in its own transaction
+     *
+     * @param sessionFactory the {@link SessionFactory} to take the connection from
+     * @param table          the {@link Table} metadata of {@link T}
+     * @param sql            the statement with placeholders for exactly the rows of the chunk
+     * @param chunk          the entities to write
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void writeChunk(final @NotNull SessionFactory sessionFactory, final @NotNull Table<T> table, final @NotNull String sql, final @NotNull List<T> chunk) {
+        Transaction transaction = null;
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            transaction = session.beginTransaction();
+            final SharedSessionContractImplementor sessionImplementor = (SharedSessionContractImplementor) session;
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    int index = 1;
+                    for (T entity : chunk) {
+                        for (Column<T> column : table.columns()) {
+                            column.bind(statement, index++, entity, sessionImplementor);
+                        }
+                    }
+                    statement.executeUpdate();
+                }
+            });
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null && transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the {@link Table} metadata of {@link T} for a {@link SessionFactory}, reading it from the metamodel if
+     * the {@link SessionFactory} has been built or rebuilt since it was last read
+     *
+     * @param sessionFactory the {@link SessionFactory} of the primary
+     * @return the {@link Table} metadata of {@link T}
+     * @throws IllegalArgumentException if the mapping of {@link T} is not supported
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Table<T> table(final @NotNull SessionFactory sessionFactory) {
+        final Table<T> current = table;
+        if (current != null && current.sessionFactory() == sessionFactory) {
+            return current;
+        }
+
+        final Table<T> built = Table.read(sessionFactory, repository.getEntityClass());
+        table = built;
+        return built;
+    }
+
+    /**
+     * The metadata of the table {@link T} is mapped to
+     *
+     * @param sessionFactory the {@link SessionFactory} the metadata has been read from
+     * @param name           the name of the table
+     * @param columns        the written columns, starting with the id column
+     * @param <T>            the class type of the entity
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    record Table<T>(@NotNull SessionFactory sessionFactory, @NotNull String name, @NotNull List<Column<T>> columns) {
+
+        /**
+         * Reads the {@link Table} metadata of an entity class from the metamodel of a {@link SessionFactory}
+         *
+         * @param sessionFactory the {@link SessionFactory} the entity class is mapped in
+         * @param entityClass    the {@link Class} of the entity
+         * @param <T>            the class type of the entity
+         * @return the {@link Table} metadata of the entity class
+         * @throws IllegalArgumentException if the mapping of the entity class is not supported
+         * @author Till Hoffmann / @tillhfm - 17.10.2026
+         */
+        static <T> @NotNull Table<T> read(final @NotNull SessionFactory sessionFactory, final @NotNull Class<T> entityClass) {
+            final EntityPersister persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel()
+                    .getEntityDescriptor(entityClass);
+            if (!(persister instanceof SingleTableEntityPersister singleTablePersister)
+                    || persister.getSuperMappingType() != null
+                    || persister.hasSubclasses()) {
+                throw new IllegalArgumentException(String.format("Entity class [%s] is not mapped to a single table without inheritance", entityClass.getName()));
+            }
+            if (!(persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping identifierMapping)) {
+                throw new IllegalArgumentException(String.format("Entity class [%s] does not have a basic id", entityClass.getName()));
+            }
+
+            final List<Column<T>> columns = new ArrayList<>();
+            columns.add(new Column<>(identifierMapping.getSelectionExpression(), identifierMapping.getJdbcMapping(), null, (entity, session) -> identifierMapping.getIdentifier(entity)));
+            final EntityVersionMapping versionMapping = persister.getVersionMapping();
+            final List<String> unsupported = new ArrayList<>();
+            persister.forEachAttributeMapping(attributeMapping -> {
+                if (versionMapping != null && attributeMapping == versionMapping.getVersionAttribute()) {
+                    // The version column is added last with its own value and update
+                } else if (!(attributeMapping instanceof BasicAttributeMapping basicMapping)) {
+                    unsupported.add(attributeMapping.getAttributeName());
+                } else if (!basicMapping.isFormula() && basicMapping.isInsertable()) {
+                    final String name = basicMapping.getSelectionExpression();
+                    columns.add(new Column<>(name, basicMapping.getJdbcMapping(), basicMapping.isUpdateable() ? "VALUES(" + name + ")" : null, (entity, session) -> attributeMapping.getValue(entity)));
+                }
+            });
+            if (!unsupported.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Entity class [%s] has non-basic attributes %s", entityClass.getName(), unsupported));
+            }
+            if (versionMapping != null) {
+                columns.add(versionColumn(versionMapping));
+            }
+
+            return new Table<>(sessionFactory, singleTablePersister.getTableName(), List.copyOf(columns));
+        }
+
+        /**
+         * Builds the {@link Column} of a {@code @Version} attribute
+         * <p>
+         *     Numeric versions are inserted with the version of the entity, or the initial version of the mapping if
+         *     the entity has none, and incremented by upserts. Timestamp versions are always written with the current
+         *     time, as an older timestamp of the entity would move the version of an existing row back.
+         * </p>
+         *
+         * @param versionMapping the {@link EntityVersionMapping} of the entity
+         * @param <T>            the class type of the entity
+         * @return the {@link Column} writing the version
+         * @author Till Hoffmann / @tillhfm - 17.10.2026
+         */
+        private static <T> @NotNull Column<T> versionColumn(final @NotNull EntityVersionMapping versionMapping) {
+            final String name = versionMapping.getSelectionExpression();
+            if (!versionMapping.getJdbcMapping().getJdbcType().isNumber()) {
+                return new Column<>(name, versionMapping.getJdbcMapping(), "VALUES(" + name + ")", (entity, session) -> Versioning.seed(versionMapping, session));
+            }
+            return new Column<>(name, versionMapping.getJdbcMapping(), name + " + 1", (entity, session) -> {
+                final Object version = versionMapping.getVersionAttribute().getValue(entity);
+                return version != null ? version : Versioning.seed(versionMapping, session);
+            });
+        }
+
+        /**
+         * Builds the statement writing a number of rows
+         *
+         * @param rows   the number of rows to write
+         * @param upsert whether existing rows are updated instead of failing the statement
+         * @return the SQL of the statement
+         * @author Till Hoffmann / @tillhfm - 17.10.2026
+         */
+        @NotNull String sql(final int rows, final boolean upsert) {
+            final String row = columns.stream().map(column -> "?").collect(Collectors.joining(", ", "(", ")"));
+            final StringBuilder sql = new StringBuilder("INSERT INTO ").append(name)
+                    .append(columns.stream().map(Column::name).collect(Collectors.joining(", ", " (", ")")))
+                    .append(" VALUES ")
+                    .append(String.join(", ", Collections.nCopies(rows, row)));
+            if (upsert) {
+                final String updates = columns.stream()
+                        .filter(column -> column.update() != null)
+                        .map(column -> column.name() + " = " + column.update())
+                        .collect(Collectors.joining(", "));
+                final String idColumn = columns.getFirst().name();
+                sql.append(" ON DUPLICATE KEY UPDATE ").append(updates.isEmpty() ? idColumn + " = " + idColumn : updates);
+            }
+            return sql.toString();
+        }
+    }
+
+    /**
+     * A written column of the table
+     *
+     * @param name        the name of the column
+     * @param jdbcMapping the {@link JdbcMapping} converting and binding the values of the column
+     * @param update      the expression assigned to the column by upserts, or {@code null} if upserts keep it
+     * @param getter      reads the value of the column from an entity within a session
+     * @param <T>         the class type of the entity
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    record Column<T>(@NotNull String name, @NotNull JdbcMapping jdbcMapping, @Nullable String update, @NotNull BiFunction<Object, SharedSessionContractImplementor, Object> getter) {
+
+        /**
+         * Binds the value of the column of an entity to a statement
+         *
+         * @param statement the {@link PreparedStatement} to bind to
+         * @param index     the index of the placeholder
+         * @param entity    the entity to read the value from
+         * @param session   the session providing the options for binding
+         * @throws SQLException in case the value cannot be bound
+         * @author Till Hoffmann / @tillhfm - 17.10.2026
+         */
+        @SuppressWarnings("unchecked")
+        private void bind(final @NotNull PreparedStatement statement, final int index, final @NotNull T entity, final @NotNull SharedSessionContractImplementor session) throws SQLException {
+            final Object value = jdbcMapping.convertToRelationalValue(getter.apply(entity, session));
+            ((ValueBinder<Object>) jdbcMapping.getJdbcValueBinder()).bind(statement, value, index, session);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * This record holds the settings of the opt-in diagnostic mode of {@link MariaDbRepository}
+ * <p>
+ *     If enabled, every session opened by a repository call inspects the statements it runs. Statements slower than
+ *     {@code slowQueryThreshold} are logged with the SQL, the repository method and its arguments, and calls running
+ *     more than {@code statementBudget} statements in one session, e.g. because of lazy loading, are logged as well.
+ *     Instances are derived from {@link MariaDbDiagnostics#DISABLED} using the generated {@code with...} methods, e.g.
+ *     {@code MariaDbDiagnostics.DISABLED.withStatementBudget(5).withFailOnBudgetExceeded(true)} in tests.
+ * </p>
+ *
+ * @param slowQueryThreshold    the duration above which a statement is logged as slow, {@link Duration#ZERO} disables slow query logging
+ * @param statementBudget       the maximum number of statements one repository call may run, {@code 0} disables the budget
+ * @param failOnBudgetExceeded  whether exceeding the budget throws a {@link StatementBudgetExceededException} instead of logging a warning
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@With
+public record MariaDbDiagnostics(@NotNull Duration slowQueryThreshold, int statementBudget, boolean failOnBudgetExceeded) {
+
+    /**
+     * The settings disabling all diagnostics, used if none are specified
+     */
+    public static final MariaDbDiagnostics DISABLED = new MariaDbDiagnostics(Duration.ZERO, 0, false);
+
+    /**
+     * Validates the settings
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbDiagnostics {
+        if (slowQueryThreshold.isNegative()) {
+            throw new IllegalArgumentException(String.format("Invalid slow query threshold [%s]", slowQueryThreshold));
+        }
+        if (statementBudget < 0) {
+            throw new IllegalArgumentException(String.format("Invalid statement budget [%d]", statementBudget));
+        }
+    }
+
+    /**
+     * Checks whether any diagnostic is enabled
+     *
+     * @return {@code true} if slow query logging or the statement budget is enabled
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public boolean enabled() {
+        return !slowQueryThreshold.isZero() || statementBudget > 0;
+    }
+}
@@ -0,0 +1,620 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import eu.nordtal.jcore.persistence.common.Aggregate;
+import eu.nordtal.jcore.persistence.common.Projections;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.apache.commons.lang3.ClassUtils;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.Query;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * This class caches the criteria queries of a {@link MariaDbRepository} for one {@link SessionFactory}
+ * <p>
+ *     Queries filtering by a field are built once per field with a parameter instead of a literal value, so Hibernate
+ *     can reuse its interpretation of the query from the criteria plan cache. The field names of the entity are read
+ *     from the metamodel once, so unknown fields are rejected before a session is opened.
+ * </p>
+ *
+ * @param <T> the class type of the entity the repository is handling
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+final class MariaDbQueryPlans<T> {
+
+    /**
+     * The {@link SessionFactory} the queries have been built for
+     */
+    @NotNull
+    private final SessionFactory sessionFactory;
+
+    /**
+     * The type of class returned by the queries
+     */
+    @NotNull
+    private final Class<T> resultClass;
+
+    /**
+     * The maximum number of cached projection queries, as callers can select any combination of fields
+     */
+    static final int MAX_PROJECTION_QUERIES = 256;
+
+    /**
+     * The {@link EntityType} of {@link T} in the metamodel
+     */
+    @NotNull
+    private final EntityType<T> entityType;
+
+    /**
+     * The {@link EntityPersister} of {@link T}, applying Hibernate's unsaved-value rules
+     */
+    @NotNull
+    private final EntityPersister persister;
+
+    /**
+     * The names of all attributes of {@link T}
+     */
+    @NotNull
+    private final Set<String> fieldNames;
+
+    /**
+     * The name of the id attribute of {@link T}
+     */
+    @NotNull
+    private final String idField;
+
+    /**
+     * The name of the version attribute of {@link T}, or {@code null} if {@link T} is not versioned
+     */
+    @Nullable
+    private final String versionField;
+
+    /**
+     * The query selecting all entities
+     */
+    @NotNull
+    private final CriteriaQuery<T> allQuery;
+
+    /**
+     * The queries filtering by field, built on first use
+     */
+    private final Map<String, FieldQuery<T>> fieldQueries = new ConcurrentHashMap<>();
+
+    /**
+     * The queries filtering by a field matching one of multiple values, built on first use
+     */
+    private final Map<String, InQuery<T>> inQueries = new ConcurrentHashMap<>();
+
+    /**
+     * The queries filtering by field and selecting a projection, built on first use and cached up to
+     * {@link MariaDbQueryPlans#MAX_PROJECTION_QUERIES} entries
+     */
+    private final Map<ProjectionKey, FieldQuery<?>> projectionQueries = new ConcurrentHashMap<>();
+
+    /**
+     * The queries counting the entities matching a field, built on first use
+     */
+    private final Map<String, FieldQuery<Long>> countQueries = new ConcurrentHashMap<>();
+
+    /**
+     * The queries selecting the id of the entities matching a field, built on first use
+     */
+    private final Map<String, FieldQuery<Object>> existsQueries = new ConcurrentHashMap<>();
+
+    /**
+     * The queries computing an aggregate, built on first use
+     */
+    private final Map<AggregateKey, CriteriaQuery<?>> aggregateQueries = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the metamodel of {@link T} and builds the queries not depending on a field
+     *
+     * @param sessionFactory the {@link SessionFactory} to build the queries for
+     * @param resultClass    the type of class returned by the queries
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    MariaDbQueryPlans(final @NotNull SessionFactory sessionFactory, final @NotNull Class<T> resultClass) {
+        this.sessionFactory = sessionFactory;
+        this.resultClass = resultClass;
+        this.entityType = sessionFactory.getMetamodel().entity(resultClass);
+        this.persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(resultClass);
+        this.fieldNames = entityType.getAttributes().stream()
+                .map(Attribute::getName)
+                .collect(Collectors.toUnmodifiableSet());
+        this.idField = entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .map(Attribute::getName)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Entity class [%s] has no single id attribute", resultClass.getName())));
+        this.versionField = entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isVersion)
+                .map(Attribute::getName)
+                .findFirst()
+                .orElse(null);
+
+        final CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        final CriteriaQuery<T> criteriaQuery = builder.createQuery(resultClass);
+        criteriaQuery.select(criteriaQuery.from(resultClass));
+        this.allQuery = criteriaQuery;
+    }
+
+    /**
+     * Returns the {@link SessionFactory} the queries have been built for
+     *
+     * @return the {@link SessionFactory}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull SessionFactory sessionFactory() {
+        return sessionFactory;
+    }
+
+    /**
+     * Returns the {@link EntityType} of {@link T} in the metamodel
+     *
+     * @return the {@link EntityType}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull EntityType<T> entityType() {
+        return entityType;
+    }
+
+    /**
+     * Returns the name of the id attribute of {@link T}
+     *
+     * @return the name of the id attribute
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull String idField() {
+        return idField;
+    }
+
+    /**
+     * Returns the name of the version attribute of {@link T}
+     *
+     * @return the name of the version attribute, or {@code null} if {@link T} is not versioned
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Nullable String versionField() {
+        return versionField;
+    }
+
+    /**
+     * Determines whether an entity has never been saved, using Hibernate's unsaved-value rules for its id and version
+     * <p>
+     *     Generated ids, including primitive ones, are compared against their unsaved value and versioned entities
+     *     are judged by their version. Entities with an assigned id and no version cannot be told apart without
+     *     querying the database.
+     * </p>
+     *
+     * @param session the session the entity is about to be saved in
+     * @param entity  the entity to check
+     * @return {@code true} if the entity is new, {@code false} if it has been saved before, or {@code null} if it is unknown
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Nullable Boolean isTransient(final @NotNull Session session, final @NotNull T entity) {
+        return persister.isTransient(entity, session.unwrap(SharedSessionContractImplementor.class));
+    }
+
+    /**
+     * Reads the id of an entity
+     *
+     * @param session the session the entity is about to be saved in
+     * @param entity  the entity to read the id of
+     * @return the id, or {@code null} if none has been assigned yet
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Nullable Object identifier(final @NotNull Session session, final @NotNull T entity) {
+        return persister.getIdentifier(entity, session.unwrap(SharedSessionContractImplementor.class));
+    }
+
+    /**
+     * Checks that an attribute of {@link T} is numeric
+     *
+     * @param field the name of the field
+     * @return whether the Java type of the attribute is a primitive number or a {@link Number}
+     * @throws IllegalArgumentException if {@link T} has no attribute with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    boolean isNumeric(final @NotNull String field) {
+        validate(field);
+        final Class<?> fieldType = ClassUtils.primitiveToWrapper(entityType.getAttribute(field).getJavaType());
+        return Number.class.isAssignableFrom(fieldType);
+    }
+
+    /**
+     * Checks that {@link T} has an attribute with the given name
+     *
+     * @param field the name of the field
+     * @throws IllegalArgumentException if {@link T} has no attribute with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    void validate(final @NotNull String field) {
+        if (!fieldNames.contains(field)) {
+            throw new IllegalArgumentException(String.format("Entity class [%s] has no field '%s'", resultClass.getName(), field));
+        }
+    }
+
+    /**
+     * Checks that {@link T} has a numeric attribute with the given name
+     *
+     * @param field the name of the field
+     * @throws IllegalArgumentException if {@link T} has no numeric attribute with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    void validateNumeric(final @NotNull String field) {
+        if (!isNumeric(field)) {
+            throw new IllegalArgumentException(String.format("Field '%s' of entity class [%s] is not numeric", field, resultClass.getName()));
+        }
+    }
+
+    /**
+     * Creates a {@link Query} selecting all entities
+     *
+     * @param session the session to create the {@link Query} in
+     * @return the {@link Query}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull Query<T> all(final @NotNull SharedSessionContract session) {
+        return session.createQuery(allQuery);
+    }
+
+    /**
+     * Creates a {@link Query} selecting all entities whose field equals the value, or is {@code null} if the value is
+     * {@code null}
+     *
+     * @param session the session to create the {@link Query} in
+     * @param field   the name of the field to filter for
+     * @param value   the value of the field to filter for
+     * @return the {@link Query} with the value bound
+     * @throws IllegalArgumentException if {@link T} has no attribute with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull Query<T> findBy(final @NotNull SharedSessionContract session, final @NotNull String field, final @Nullable Object value) {
+        validate(field);
+        final FieldQuery<T> fieldQuery = fieldQueries.computeIfAbsent(
+                field,
+                key -> buildFieldQuery(field, resultClass, (criteriaQuery, root) -> criteriaQuery.select(root))
+        );
+        return fieldQuery.create(session, value);
+    }
+
+    /**
+     * Creates a {@link Query} selecting all entities whose field equals one of the values
+     *
+     * @param session the session to create the {@link Query} in
+     * @param field   the name of the field to filter for
+     * @param values  the values of the field to filter for
+     * @return the {@link Query} with the values bound
+     * @throws IllegalArgumentException if {@link T} has no attribute with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @NotNull Query<T> findIn(final @NotNull SharedSessionContract session, final @NotNull String field, final @NotNull Collection<?> values) {
+        validate(field);
+        final InQuery<T> inQuery = inQueries.computeIfAbsent(field, key -> {
+            final CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+            final ParameterExpression<Collection> parameter = builder.parameter(Collection.class, field);
+            final CriteriaQuery<T> criteriaQuery = builder.createQuery(resultClass);
+            final Root<T> root = criteriaQuery.from(resultClass);
+            criteriaQuery.select(root).where(root.get(field).in((ParameterExpression) parameter));
+            return new InQuery<>(criteriaQuery, field);
+        });
+        return session.createQuery(inQuery.query())
+                .setParameterList(inQuery.parameterName(), values);
+    }
+
+    /**
+     * Creates a {@link Query} counting all entities whose field equals the value, or is {@code null} if the value is
+     * {@code null}
+     *
+     * @param session the session to create the {@link Query} in
+     * @param field   the name of the field to filter for
+     * @param value   the value of the field to filter for
+     * @return the {@link Query} with the value bound
+     * @throws IllegalArgumentException if {@link T} has no attribute with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull Query<Long> countBy(final @NotNull SharedSessionContract session, final @NotNull String field, final @Nullable Object value) {
+        validate(field);
+        final FieldQuery<Long> fieldQuery = countQueries.computeIfAbsent(
+                field,
+                key -> buildFieldQuery(field, Long.class, (criteriaQuery, root) -> criteriaQuery.select(sessionFactory.getCriteriaBuilder().count(root)))
+        );
+        return fieldQuery.create(session, value);
+    }
+
+    /**
+     * Creates a {@link Query} selecting the id of at most one entity whose field equals the value, or is {@code null}
+     * if the value is {@code null}
+     *
+     * @param session the session to create the {@link Query} in
+     * @param field   the name of the field to filter for
+     * @param value   the value of the field to filter for
+     * @return the {@link Query} with the value bound, limited to one row
+     * @throws IllegalArgumentException if {@link T} has no attribute with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull Query<Object> existsBy(final @NotNull SharedSessionContract session, final @NotNull String field, final @Nullable Object value) {
+        validate(field);
+        final FieldQuery<Object> fieldQuery = existsQueries.computeIfAbsent(
+                field,
+                key -> buildFieldQuery(field, Object.class, (criteriaQuery, root) -> criteriaQuery.select(root.get(idField)))
+        );
+        return fieldQuery.create(session, value)
+                .setMaxResults(1);
+    }
+
+    /**
+     * Creates a {@link Query} computing an aggregate over a numeric field of all entities
+     *
+     * @param session   the session to create the {@link Query} in
+     * @param aggregate the {@link Aggregate} function to compute
+     * @param field     the name of the numeric field to aggregate
+     * @return the {@link Query} selecting the computed value
+     * @throws IllegalArgumentException if {@link T} has no numeric attribute with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull Query<Number> aggregate(final @NotNull SharedSessionContract session, final @NotNull Aggregate aggregate, final @NotNull String field) {
+        validateNumeric(field);
+        final CriteriaQuery<Number> criteriaQuery = (CriteriaQuery<Number>) aggregateQueries.computeIfAbsent(new AggregateKey(aggregate, field, null), key -> {
+            final CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+            final CriteriaQuery<Number> query = builder.createQuery(Number.class);
+            final Root<T> root = query.from(resultClass);
+            return query.select(aggregateExpression(builder, aggregate, root.get(field)));
+        });
+        return session.createQuery(criteriaQuery);
+    }
+
+    /**
+     * Creates a {@link Query} computing an aggregate over a numeric field of all entities for every value of another
+     * field
+     * <p>
+     *     Every {@link Tuple} holds the value of the group by field at index {@code 0} and the computed value at index
+     *     {@code 1}.
+     * </p>
+     *
+     * @param session      the session to create the {@link Query} in
+     * @param aggregate    the {@link Aggregate} function to compute
+     * @param field        the name of the numeric field to aggregate
+     * @param groupByField the name of the field to group by
+     * @return the {@link Query} selecting one {@link Tuple} per group
+     * @throws IllegalArgumentException if {@link T} has no numeric attribute with the given name or no attribute with the group by name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull Query<Tuple> aggregateGrouped(final @NotNull SharedSessionContract session, final @NotNull Aggregate aggregate, final @NotNull String field, final @NotNull String groupByField) {
+        validateNumeric(field);
+        validate(groupByField);
+        final CriteriaQuery<Tuple> criteriaQuery = (CriteriaQuery<Tuple>) aggregateQueries.computeIfAbsent(new AggregateKey(aggregate, field, groupByField), key -> {
+            final CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+            final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+            final Root<T> root = query.from(resultClass);
+            return query.multiselect(root.get(groupByField), aggregateExpression(builder, aggregate, root.get(field)))
+                    .groupBy(root.get(groupByField));
+        });
+        return session.createQuery(criteriaQuery);
+    }
+
+    /**
+     * Creates the expression computing an aggregate function
+     *
+     * @param builder   the {@link CriteriaBuilder} to create the expression with
+     * @param aggregate the {@link Aggregate} function to compute
+     * @param path      the {@link Path} of the numeric field to aggregate
+     * @return the aggregate {@link Expression}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull Expression<? extends Number> aggregateExpression(final @NotNull CriteriaBuilder builder, final @NotNull Aggregate aggregate, final @NotNull Path<Number> path) {
+        return switch (aggregate) {
+            case SUM -> builder.sum(path);
+            case MIN -> builder.min(path);
+            case MAX -> builder.max(path);
+            case AVG -> builder.avg(path);
+        };
+    }
+
+    /**
+     * Creates a {@link Query} selecting the components of a record from all entities whose field equals the value, or
+     * is {@code null} if the value is {@code null}
+     *
+     * @param session    the session to create the {@link Query} in
+     * @param field      the name of the field to filter for
+     * @param value      the value of the field to filter for
+     * @param projection the {@link Record} class whose component names are the entity fields to select
+     * @param <P>        the type of the projection
+     * @return the {@link Query} with the value bound
+     * @throws IllegalArgumentException if {@link T} has no attribute with the given name or with the name of a component
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @SuppressWarnings("unchecked")
+    <P extends Record> @NotNull Query<P> projectBy(final @NotNull SharedSessionContract session, final @NotNull String field, final @Nullable Object value, final @NotNull Class<P> projection) {
+        validate(field);
+        final List<String> components = Projections.componentNames(projection);
+        components.forEach(this::validate);
+
+        final FieldQuery<P> fieldQuery = (FieldQuery<P>) projectionQuery(
+                new ProjectionKey(field, projection),
+                () -> buildFieldQuery(field, projection, (criteriaQuery, root) -> criteriaQuery.select(
+                        sessionFactory.getCriteriaBuilder().construct(projection, selections(root, components))
+                ))
+        );
+        return fieldQuery.create(session, value);
+    }
+
+    /**
+     * Creates a {@link Query} selecting the given fields as {@link Tuple} from all entities whose field equals the
+     * value, or is {@code null} if the value is {@code null}
+     * <p>
+     *     Every element of the {@link Tuple} has the name of its field as alias.
+     * </p>
+     *
+     * @param session the session to create the {@link Query} in
+     * @param field   the name of the field to filter for
+     * @param value   the value of the field to filter for
+     * @param fields  the names of the entity fields to select
+     * @return the {@link Query} with the value bound
+     * @throws IllegalArgumentException if {@link T} has no attribute with the given name or one of the selected names
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull Query<Tuple> selectBy(final @NotNull SharedSessionContract session, final @NotNull String field, final @Nullable Object value, final @NotNull List<String> fields) {
+        validate(field);
+        fields.forEach(this::validate);
+
+        final FieldQuery<Tuple> fieldQuery = (FieldQuery<Tuple>) projectionQuery(
+                new ProjectionKey(field, List.copyOf(fields)),
+                () -> buildFieldQuery(field, Tuple.class, (criteriaQuery, root) -> criteriaQuery.multiselect(selections(root, fields)))
+        );
+        return fieldQuery.create(session, value);
+    }
+
+    /**
+     * Returns the cached projection query of a key, building it if it is not cached yet
+     * <p>
+     *     Once {@link MariaDbQueryPlans#MAX_PROJECTION_QUERIES} queries are cached, queries of new keys are built for
+     *     every call instead of being cached.
+     * </p>
+     *
+     * @param key   the {@link ProjectionKey} of the query
+     * @param build builds the query
+     * @return the cached or newly built {@link FieldQuery}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull FieldQuery<?> projectionQuery(final @NotNull ProjectionKey key, final @NotNull Supplier<FieldQuery<?>> build) {
+        final FieldQuery<?> cached = projectionQueries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final FieldQuery<?> built = build.get();
+        if (projectionQueries.size() >= MAX_PROJECTION_QUERIES) {
+            return built;
+        }
+        final FieldQuery<?> raced = projectionQueries.putIfAbsent(key, built);
+        return raced != null ? raced : built;
+    }
+
+    /**
+     * Creates aliased selections of entity fields
+     *
+     * @param root   the {@link Root} to select from
+     * @param fields the names of the fields to select
+     * @return the {@link Selection} objects in the order of the given fields
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Selection<?>[] selections(final @NotNull Root<T> root, final @NotNull List<String> fields) {
+        return fields.stream()
+                .map(name -> root.get(name).alias(name))
+                .toArray(Selection<?>[]::new);
+    }
+
+    /**
+     * Builds the queries filtering by a field
+     *
+     * @param field      the name of the field
+     * @param resultType the result type of the queries
+     * @param selection  applies the selection to a query
+     * @param <R>        the result type of the queries
+     * @return the built {@link FieldQuery}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @SuppressWarnings("unchecked")
+    private <R> @NotNull FieldQuery<R> buildFieldQuery(final @NotNull String field, final @NotNull Class<R> resultType, final @NotNull BiConsumer<CriteriaQuery<R>, Root<T>> selection) {
+        final CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        final Class<Object> fieldType = (Class<Object>) ClassUtils.primitiveToWrapper(entityType.getAttribute(field).getJavaType());
+        final ParameterExpression<Object> parameter = builder.parameter(fieldType, field);
+
+        final CriteriaQuery<R> equalQuery = builder.createQuery(resultType);
+        final Root<T> equalRoot = equalQuery.from(resultClass);
+        selection.accept(equalQuery, equalRoot);
+        equalQuery.where(builder.equal(equalRoot.get(field), parameter));
+
+        final CriteriaQuery<R> isNullQuery = builder.createQuery(resultType);
+        final Root<T> isNullRoot = isNullQuery.from(resultClass);
+        selection.accept(isNullQuery, isNullRoot);
+        isNullQuery.where(builder.isNull(isNullRoot.get(field)));
+
+        return new FieldQuery<>(equalQuery, parameter, isNullQuery);
+    }
+
+    /**
+     * The cached queries filtering by one field
+     *
+     * @param equalQuery  the query selecting all entities whose field equals the parameter
+     * @param parameter   the parameter of {@code equalQuery}
+     * @param isNullQuery the query selecting all entities whose field is {@code null}
+     * @param <R>         the result type of the queries
+     */
+    private record FieldQuery<R>(@NotNull CriteriaQuery<R> equalQuery, @NotNull ParameterExpression<Object> parameter, @NotNull CriteriaQuery<R> isNullQuery) {
+
+        /**
+         * Creates a {@link Query} from the cached queries matching the value
+         *
+         * @param session the session to create the {@link Query} in
+         * @param value   the value of the field to filter for, {@code null} uses the {@code isNullQuery}
+         * @return the {@link Query} with the value bound
+         */
+        private @NotNull Query<R> create(final @NotNull SharedSessionContract session, final @Nullable Object value) {
+            if (value == null) {
+                return session.createQuery(isNullQuery);
+            }
+            return session.createQuery(equalQuery)
+                    .setParameter(parameter, value);
+        }
+    }
+
+    /**
+     * The cached query filtering by one field matching one of multiple values
+     *
+     * @param query         the query selecting all entities whose field is contained in the parameter
+     * @param parameterName the name of the multi-valued parameter of {@code query}
+     * @param <T>           the class type of the entity
+     */
+    private record InQuery<T>(@NotNull CriteriaQuery<T> query, @NotNull String parameterName) {
+    }
+
+    /**
+     * Identifies a cached projection query
+     *
+     * @param field      the name of the field to filter for
+     * @param projection the projection {@link Class} or the {@link List} of selected field names
+     */
+    private record ProjectionKey(@NotNull String field, @NotNull Object projection) {
+    }
+
+    /**
+     * Identifies a cached aggregate query
+     *
+     * @param aggregate    the {@link Aggregate} function
+     * @param field        the name of the aggregated field
+     * @param groupByField the name of the field to group by, or {@code null} if the query is not grouped
+     */
+    private record AggregateKey(@NotNull Aggregate aggregate, @NotNull String field, @Nullable String groupByField) {
+    }
+}
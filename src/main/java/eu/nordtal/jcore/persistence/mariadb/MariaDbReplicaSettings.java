@@ -0,0 +1,55 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * This record holds the settings for routing reads to the replicas of a MariaDB connection
+ * <p>
+ *     Replicas are only used if replica URIs are given to the {@link MariaDbSessionFactoryConstructor}. Instances are
+ *     derived from {@link MariaDbReplicaSettings#DEFAULT} using the generated {@code with...} methods, e.g.
+ *     {@code MariaDbReplicaSettings.DEFAULT.withSelection(Selection.LEAST_CONNECTIONS)}.
+ * </p>
+ *
+ * @param selection         the {@link Selection} strategy picking the replica for a read
+ * @param unhealthyCooldown the time a replica is taken out of rotation after a connection failure
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see ReadYourWrites
+ */
+@With
+public record MariaDbReplicaSettings(@NotNull Selection selection, @NotNull Duration unhealthyCooldown) {
+
+    /**
+     * The default settings used if none are specified
+     */
+    public static final MariaDbReplicaSettings DEFAULT = new MariaDbReplicaSettings(Selection.ROUND_ROBIN, Duration.ofSeconds(30));
+
+    /**
+     * Validates the settings
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbReplicaSettings {
+        if (unhealthyCooldown.isNegative()) {
+            throw new IllegalArgumentException(String.format("Invalid unhealthy cooldown [%s]", unhealthyCooldown));
+        }
+    }
+
+    /**
+     * The strategies picking the replica for a read
+     */
+    public enum Selection {
+
+        /**
+         * Picks the healthy replicas in turn
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Picks the healthy replica with the fewest connections in use
+         */
+        LEAST_CONNECTIONS
+    }
+}
@@ -1,21 +1,57 @@
 package eu.nordtal.jcore.persistence.mariadb;
 
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import lombok.AccessLevel;
-import lombok.Getter;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.exception.JDBCConnectionException;
+import org.hibernate.query.Query;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import eu.nordtal.jcore.persistence.common.Aggregate;
+import eu.nordtal.jcore.persistence.common.EntityFields;
 import eu.nordtal.jcore.persistence.common.EntityRepository;
+import eu.nordtal.jcore.persistence.common.Page;
+import eu.nordtal.jcore.persistence.common.RequestOrder;
+import eu.nordtal.jcore.persistence.common.Slice;
 
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class implements abstract database actions for the MariaDB entities of this project
+ * <p>
+ *     Writes always go to the primary. Reads go to a replica if replica uris are configured, see
+ *     {@link MariaDbSharedSessionFactory#getForRead()} and {@link ReadYourWrites}.
+ * </p>
  *
  * @param <T> the class type of the entity the repository is handling
  * @author Till Hoffmann / @tillhfm - 18.04.2025
@@ -29,24 +65,307 @@ public abstract class MariaDbRepository<T> implements EntityRepository<T> {
     private final Class<T> resultClass;
 
     /**
-     * Holds this instance's {@link SessionFactory} for creating database sessions
+     * Holds the {@link MariaDbSharedSessionFactory} this repository shares with all others of the same database connection
      */
-    @Getter(AccessLevel.PROTECTED)
     @NotNull
-    private final SessionFactory sessionFactory;
+    private final MariaDbSharedSessionFactory sharedSessionFactory;
+
+    /**
+     * The cached queries for the current {@link SessionFactory} of the primary and every replica, built on first use
+     */
+    private final Map<SessionFactory, MariaDbQueryPlans<T>> queryPlans = new ConcurrentHashMap<>();
 
     /**
      * Default constructor that sets the repository up for database operation
+     * <p>
+     *     The entity class is registered on the {@link MariaDbSharedSessionFactory} of the database connection, which
+     *     connects to the database on the first database operation, or right away on a background thread once
+     *     {@link MariaDbSessionFactoryRegistry#bootstrap(MariaDbSessionFactoryConstructor, Class[])} is called.
+     * </p>
      *
      * @param sessionFactoryConstructor the {@link MariaDbSessionFactoryConstructor} providing credentials for the database connection
-     * @throws org.hibernate.HibernateException in case an error occurs while connecting to the database
-     * @author Till Hoffmann / @tillhfm - 18.04.2025®
+     * @author Till Hoffmann / @tillhfm - 18.04.2025
+     * @see MariaDbSessionFactoryRegistry
      */
     protected MariaDbRepository(final @NotNull MariaDbSessionFactoryConstructor<T> sessionFactoryConstructor) {
-        this.sessionFactory = sessionFactoryConstructor.construct();
+        this.sharedSessionFactory = MariaDbSessionFactoryRegistry.register(sessionFactoryConstructor);
         this.resultClass = sessionFactoryConstructor.entityClass();
     }
 
+    /**
+     * Returns a future signalling that this repository is connected to the database
+     * <p>
+     *     The future is shared by all repositories of the database connection, see
+     *     {@link MariaDbSharedSessionFactory#ready()}. Database operations may be issued before it completes, they
+     *     build the {@link SessionFactory} or wait for the running build.
+     * </p>
+     *
+     * @return a {@link CompletableFuture} completed when the repository is ready
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull CompletableFuture<Void> ready() {
+        return sharedSessionFactory.ready();
+    }
+
+    /**
+     * Returns the shared {@link SessionFactory} for creating database sessions
+     *
+     * @return the {@link SessionFactory} of this repository's database connection
+     * @throws org.hibernate.HibernateException in case an error occurs while connecting to the database
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    protected @NotNull SessionFactory getSessionFactory() {
+        return sharedSessionFactory.get();
+    }
+
+    /**
+     * Returns the entity class handled by this repository
+     *
+     * @return the {@link Class} of {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull Class<T> getEntityClass() {
+        return resultClass;
+    }
+
+    /**
+     * Returns the settings of this repository's database connection
+     *
+     * @return the {@link MariaDbSettings} of the shared database connection
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull MariaDbSettings getSettings() {
+        return sharedSessionFactory.settings();
+    }
+
+    /**
+     * Returns the permits limiting the operations run against this repository's database connection at the same time
+     *
+     * @return the {@link Semaphore} shared by all repositories of the same connection
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see MariaDbSharedSessionFactory#operationPermits()
+     */
+    public @NotNull Semaphore getOperationPermits() {
+        return sharedSessionFactory.operationPermits();
+    }
+
+    /**
+     * Returns a snapshot of the Hibernate statistics of this repository's database connection
+     * <p>
+     *     The counters are only collected if {@link MariaDbSettings#generateStatistics()} is enabled and are shared
+     *     by all repositories of the same connection.
+     * </p>
+     *
+     * @return the {@link MariaDbStatistics} of the shared database connection
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull MariaDbStatistics getStatistics() {
+        return MariaDbStatistics.of(getSessionFactory().getStatistics());
+    }
+
+    /**
+     * Returns the cached queries for a {@link SessionFactory}, building them if the {@link SessionFactory} has been
+     * built or rebuilt since they were last built
+     *
+     * @param sessionFactory the {@link SessionFactory} of the primary or a replica
+     * @return the {@link MariaDbQueryPlans} of this repository for the {@link SessionFactory}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull MariaDbQueryPlans<T> plans(final @NotNull SessionFactory sessionFactory) {
+        final MariaDbQueryPlans<T> plans = queryPlans.get(sessionFactory);
+        if (plans != null) {
+            return plans;
+        }
+        queryPlans.keySet().removeIf(SessionFactory::isClosed);
+        return queryPlans.computeIfAbsent(sessionFactory, key -> new MariaDbQueryPlans<>(sessionFactory, resultClass));
+    }
+
+    /**
+     * Runs a read on the {@link SessionFactory} chosen by {@link MariaDbSharedSessionFactory#getForRead()}
+     * <p>
+     *     If the read fails to connect to a replica, the replica is taken out of rotation and the read is retried once
+     *     on the primary.
+     * </p>
+     *
+     * @param operation the read to run with the {@link MariaDbQueryPlans} of the chosen {@link SessionFactory}
+     * @param <R>       the result type of the read
+     * @return the result of the read
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private <R> R read(final @NotNull Function<MariaDbQueryPlans<T>, R> operation) {
+        final SessionFactory sessionFactory = sharedSessionFactory.getForRead();
+        try {
+            return operation.apply(plans(sessionFactory));
+        } catch (RuntimeException e) {
+            if (!isConnectionFailure(e) || !sharedSessionFactory.reportFailure(sessionFactory)) {
+                throw e;
+            }
+            return operation.apply(plans(getSessionFactory()));
+        }
+    }
+
+    /**
+     * Opens a {@link Stream} on the {@link SessionFactory} chosen by {@link MariaDbSharedSessionFactory#getForRead()}
+     * <p>
+     *     Like {@link MariaDbRepository#read(Function)}, the stream is opened again on the primary if opening it fails to
+     *     connect to a replica. As rows are fetched lazily, the same applies to a connection failure while fetching the
+     *     first entity. Once an entity has been passed on, a failure is rethrown, as reopening the stream would pass on
+     *     entities twice.
+     * </p>
+     *
+     * @param operation opens the {@link Stream} with the {@link MariaDbQueryPlans} of the chosen {@link SessionFactory}
+     * @return the opened {@link Stream}, which has to be closed
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Stream<T> readStream(final @NotNull Function<MariaDbQueryPlans<T>, Stream<T>> operation) {
+        final SessionFactory sessionFactory = sharedSessionFactory.getForRead();
+        final Stream<T> opened;
+        try {
+            opened = operation.apply(plans(sessionFactory));
+        } catch (RuntimeException e) {
+            if (!isConnectionFailure(e) || !sharedSessionFactory.reportFailure(sessionFactory)) {
+                throw e;
+            }
+            return operation.apply(plans(getSessionFactory()));
+        }
+
+        final class FailoverSpliterator extends Spliterators.AbstractSpliterator<T> {
+            private Stream<T> stream = opened;
+            private Spliterator<T> source = opened.spliterator();
+            private boolean started;
+
+            private FailoverSpliterator() {
+                super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            }
+
+            @Override
+            public boolean tryAdvance(final @NotNull Consumer<? super T> action) {
+                if (started) {
+                    return source.tryAdvance(action);
+                }
+                try {
+                    return source.tryAdvance(entity -> {
+                        started = true;
+                        action.accept(entity);
+                    });
+                } catch (RuntimeException e) {
+                    if (started || !isConnectionFailure(e) || !sharedSessionFactory.reportFailure(sessionFactory)) {
+                        throw e;
+                    }
+                    closeQuietly(stream);
+                    started = true;
+                    stream = operation.apply(plans(getSessionFactory()));
+                    source = stream.spliterator();
+                    return source.tryAdvance(action);
+                }
+            }
+
+            private void close() {
+                stream.close();
+            }
+        }
+
+        final FailoverSpliterator spliterator = new FailoverSpliterator();
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * Closes a {@link Stream} whose connection has failed, ignoring further errors of the broken connection
+     *
+     * @param stream the {@link Stream} to close
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static void closeQuietly(final @NotNull Stream<?> stream) {
+        try {
+            stream.close();
+        } catch (RuntimeException ignored) {
+            // The connection is already broken, so only the session is left to release
+        }
+    }
+
+    /**
+     * Checks whether an exception has been caused by a failed or lost database connection
+     *
+     * @param exception the exception to check
+     * @return {@code true} if the exception or one of its causes is a connection failure
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static boolean isConnectionFailure(final @NotNull Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JDBCConnectionException
+                    || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Wraps an exception of a repository operation for rethrowing
+     * <p>
+     *     A {@link StatementBudgetExceededException} is returned unwrapped, also if Hibernate has wrapped it, so callers
+     *     and tests can catch it directly.
+     * </p>
+     *
+     * @param exception the exception thrown by the operation
+     * @return the {@link RuntimeException} to throw
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull RuntimeException unchecked(final @NotNull Exception exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StatementBudgetExceededException budgetExceeded) {
+                return budgetExceeded;
+            }
+        }
+        return new RuntimeException(exception);
+    }
+
+    /**
+     * Opens a session, inspecting its statements if {@link MariaDbSettings#diagnostics()} are enabled
+     *
+     * @param sessionFactory the {@link SessionFactory} to open the session with
+     * @param operation      the name of the calling repository method, used for logging
+     * @param arguments      the arguments of the calling repository method, used for logging
+     * @return the opened {@link Session}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see MariaDbSessionDiagnostics
+     */
+    private @NotNull Session openSession(final @NotNull SessionFactory sessionFactory, final @NotNull String operation, final @Nullable Object... arguments) {
+        final MariaDbDiagnostics diagnostics = sharedSessionFactory.settings().diagnostics();
+        if (!diagnostics.enabled()) {
+            return sessionFactory.openSession();
+        }
+        final MariaDbSessionDiagnostics sessionDiagnostics = new MariaDbSessionDiagnostics(diagnostics, resultClass, operation, arguments);
+        return sessionFactory.withOptions()
+                .statementInspector(sessionDiagnostics)
+                .eventListeners(sessionDiagnostics)
+                .openSession();
+    }
+
+    /**
+     * Opens a session for a read
+     * <p>
+     *     If {@link MariaDbSettings#readOnlyReads()} is enabled, the session loads all entities read-only and never
+     *     flushes, so Hibernate keeps no snapshot copies for dirty checking and the entities are returned detached
+     *     once the session is closed. Changes made to them are only written by {@link MariaDbRepository#save(Object)}.
+     * </p>
+     *
+     * @param sessionFactory the {@link SessionFactory} to open the session with
+     * @param operation      the name of the calling repository method, used for logging
+     * @param arguments      the arguments of the calling repository method, used for logging
+     * @return the opened {@link Session}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Session openReadSession(final @NotNull SessionFactory sessionFactory, final @NotNull String operation, final @Nullable Object... arguments) {
+        final Session session = openSession(sessionFactory, operation, arguments);
+        if (sharedSessionFactory.settings().readOnlyReads()) {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+        }
+        return session;
+    }
+
     /**
      * Creates or updates an entity to the database
      *
@@ -57,7 +376,7 @@ public abstract class MariaDbRepository<T> implements EntityRepository<T> {
     @Override
     public @NotNull T save(final @NotNull T entity) {
         Transaction transaction = null;
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = openSession(getSessionFactory(), "save", entity)) {
             transaction = session.beginTransaction();
             session.merge(entity);
             transaction.commit();
@@ -65,30 +384,126 @@ public abstract class MariaDbRepository<T> implements EntityRepository<T> {
             if (transaction != null) {
                 transaction.rollback();
             }
-            throw new RuntimeException(e);
+            throw unchecked(e);
         }
         return entity;
     }
 
+    /**
+     * Creates or updates multiple entities to the database in one session and transaction
+     * <p>
+     *     The entities are saved in chunks of {@link MariaDbSettings#jdbcBatchSize()}. New entities, as told by
+     *     Hibernate's unsaved-value rules for generated ids and versions, are persisted without a lookup. All other
+     *     entities of a chunk are loaded with one {@code IN} query, so entities with an assigned id that do not exist
+     *     yet are persisted as well and the existing ones are merged without a select each. The persistence context is
+     *     flushed and cleared after every chunk, so the statements are sent to the database in JDBC batches and memory
+     *     usage stays bounded for large collections.
+     * </p>
+     *
+     * @param entities the entities of type {@link T} to be saved to the database
+     * @return the saved entities of type {@link T} in the order of the given {@link Collection}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> saveAll(final @NotNull Collection<T> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        final MariaDbQueryPlans<T> plans = plans(getSessionFactory());
+        final int batchSize = sharedSessionFactory.settings().jdbcBatchSize();
+        Transaction transaction = null;
+        try (Session session = openSession(plans.sessionFactory(), "saveAll", entities.size())) {
+            transaction = session.beginTransaction();
+            final List<T> chunk = new ArrayList<>(Math.min(batchSize, entities.size()));
+            for (T entity : entities) {
+                chunk.add(entity);
+                if (chunk.size() == batchSize) {
+                    saveChunk(session, plans, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                saveChunk(session, plans, chunk);
+            }
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw unchecked(e);
+        }
+        return new ArrayList<>(entities);
+    }
+
+    /**
+     * Persists the new and merges the existing entities of a chunk, then flushes and clears the session
+     *
+     * @param session the session to save the entities in
+     * @param plans   the {@link MariaDbQueryPlans} telling new entities apart
+     * @param chunk   the entities to save
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void saveChunk(final @NotNull Session session, final @NotNull MariaDbQueryPlans<T> plans, final @NotNull List<T> chunk) {
+        final List<Boolean> transientStates = new ArrayList<>(chunk.size());
+        final List<Object> lookupIds = new ArrayList<>();
+        for (T entity : chunk) {
+            final Object id = plans.identifier(session, entity);
+            final Boolean isTransient = id == null ? Boolean.TRUE : plans.isTransient(session, entity);
+            transientStates.add(isTransient);
+            if (!Boolean.TRUE.equals(isTransient)) {
+                lookupIds.add(id);
+            }
+        }
+
+        // Load all possibly existing entities at once, so merging them does not select each one
+        final Set<Object> existingIds = new HashSet<>();
+        if (!lookupIds.isEmpty()) {
+            for (T loaded : session.byMultipleIds(resultClass).withBatchSize(chunk.size()).multiLoad(lookupIds)) {
+                if (loaded != null) {
+                    existingIds.add(plans.identifier(session, loaded));
+                }
+            }
+        }
+
+        for (int i = 0; i < chunk.size(); i++) {
+            final T entity = chunk.get(i);
+            final Boolean isTransient = transientStates.get(i);
+            final boolean persist = isTransient == null ? !existingIds.contains(plans.identifier(session, entity)) : isTransient;
+            if (persist) {
+                session.persist(entity);
+            } else {
+                session.merge(entity);
+            }
+        }
+        session.flush();
+        session.clear();
+    }
+
     /**
      * Finds the first entity of type {@link T} from the database by entry field name and value
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null}.
+     * </p>
      *
      * @param field the name of the field to filter for
      * @param value the value of the field to filter for
      * @return the first entity of type {@link T} or {@code null} if none was found
+     * @throws IllegalArgumentException if the entity has no field with the given name
      * @author Till Hoffmann / @tillhfm - 18.04.2025
      */
     @Override
     public @Nullable T findFirst(final @NotNull String field, @Nullable final Object value) {
-        try (Session session = sessionFactory.openSession()) {
-            CriteriaBuilder builder = session.getCriteriaBuilder();
-            CriteriaQuery<T> criteriaQuery = builder.createQuery(resultClass);
-            Root<T> root = criteriaQuery.from(resultClass);
-            criteriaQuery.select(root).where(builder.equal(root.get(field), value));
-            return session.createQuery(criteriaQuery).uniqueResult();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return read(plans -> {
+            plans.validate(field);
+            try (Session session = openReadSession(plans.sessionFactory(), "findFirst", field, value)) {
+                return plans.findBy(session, field, value)
+                        .setMaxResults(1)
+                        .uniqueResult();
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
     }
 
     /**
@@ -107,25 +522,230 @@ public abstract class MariaDbRepository<T> implements EntityRepository<T> {
         return findFirst("id", value);
     }
 
+    /**
+     * Finds all entities of type {@link T} from the database by their ids using Hibernate's multi-load
+     * <p>
+     *     The ids are loaded with {@code IN} queries of up to {@link MariaDbSettings#fetchSize()} ids each. Ids without
+     *     an entity are left out, all other entities are returned in the order of the given ids.
+     * </p>
+     *
+     * @param ids the ids to look up, of the same type as the id field
+     * @return the found entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> findAllByIds(final @NotNull Collection<?> ids) {
+        return List.copyOf(findAllByIdsAsMap(ids).values());
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by their ids using Hibernate's multi-load and maps them
+     * by id
+     * <p>
+     *     The ids are loaded with {@code IN} queries of up to {@link MariaDbSettings#fetchSize()} ids each.
+     * </p>
+     *
+     * @param ids the ids to look up, of the same type as the id field
+     * @param <K> the type of the ids
+     * @return a {@link Map} of the found ids and entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public <K> @NotNull Map<K, T> findAllByIdsAsMap(final @NotNull Collection<K> ids) {
+        final List<K> idList = List.copyOf(ids);
+        final List<T> entities = multiLoad(idList);
+        final Map<K, T> result = new LinkedHashMap<>();
+        for (int i = 0; i < idList.size(); i++) {
+            final T entity = entities.get(i);
+            if (entity != null) {
+                result.put(idList.get(i), entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads entities by id in chunks of {@link MariaDbSettings#fetchSize()} ids
+     *
+     * @param ids the ids to load
+     * @return the entities in the order of the given ids, {@code null} for ids without an entity
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull List<T> multiLoad(final @NotNull List<?> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return read(plans -> {
+            try (Session session = openReadSession(plans.sessionFactory(), "findAllByIds", ids.size())) {
+                return session.byMultipleIds(resultClass)
+                        .enableOrderedReturn(true)
+                        .withBatchSize(sharedSessionFactory.settings().fetchSize())
+                        .multiLoad(ids);
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
     /**
      * Finds all entities of type {@link T} from the database by entry field name and value
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null}.
+     * </p>
      *
      * @param field the name of the field to filter for
      * @param value the value of the field to filter for
      * @return all entities of type {@link T} contained in a {@link List} or an empty {@link List} if none were found
+     * @throws IllegalArgumentException if the entity has no field with the given name
      * @author Till Hoffmann / @tillhfm - 18.04.2025
      */
     @Override
     public @NotNull List<T> findAll(final @NotNull String field, @Nullable final Object value) {
-        try (Session session = sessionFactory.openSession()) {
-            CriteriaBuilder builder = session.getCriteriaBuilder();
-            CriteriaQuery<T> criteriaQuery = builder.createQuery(resultClass);
-            Root<T> root = criteriaQuery.from(resultClass);
-            criteriaQuery.select(root).where(builder.equal(root.get(field), value));
-            return session.createQuery(criteriaQuery).getResultList();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        return read(plans -> {
+            plans.validate(field);
+            try (Session session = openReadSession(plans.sessionFactory(), "findAll", field, value)) {
+                return plans.findBy(session, field, value).getResultList();
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database whose field equals one of the given values
+     * <p>
+     *     The values are queried with {@code IN} queries of up to {@link MariaDbSettings#fetchSize()} values each in
+     *     one session. The entities are returned in the order of the values they matched.
+     * </p>
+     *
+     * @param field  the name of the field to filter for
+     * @param values the values of the field to filter for, of the same type as the field
+     * @return all matching entities of type {@link T} contained in a {@link List} or an empty {@link List} if none were found
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> findAllIn(final @NotNull String field, final @NotNull Collection<?> values) {
+        return read(plans -> {
+            plans.validate(field);
+            final List<?> valueList = values.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            if (valueList.isEmpty()) {
+                return List.of();
+            }
+
+            final int chunkSize = sharedSessionFactory.settings().fetchSize();
+            final List<T> entities = new ArrayList<>();
+            try (Session session = openReadSession(plans.sessionFactory(), "findAllIn", field, valueList.size())) {
+                for (int from = 0; from < valueList.size(); from += chunkSize) {
+                    final List<?> chunk = valueList.subList(from, Math.min(from + chunkSize, valueList.size()));
+                    entities.addAll(plans.findIn(session, field, chunk).getResultList());
+                }
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+            return RequestOrder.sort(valueList, entities, entity -> EntityFields.read(entity, field));
+        });
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database matching all given field names and values
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null}. An empty {@link Map} matches all
+     *     entities.
+     * </p>
+     *
+     * @param criteria the names and values of the fields to filter for
+     * @return all matching entities of type {@link T} contained in a {@link List} or an empty {@link List} if none were found
+     * @throws IllegalArgumentException if the entity has no field with one of the given names
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> findAll(final @NotNull Map<String, Object> criteria) {
+        if (criteria.isEmpty()) {
+            return all();
         }
+        return read(plans -> {
+            criteria.keySet().forEach(plans::validate);
+
+            try (Session session = openReadSession(plans.sessionFactory(), "findAll", criteria)) {
+                CriteriaBuilder builder = session.getCriteriaBuilder();
+                CriteriaQuery<T> criteriaQuery = builder.createQuery(resultClass);
+                Root<T> root = criteriaQuery.from(resultClass);
+                final Predicate[] predicates = criteria.entrySet().stream()
+                        .map(entry -> entry.getValue() == null
+                                ? builder.isNull(root.get(entry.getKey()))
+                                : builder.equal(root.get(entry.getKey()), entry.getValue()))
+                        .toArray(Predicate[]::new);
+                criteriaQuery.select(root).where(predicates);
+                return session.createQuery(criteriaQuery).getResultList();
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by entry field name and value and selects only the
+     * columns of the fields needed for a projection
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null}.
+     * </p>
+     *
+     * @param field      the name of the field to filter for
+     * @param value      the value of the field to filter for
+     * @param projection the {@link Record} class to map the selected columns into
+     * @param <P>        the type of the projection
+     * @return the projections of all matching entities contained in a {@link List} or an empty {@link List} if none were found
+     * @throws IllegalArgumentException if the entity has no field with the given name or with the name of a component
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public <P extends Record> @NotNull List<P> findAll(final @NotNull String field, final @Nullable Object value, final @NotNull Class<P> projection) {
+        return read(plans -> {
+            try (Session session = openReadSession(plans.sessionFactory(), "findAll", field, value, projection)) {
+                return plans.projectBy(session, field, value, projection).getResultList();
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by entry field name and value and selects only the
+     * columns of the given fields
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null}.
+     * </p>
+     *
+     * @param field  the name of the field to filter for
+     * @param value  the value of the field to filter for
+     * @param fields the names of the entity fields to select
+     * @return a {@link Map} of field names and values in the order of the given fields for every matching entity, contained in a {@link List}
+     * @throws IllegalArgumentException if the entity has no field with the given name or one of the selected names
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<Map<String, Object>> findFields(final @NotNull String field, final @Nullable Object value, final @NotNull List<String> fields) {
+        return read(plans -> {
+            try (Session session = openReadSession(plans.sessionFactory(), "findAll", field, value, fields)) {
+                return plans.selectBy(session, field, value, fields).getResultList().stream()
+                        .map(tuple -> {
+                            final Map<String, Object> row = new LinkedHashMap<>();
+                            fields.forEach(name -> row.put(name, tuple.get(name)));
+                            return row;
+                        })
+                        .toList();
+            } catch (IllegalArgumentException e) {
+                throw e;
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
     }
 
     /**
@@ -136,14 +756,430 @@ public abstract class MariaDbRepository<T> implements EntityRepository<T> {
      */
     @Override
     public @NotNull List<T> all() {
-        try (Session session = sessionFactory.openSession()) {
-            CriteriaBuilder builder = session.getCriteriaBuilder();
-            CriteriaQuery<T> criteriaQuery = builder.createQuery(resultClass);
-            Root<T> root = criteriaQuery.from(resultClass);
-            criteriaQuery.select(root);
-            return session.createQuery(criteriaQuery).getResultList();
+        return read(plans -> {
+            try (Session session = openReadSession(plans.sessionFactory(), "all")) {
+                return plans.all(session).getResultList();
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Counts the entities of type {@link T} in the database by entry field name and value without loading them
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null}.
+     * </p>
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return the number of matching entities
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public long count(final @NotNull String field, final @Nullable Object value) {
+        return read(plans -> {
+            plans.validate(field);
+            try (Session session = openReadSession(plans.sessionFactory(), "count", field, value)) {
+                return plans.countBy(session, field, value).uniqueResult();
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Checks whether any entity of type {@link T} in the database matches an entry field name and value by selecting
+     * the id of at most one of them
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null}.
+     * </p>
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return {@code true} if at least one entity matches
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean exists(final @NotNull String field, final @Nullable Object value) {
+        return read(plans -> {
+            plans.validate(field);
+            try (Session session = openReadSession(plans.sessionFactory(), "exists", field, value)) {
+                return plans.existsBy(session, field, value).uniqueResult() != null;
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Computes an aggregate over a numeric field of all entities of type {@link T} in the database
+     *
+     * @param aggregate the {@link Aggregate} function to compute
+     * @param field     the name of the numeric field to aggregate
+     * @return the computed value, or {@code null} if there are no entities with a value in the field
+     * @throws IllegalArgumentException if the entity has no numeric field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @Nullable Number aggregate(final @NotNull Aggregate aggregate, final @NotNull String field) {
+        return read(plans -> {
+            plans.validateNumeric(field);
+            try (Session session = openReadSession(plans.sessionFactory(), "aggregate", aggregate, field)) {
+                return plans.aggregate(session, aggregate, field).uniqueResult();
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Computes an aggregate over a numeric field of all entities of type {@link T} in the database for every value of
+     * another field
+     *
+     * @param aggregate    the {@link Aggregate} function to compute
+     * @param field        the name of the numeric field to aggregate
+     * @param groupByField the name of the field whose values the entities are grouped by
+     * @param <K>          the type of the group by field
+     * @return a {@link Map} of every value of the group by field and the value computed for its entities
+     * @throws IllegalArgumentException if the entity has no numeric field with the given name or no field with the group by name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K> @NotNull Map<K, Number> aggregate(final @NotNull Aggregate aggregate, final @NotNull String field, final @NotNull String groupByField) {
+        return read(plans -> {
+            plans.validateNumeric(field);
+            plans.validate(groupByField);
+            try (Session session = openReadSession(plans.sessionFactory(), "aggregate", aggregate, field, groupByField)) {
+                final Map<K, Number> results = new LinkedHashMap<>();
+                for (final Tuple tuple : plans.aggregateGrouped(session, aggregate, field, groupByField).list()) {
+                    results.put((K) tuple.get(0), (Number) tuple.get(1));
+                }
+                return results;
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Streams all entities of type {@link T} from the database by entry field name and value
+     * <p>
+     *     The entities are read through a forward-only cursor fetching {@link MariaDbSettings#fetchSize()} rows per
+     *     round-trip and are detached from the session once read. The session stays open until the {@link Stream} is
+     *     closed, so it has to be used within a try-with-resources block.
+     * </p>
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return a {@link Stream} of all matching entities of type {@link T}
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull Stream<T> stream(final @NotNull String field, final @Nullable Object value) {
+        return readStream(plans -> {
+            plans.validate(field);
+            return scroll(openReadSession(plans.sessionFactory(), "stream", field, value), session -> plans.findBy(session, field, value));
+        });
+    }
+
+    /**
+     * Streams all entities of type {@link T} from the database
+     * <p>
+     *     The entities are read through a forward-only cursor fetching {@link MariaDbSettings#fetchSize()} rows per
+     *     round-trip and are detached from the session once read. The session stays open until the {@link Stream} is
+     *     closed, so it has to be used within a try-with-resources block.
+     * </p>
+     *
+     * @return a {@link Stream} of all entities of type {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull Stream<T> streamAll() {
+        return readStream(plans -> {
+            return scroll(openReadSession(plans.sessionFactory(), "streamAll"), plans::all);
+        });
+    }
+
+    /**
+     * Reads one page of entities of type {@link T} from the database ordered by a field using offset pagination
+     *
+     * @param orderField the name of the field to order by
+     * @param pageNumber the zero-based number of the page
+     * @param pageSize   the maximum number of entities per page
+     * @return the requested {@link Page}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull Page<T> page(final @NotNull String orderField, final int pageNumber, final int pageSize) {
+        if (pageNumber < 0 || pageSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid page [pageNumber=%d, pageSize=%d]", pageNumber, pageSize));
+        }
+        return read(plans -> {
+            plans.validate(orderField);
+
+            try (Session session = openReadSession(plans.sessionFactory(), "page", orderField, pageNumber, pageSize)) {
+                CriteriaBuilder builder = session.getCriteriaBuilder();
+
+                CriteriaQuery<Long> countQuery = builder.createQuery(Long.class);
+                countQuery.select(builder.count(countQuery.from(resultClass)));
+                final long totalElements = session.createQuery(countQuery).getSingleResult();
+
+                CriteriaQuery<T> criteriaQuery = builder.createQuery(resultClass);
+                Root<T> root = criteriaQuery.from(resultClass);
+                criteriaQuery.select(root).orderBy(builder.asc(root.get(orderField)));
+                final List<T> content = session.createQuery(criteriaQuery)
+                        .setFirstResult(Math.multiplyExact(pageNumber, pageSize))
+                        .setMaxResults(pageSize)
+                        .getResultList();
+
+                return new Page<>(content, pageNumber, pageSize, totalElements);
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Reads one slice of entities of type {@link T} from the database ordered by a field using keyset pagination
+     * <p>
+     *     One more entity than requested is read to determine whether there is a next slice without a separate count.
+     * </p>
+     *
+     * @param orderField the name of the unique field to order by
+     * @param afterKey   the {@link Slice#lastKey()} of the previous slice, or {@code null} for the first slice
+     * @param size       the maximum number of entities in the slice
+     * @return the requested {@link Slice}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public @NotNull Slice<T> slice(final @NotNull String orderField, final @Nullable Comparable<?> afterKey, final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(String.format("Invalid slice size [%d]", size));
+        }
+        return read(plans -> {
+            plans.validate(orderField);
+
+            try (Session session = openReadSession(plans.sessionFactory(), "slice", orderField, afterKey, size)) {
+                CriteriaBuilder builder = session.getCriteriaBuilder();
+                CriteriaQuery<Tuple> criteriaQuery = builder.createTupleQuery();
+                Root<T> root = criteriaQuery.from(resultClass);
+                Path<Comparable> key = root.get(orderField);
+                criteriaQuery.multiselect(root, key).orderBy(builder.asc(key));
+                if (afterKey != null) {
+                    criteriaQuery.where(builder.greaterThan(key, (Comparable) afterKey));
+                }
+
+                final List<Tuple> rows = session.createQuery(criteriaQuery)
+                        .setMaxResults(size + 1)
+                        .getResultList();
+
+                final boolean hasNext = rows.size() > size;
+                final List<Tuple> sliceRows = hasNext ? rows.subList(0, size) : rows;
+                final List<T> content = sliceRows.stream()
+                        .map(row -> row.get(0, resultClass))
+                        .toList();
+                final Comparable<?> lastKey = sliceRows.isEmpty() ? null : (Comparable<?>) sliceRows.getLast().get(1);
+
+                return new Slice<>(content, lastKey, hasNext);
+            } catch (Exception e) {
+                throw unchecked(e);
+            }
+        });
+    }
+
+    /**
+     * Scrolls through the results of a {@link Query} as {@link Stream}
+     * <p>
+     *     Every entity is detached after it has been read and the persistence context is cleared every
+     *     {@link MariaDbSettings#fetchSize()} entities, so memory usage stays flat regardless of the result size.
+     *     Closing the {@link Stream} closes the cursor and the session, as does an error while opening the cursor.
+     * </p>
+     *
+     * @param session       the opened session to scroll in
+     * @param queryFunction creates the {@link Query} to scroll through within the opened session
+     * @return a {@link Stream} of the query results
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Stream<T> scroll(final @NotNull Session session, final @NotNull Function<Session, Query<T>> queryFunction) {
+        final int fetchSize = sharedSessionFactory.settings().fetchSize();
+        try {
+            session.setDefaultReadOnly(true);
+            final ScrollableResults<T> results = queryFunction.apply(session)
+                    .setFetchSize(fetchSize)
+                    .setReadOnly(true)
+                    .scroll(ScrollMode.FORWARD_ONLY);
+
+            final Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                private int count;
+
+                @Override
+                public boolean tryAdvance(final @NotNull Consumer<? super T> action) {
+                    if (!results.next()) {
+                        return false;
+                    }
+                    final T entity = results.get();
+                    session.detach(entity);
+                    if (++count % fetchSize == 0) {
+                        session.clear();
+                    }
+                    action.accept(entity);
+                    return true;
+                }
+            };
+
+            return StreamSupport.stream(spliterator, false)
+                    .onClose(() -> {
+                        try {
+                            results.close();
+                        } finally {
+                            session.close();
+                        }
+                    });
         } catch (Exception e) {
-            throw new RuntimeException(e);
+            session.close();
+            throw unchecked(e);
+        }
+    }
+
+    /**
+     * Updates fields of an entity of type {@link T} in the database by its id using a single {@code UPDATE} statement
+     * without loading it
+     * <p>
+     *     If the entity has a version field, the version is incremented in the same statement.
+     * </p>
+     *
+     * @param id      the id of the entity to update
+     * @param changes the names of the fields to update and their new values
+     * @return {@code true} if an entity with the id has been updated, {@code false} if none exists
+     * @throws IllegalArgumentException if no changes are given, the entity has no field with one of the names, or one of them is the id or version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes) {
+        return update(id, changes, null, "update");
+    }
+
+    /**
+     * Updates fields of an entity of type {@link T} in the database by its id using a single {@code UPDATE} statement
+     * without loading it, if its version still equals the expected version
+     *
+     * @param id              the id of the entity to update
+     * @param changes         the names of the fields to update and their new values
+     * @param expectedVersion the version the entity has to have
+     * @return {@code true} if the entity has been updated, {@code false} if no entity with the id and version exists
+     * @throws IllegalArgumentException if no changes are given, the entity has no field with one of the names, one of them is the id or version field, or the entity has no version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes, final @NotNull Object expectedVersion) {
+        return update(id, changes, expectedVersion, "updateVersioned");
+    }
+
+    /**
+     * Validates the changes of an update and executes it
+     *
+     * @param id              the id of the entity to update
+     * @param changes         the names of the fields to update and their new values
+     * @param expectedVersion the version the entity has to have, or {@code null} to update regardless of the version
+     * @param operation       the name of the calling repository method, used for logging
+     * @return {@code true} if the entity has been updated
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes, final @Nullable Object expectedVersion, final @NotNull String operation) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException(String.format("No changes given for entity class [%s]", resultClass.getName()));
+        }
+        final MariaDbQueryPlans<T> plans = plans(getSessionFactory());
+        for (String field : changes.keySet()) {
+            plans.validate(field);
+            if (field.equals(plans.idField()) || field.equals(plans.versionField())) {
+                throw new IllegalArgumentException(String.format("Field '%s' of entity class [%s] cannot be updated", field, resultClass.getName()));
+            }
+        }
+        return executeUpdate(plans, id, expectedVersion, (criteriaUpdate, root) -> changes.forEach(criteriaUpdate::set), operation, id, changes.keySet());
+    }
+
+    /**
+     * Adds a delta to a numeric field of an entity of type {@link T} in the database by its id using a single
+     * {@code UPDATE} statement without loading it
+     * <p>
+     *     If the entity has a version field, the version is incremented in the same statement.
+     * </p>
+     *
+     * @param id    the id of the entity to update
+     * @param field the name of the numeric field to increment
+     * @param delta the value to add, negative to decrement
+     * @return {@code true} if an entity with the id has been updated, {@code false} if none exists
+     * @throws IllegalArgumentException if the entity has no numeric field with the name, or it is the id or version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean increment(final @NotNull Object id, final @NotNull String field, final @NotNull Number delta) {
+        final MariaDbQueryPlans<T> plans = plans(getSessionFactory());
+        if (!plans.isNumeric(field) || field.equals(plans.idField()) || field.equals(plans.versionField())) {
+            throw new IllegalArgumentException(String.format("Field '%s' of entity class [%s] cannot be incremented", field, resultClass.getName()));
+        }
+        final CriteriaBuilder builder = plans.sessionFactory().getCriteriaBuilder();
+        return executeUpdate(plans, id, null, (criteriaUpdate, root) -> {
+            final Path<Number> path = root.get(field);
+            criteriaUpdate.set(path, builder.sum(path, delta));
+        }, "increment", id, field, delta);
+    }
+
+    /**
+     * Executes a {@code UPDATE} statement of the entity with an id, incrementing its version if it is versioned
+     *
+     * @param plans           the {@link MariaDbQueryPlans} of the primary
+     * @param id              the id of the entity to update
+     * @param expectedVersion the version the entity has to have, or {@code null} to update regardless of the version
+     * @param assignments     adds the assignments of the update to the {@link CriteriaUpdate}
+     * @param operation       the name of the calling repository method, used for logging
+     * @param arguments       the arguments of the calling repository method, used for logging
+     * @return {@code true} if a row has been updated
+     * @throws IllegalArgumentException if a version is expected but the entity has no version field, or its version field is not numeric
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private boolean executeUpdate(final @NotNull MariaDbQueryPlans<T> plans, final @NotNull Object id, final @Nullable Object expectedVersion, final @NotNull BiConsumer<CriteriaUpdate<T>, Root<T>> assignments, final @NotNull String operation, final @Nullable Object... arguments) {
+        final String versionField = plans.versionField();
+        if (expectedVersion != null && versionField == null) {
+            throw new IllegalArgumentException(String.format("Entity class [%s] has no version field", resultClass.getName()));
+        }
+        if (versionField != null && !plans.isNumeric(versionField)) {
+            throw new IllegalArgumentException(String.format("Entity class [%s] has a non-numeric version field, which cannot be incremented by an update", resultClass.getName()));
+        }
+
+        Transaction transaction = null;
+        try (Session session = openSession(plans.sessionFactory(), operation, arguments)) {
+            transaction = session.beginTransaction();
+            final CriteriaBuilder builder = session.getCriteriaBuilder();
+            final CriteriaUpdate<T> criteriaUpdate = builder.createCriteriaUpdate(resultClass);
+            final Root<T> root = criteriaUpdate.from(resultClass);
+            assignments.accept(criteriaUpdate, root);
+
+            Predicate predicate = builder.equal(root.get(plans.idField()), id);
+            if (versionField != null) {
+                final Path<Number> version = root.get(versionField);
+                criteriaUpdate.set(version, builder.sum(version, 1));
+                if (expectedVersion != null) {
+                    predicate = builder.and(predicate, builder.equal(version, expectedVersion));
+                }
+            }
+            criteriaUpdate.where(predicate);
+
+            final int updated = session.createMutationQuery(criteriaUpdate).executeUpdate();
+            transaction.commit();
+            return updated > 0;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw unchecked(e);
         }
     }
 
@@ -156,7 +1192,7 @@ public abstract class MariaDbRepository<T> implements EntityRepository<T> {
     @Override
     public void delete(final @NotNull T entity) {
         Transaction transaction = null;
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = openSession(getSessionFactory(), "delete", entity)) {
             transaction = session.beginTransaction();
             session.remove(entity);
             transaction.commit();
@@ -164,8 +1200,76 @@ public abstract class MariaDbRepository<T> implements EntityRepository<T> {
             if (transaction != null) {
                 transaction.rollback();
             }
-            throw new RuntimeException(e);
+            throw unchecked(e);
         }
     }
-    
+
+    /**
+     * Deletes multiple entities of type {@link T} from the database in one session and transaction
+     * <p>
+     *     The persistence context is flushed and cleared every {@link MariaDbSettings#jdbcBatchSize()} entities, so
+     *     the statements are sent to the database in JDBC batches.
+     * </p>
+     *
+     * @param entities the entities of type {@link T} to be deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void deleteAll(final @NotNull Collection<T> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        final int batchSize = sharedSessionFactory.settings().jdbcBatchSize();
+        Transaction transaction = null;
+        try (Session session = openSession(getSessionFactory(), "deleteAll", entities.size())) {
+            transaction = session.beginTransaction();
+            int count = 0;
+            for (T entity : entities) {
+                session.remove(entity);
+                if (++count % batchSize == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw unchecked(e);
+        }
+    }
+
+    /**
+     * Deletes all entities of type {@link T} from the database by entry field name and value using a single
+     * {@code DELETE} statement without loading them
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return the number of deleted entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public long deleteWhere(final @NotNull String field, final @Nullable Object value) {
+        final MariaDbQueryPlans<T> plans = plans(getSessionFactory());
+        plans.validate(field);
+        Transaction transaction = null;
+        try (Session session = openSession(plans.sessionFactory(), "deleteWhere", field, value)) {
+            transaction = session.beginTransaction();
+            CriteriaBuilder builder = session.getCriteriaBuilder();
+            CriteriaDelete<T> criteriaDelete = builder.createCriteriaDelete(resultClass);
+            Root<T> root = criteriaDelete.from(resultClass);
+            criteriaDelete.where(value == null ? builder.isNull(root.get(field)) : builder.equal(root.get(field), value));
+            final int deleted = session.createMutationQuery(criteriaDelete).executeUpdate();
+            transaction.commit();
+            return deleted;
+        } catch (Exception e) {
+            if (transaction != null) {
+                transaction.rollback();
+            }
+            throw unchecked(e);
+        }
+    }
+
 }
@@ -0,0 +1,202 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import jakarta.persistence.Embeddable;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Computes and records the mapping checksums of entity classes for {@link MariaDbSchemaMode#MIGRATE_ONCE}
+ * <p>
+ *     The checksum of an entity class covers its name, its annotations and the names, types and annotations of all
+ *     persistent fields of the class, its superclasses and the {@link Embeddable} types it uses. It is computed by
+ *     reflection only, so no database connection is needed to tell whether the mapping has changed. The recorded
+ *     checksums are read and written with a single JDBC connection outside the connection pool.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+final class MariaDbSchemaChecksums {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MariaDbSchemaChecksums.class);
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS jcore_schema_checksum ("
+            + "entity_class VARCHAR(255) NOT NULL PRIMARY KEY, "
+            + "checksum CHAR(64) NOT NULL, "
+            + "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP)";
+    private static final String SELECT = "SELECT entity_class, checksum FROM jcore_schema_checksum";
+    private static final String UPSERT = "INSERT INTO jcore_schema_checksum (entity_class, checksum) VALUES (?, ?) "
+            + "ON DUPLICATE KEY UPDATE checksum = VALUES(checksum)";
+
+    private MariaDbSchemaChecksums() {}
+
+    /**
+     * Computes the checksums of entity classes
+     *
+     * @param entityClasses the entity classes to compute the checksums of
+     * @return a {@link Map} of the entity class names and their checksums, sorted by name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    static @NotNull Map<String, String> compute(final @NotNull Collection<Class<?>> entityClasses) {
+        final Map<String, String> checksums = new TreeMap<>();
+        for (Class<?> entityClass : entityClasses) {
+            checksums.put(entityClass.getName(), checksum(entityClass));
+        }
+        return checksums;
+    }
+
+    /**
+     * Determines the entity classes whose checksum differs from the recorded one, creating the checksum table if it
+     * does not exist yet
+     * <p>
+     *     If the recorded checksums cannot be read, all checksums are treated as changed so the schema is updated.
+     * </p>
+     *
+     * @param uri       the database uri of the primary
+     * @param username  the database username
+     * @param password  the database password
+     * @param checksums the current checksums of the entity classes
+     * @return a {@link Map} of the changed entity class names and their current checksums
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    static @NotNull Map<String, String> changed(final @NotNull String uri, final @NotNull String username, final @NotNull String password, final @NotNull Map<String, String> checksums) {
+        final Map<String, String> changed = new TreeMap<>(checksums);
+        try (Connection connection = DriverManager.getConnection(uri, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+            try (ResultSet resultSet = statement.executeQuery(SELECT)) {
+                while (resultSet.next()) {
+                    changed.remove(resultSet.getString(1), resultSet.getString(2));
+                }
+            }
+        } catch (SQLException e) {
+            LOG.warn("Could not read the schema checksums of '{}', updating the schema", uri, e);
+            return new TreeMap<>(checksums);
+        }
+        return changed;
+    }
+
+    /**
+     * Records the checksums of entity classes after the schema has been updated
+     * <p>
+     *     A failure is only logged, as the schema is then simply updated again on the next build.
+     * </p>
+     *
+     * @param uri       the database uri of the primary
+     * @param username  the database username
+     * @param password  the database password
+     * @param checksums the checksums to record by entity class name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    static void record(final @NotNull String uri, final @NotNull String username, final @NotNull String password, final @NotNull Map<String, String> checksums) {
+        try (Connection connection = DriverManager.getConnection(uri, username, password);
+             PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+            for (Map.Entry<String, String> entry : checksums.entrySet()) {
+                statement.setString(1, entry.getKey());
+                statement.setString(2, entry.getValue());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException e) {
+            LOG.warn("Could not record the schema checksums of '{}'", uri, e);
+        }
+    }
+
+    /**
+     * Computes the checksum of an entity class
+     *
+     * @param entityClass the entity class
+     * @return the hex encoded SHA-256 checksum
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull String checksum(final @NotNull Class<?> entityClass) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(digest, entityClass, new HashSet<>());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Feeds the mapping of a class, its superclasses and the {@link Embeddable} types of its fields into a digest
+     *
+     * @param digest  the {@link MessageDigest} to update
+     * @param type    the class to feed in
+     * @param visited the classes already fed in, to stop at cycles
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static void update(final @NotNull MessageDigest digest, final @NotNull Class<?> type, final @NotNull Set<Class<?>> visited) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (!visited.add(current)) {
+                return;
+            }
+            update(digest, current.getName());
+            update(digest, annotations(current.getDeclaredAnnotations()));
+
+            final Field[] fields = current.getDeclaredFields();
+            Arrays.sort(fields, Comparator.comparing(Field::getName));
+            for (Field field : fields) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+                update(digest, field.getName());
+                update(digest, field.getGenericType().getTypeName());
+                update(digest, annotations(field.getDeclaredAnnotations()));
+                if (field.getType().isAnnotationPresent(Embeddable.class)) {
+                    update(digest, field.getType(), visited);
+                }
+            }
+        }
+    }
+
+    /**
+     * Describes annotations independently of their declaration order
+     *
+     * @param annotations the annotations to describe
+     * @return the sorted string representations of the annotations
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull String annotations(final @NotNull Annotation[] annotations) {
+        return Arrays.stream(annotations)
+                .map(Annotation::toString)
+                .sorted()
+                .toList()
+                .toString();
+    }
+
+    /**
+     * Feeds a value into a digest, terminated so that adjacent values cannot run into each other
+     *
+     * @param digest the {@link MessageDigest} to update
+     * @param value  the value to feed in
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static void update(final @NotNull MessageDigest digest, final @NotNull String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -0,0 +1,62 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The ways the schema of the primary database is checked or changed when a {@link org.hibernate.SessionFactory} is
+ * built
+ * <p>
+ *     Replicas are never checked or changed, as their schema is replicated from the primary.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see MariaDbSettings#schemaMode()
+ */
+public enum MariaDbSchemaMode {
+
+    /**
+     * Leaves the schema untouched, for schemas managed by external migrations
+     */
+    NONE("none"),
+
+    /**
+     * Checks that the schema matches the entity classes and fails the build if it does not, without changing it
+     */
+    VALIDATE("validate"),
+
+    /**
+     * Inspects the schema on every build and adds missing tables and columns
+     */
+    UPDATE("update"),
+
+    /**
+     * Updates the schema like {@link MariaDbSchemaMode#UPDATE}, but only if the mapping of an entity class has changed
+     * since the last update
+     * <p>
+     *     A checksum of every entity class is recorded in the {@code jcore_schema_checksum} table of the primary
+     *     after each update. Builds whose entity classes all match their recorded checksum skip the schema inspection.
+     *     A failing DDL statement fails the build, so checksums are only recorded for a completely updated schema.
+     * </p>
+     */
+    MIGRATE_ONCE("update");
+
+    /**
+     * The value of {@code hibernate.hbm2ddl.auto} used if the schema is checked or changed
+     */
+    @NotNull
+    private final String hbm2ddlAuto;
+
+    MariaDbSchemaMode(final @NotNull String hbm2ddlAuto) {
+        this.hbm2ddlAuto = hbm2ddlAuto;
+    }
+
+    /**
+     * Returns the value of {@code hibernate.hbm2ddl.auto} used if the schema is checked or changed
+     *
+     * @return the Hibernate schema management action
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @NotNull String hbm2ddlAuto() {
+        return hbm2ddlAuto;
+    }
+}
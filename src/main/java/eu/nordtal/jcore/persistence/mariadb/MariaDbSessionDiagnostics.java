@@ -0,0 +1,135 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class inspects the statements of one session opened by a {@link MariaDbRepository} call
+ * <p>
+ *     It is registered as session-scoped {@link StatementInspector} to count the statements and remember the SQL of
+ *     the current one, and as {@link SessionEventListener} to time their execution and to check the statement budget
+ *     when the session ends.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see MariaDbDiagnostics
+ */
+final class MariaDbSessionDiagnostics implements StatementInspector, SessionEventListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MariaDbSessionDiagnostics.class);
+
+    @NotNull
+    private final MariaDbDiagnostics diagnostics;
+
+    @NotNull
+    private final Class<?> entityClass;
+
+    @NotNull
+    private final String operation;
+
+    private final @Nullable Object @NotNull [] arguments;
+
+    private int statements;
+
+    @NotNull
+    private String currentStatement = "";
+
+    private long executionStart;
+
+    /**
+     * Creates the diagnostics for one repository call
+     *
+     * @param diagnostics the {@link MariaDbDiagnostics} settings
+     * @param entityClass the entity class of the repository
+     * @param operation   the name of the called repository method
+     * @param arguments   the arguments of the called repository method
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    MariaDbSessionDiagnostics(final @NotNull MariaDbDiagnostics diagnostics, final @NotNull Class<?> entityClass, final @NotNull String operation, final @Nullable Object @NotNull [] arguments) {
+        this.diagnostics = diagnostics;
+        this.entityClass = entityClass;
+        this.operation = operation;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Counts the statement and fails fast if it exceeds the budget and {@link MariaDbDiagnostics#failOnBudgetExceeded()}
+     * is enabled
+     * <p>
+     *     Every call counts, including repeats of the same SQL, as lazy loading runs the same statement once per entity.
+     * </p>
+     *
+     * @param sql the SQL of the statement
+     * @return the unchanged SQL
+     * @throws StatementBudgetExceededException if the statement exceeds the budget in strict mode
+     */
+    @Override
+    public String inspect(final String sql) {
+        statements++;
+        currentStatement = sql;
+        if (diagnostics.failOnBudgetExceeded() && budgetExceeded()) {
+            throw new StatementBudgetExceededException(call(), diagnostics.statementBudget(), sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        checkDuration();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        checkDuration();
+    }
+
+    @Override
+    public void end() {
+        if (budgetExceeded()) {
+            LOG.warn("Repository call {} ran {} statements in one session, budget is {}", call(), statements, diagnostics.statementBudget());
+        }
+    }
+
+    /**
+     * Logs the current statement if its execution took longer than the threshold
+     */
+    private void checkDuration() {
+        if (diagnostics.slowQueryThreshold().isZero()) {
+            return;
+        }
+        final long duration = System.nanoTime() - executionStart;
+        if (duration >= diagnostics.slowQueryThreshold().toNanos()) {
+            LOG.warn("Slow statement took {} ms in repository call {}: {}", TimeUnit.NANOSECONDS.toMillis(duration), call(), currentStatement);
+        }
+    }
+
+    private boolean budgetExceeded() {
+        return diagnostics.statementBudget() > 0 && statements > diagnostics.statementBudget();
+    }
+
+    /**
+     * Formats the repository call for logging, e.g. {@code User.findAll[name, Till]}
+     *
+     * @return the formatted call
+     */
+    private @NotNull String call() {
+        return entityClass.getSimpleName() + "." + operation + Arrays.toString(arguments);
+    }
+}
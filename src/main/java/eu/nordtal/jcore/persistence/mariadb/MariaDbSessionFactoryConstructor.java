@@ -4,6 +4,10 @@ import org.hibernate.SessionFactory;
 import org.hibernate.cfg.Configuration;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * This record is used to construct {@link SessionFactory} objects for specific entity types using a JDBC URI
  *
@@ -11,13 +15,53 @@ import org.jetbrains.annotations.NotNull;
  * @param username the database username for the {@link SessionFactory}
  * @param password the database password for the {@link SessionFactory}
  * @param entityClass the entity class type to add to the {@link SessionFactory}
+ * @param settings the {@link MariaDbSettings} used to tune the {@link SessionFactory} and its connection pool
+ * @param replicaUris the database uris of the read replicas of the primary at {@code uri}, using the same credentials
  * @author Till Hoffmann / @tillhfm - 18.04.2025
  */
-public record MariaDbSessionFactoryConstructor<T>(@NotNull String uri, @NotNull String username, @NotNull String password, @NotNull Class<T> entityClass) {
+public record MariaDbSessionFactoryConstructor<T>(@NotNull String uri, @NotNull String username, @NotNull String password, @NotNull Class<T> entityClass, @NotNull MariaDbSettings settings, @NotNull List<String> replicaUris) {
 
     private static final String HIBERNATE_URL_PROPERTY = "hibernate.connection.url";
     private static final String HIBERNATE_USERNAME_PROPERTY = "hibernate.connection.username";
     private static final String HIBERNATE_PASSWORD_PROPERTY = "hibernate.connection.password";
+    private static final String HIBERNATE_PROVIDER_PROPERTY = "hibernate.connection.provider_class";
+    private static final String HIKARI_PROVIDER_CLASS = "org.hibernate.hikaricp.internal.HikariCPConnectionProvider";
+
+    /**
+     * Creates a new {@link MariaDbSessionFactoryConstructor} using {@link MariaDbSettings#DEFAULT}
+     *
+     * @param uri the database uri for the {@link SessionFactory}
+     * @param username the database username for the {@link SessionFactory}
+     * @param password the database password for the {@link SessionFactory}
+     * @param entityClass the entity class type to add to the {@link SessionFactory}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbSessionFactoryConstructor(final @NotNull String uri, final @NotNull String username, final @NotNull String password, final @NotNull Class<T> entityClass) {
+        this(uri, username, password, entityClass, MariaDbSettings.DEFAULT);
+    }
+
+    /**
+     * Creates a new {@link MariaDbSessionFactoryConstructor} without read replicas
+     *
+     * @param uri the database uri for the {@link SessionFactory}
+     * @param username the database username for the {@link SessionFactory}
+     * @param password the database password for the {@link SessionFactory}
+     * @param entityClass the entity class type to add to the {@link SessionFactory}
+     * @param settings the {@link MariaDbSettings} used to tune the {@link SessionFactory} and its connection pool
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbSessionFactoryConstructor(final @NotNull String uri, final @NotNull String username, final @NotNull String password, final @NotNull Class<T> entityClass, final @NotNull MariaDbSettings settings) {
+        this(uri, username, password, entityClass, settings, List.of());
+    }
+
+    /**
+     * Copies the replica uris
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbSessionFactoryConstructor {
+        replicaUris = List.copyOf(replicaUris);
+    }
 
     /**
      * Constructs a new {@link SessionFactory} object
@@ -26,16 +70,91 @@ public record MariaDbSessionFactoryConstructor<T>(@NotNull String uri, @NotNull
      * @author Till Hoffmann / @tillhfm - 18.04.2025
      */
     public SessionFactory construct() {
+        return construct(List.of(entityClass));
+    }
+
+    /**
+     * Constructs a new {@link SessionFactory} object with all given entity classes registered
+     *
+     * @param entityClasses the entity class types to add to the {@link SessionFactory}
+     * @return the constructed {@link SessionFactory} object
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public SessionFactory construct(final @NotNull Collection<Class<?>> entityClasses) {
+        return construct(uri, entityClasses, true);
+    }
+
+    /**
+     * Constructs a new {@link SessionFactory} object for a read replica with all given entity classes registered
+     * <p>
+     *     The schema of a replica is never checked or updated, as it is replicated from the primary, and its
+     *     connections are read-only.
+     * </p>
+     *
+     * @param replicaUri    the database uri of the replica
+     * @param entityClasses the entity class types to add to the {@link SessionFactory}
+     * @return the constructed {@link SessionFactory} object
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public SessionFactory constructReplica(final @NotNull String replicaUri, final @NotNull Collection<Class<?>> entityClasses) {
+        return construct(replicaUri, entityClasses, false);
+    }
+
+    /**
+     * Constructs a new {@link SessionFactory} object for the given database uri
+     * <p>
+     *     The schema of the primary is handled as configured by {@link MariaDbSettings#schemaMode()}.
+     * </p>
+     *
+     * @param databaseUri   the database uri for the {@link SessionFactory}
+     * @param entityClasses the entity class types to add to the {@link SessionFactory}
+     * @param primary       whether the database is the primary, otherwise it is a read-only replica
+     * @return the constructed {@link SessionFactory} object
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private SessionFactory construct(final @NotNull String databaseUri, final @NotNull Collection<Class<?>> entityClasses, final boolean primary) {
         final Configuration configuration = new Configuration();
 
-        configuration.setProperty(HIBERNATE_URL_PROPERTY, uri());
+        configuration.setProperty(HIBERNATE_URL_PROPERTY, databaseUri);
         configuration.setProperty(HIBERNATE_USERNAME_PROPERTY, username());
         configuration.setProperty(HIBERNATE_PASSWORD_PROPERTY, password());
-        configuration.setProperty("hibernate.hbm2ddl.auto", "update");
-        configuration.setProperty("hibernate.show_sql", "true");
+        final MariaDbSchemaMode schemaMode = primary ? settings.schemaMode() : MariaDbSchemaMode.NONE;
+        final Map<String, String> changedChecksums = schemaMode == MariaDbSchemaMode.MIGRATE_ONCE
+                ? MariaDbSchemaChecksums.changed(databaseUri, username(), password(), MariaDbSchemaChecksums.compute(entityClasses))
+                : Map.of();
+        final boolean skipSchema = schemaMode == MariaDbSchemaMode.MIGRATE_ONCE && changedChecksums.isEmpty();
+        configuration.setProperty("hibernate.hbm2ddl.auto", skipSchema ? MariaDbSchemaMode.NONE.hbm2ddlAuto() : schemaMode.hbm2ddlAuto());
+        if (!changedChecksums.isEmpty()) {
+            // Fail the build on DDL errors, so no checksum is recorded for a schema that has not been updated
+            configuration.setProperty("hibernate.hbm2ddl.halt_on_error", "true");
+        }
+        configuration.setProperty("hibernate.show_sql", String.valueOf(settings.showSql()));
+        configuration.setProperty("hibernate.generate_statistics", String.valueOf(settings.generateStatistics()));
+
+        // Connection pool
+        configuration.setProperty(HIBERNATE_PROVIDER_PROPERTY, HIKARI_PROVIDER_CLASS);
+        configuration.setProperty("hibernate.hikari.minimumIdle", String.valueOf(settings.minimumIdle()));
+        configuration.setProperty("hibernate.hikari.maximumPoolSize", String.valueOf(settings.maximumPoolSize()));
+        configuration.setProperty("hibernate.hikari.idleTimeout", String.valueOf(settings.idleTimeout().toMillis()));
+        configuration.setProperty("hibernate.hikari.connectionTimeout", String.valueOf(settings.connectionTimeout().toMillis()));
+        configuration.setProperty("hibernate.hikari.leakDetectionThreshold", String.valueOf(settings.leakDetectionThreshold().toMillis()));
+        configuration.setProperty("hibernate.hikari.readOnly", String.valueOf(!primary));
+
+        // JDBC batching
+        configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(settings.jdbcBatchSize()));
+        configuration.setProperty("hibernate.order_inserts", "true");
+        configuration.setProperty("hibernate.order_updates", "true");
+        configuration.setProperty("hibernate.jdbc.batch_versioned_data", "true");
+
+        // Reuse the interpretation of the cached criteria queries of the repositories
+        configuration.setProperty("hibernate.criteria.plan_cache_enabled", "true");
 
-        configuration.addAnnotatedClass(entityClass);
+        entityClasses.forEach(configuration::addAnnotatedClass);
 
-        return configuration.buildSessionFactory();
+        final SessionFactory sessionFactory = configuration.buildSessionFactory();
+        if (!changedChecksums.isEmpty()) {
+            MariaDbSchemaChecksums.record(databaseUri, username(), password(), changedChecksums);
+        }
+        return sessionFactory;
     }
 }
@@ -0,0 +1,94 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of {@link MariaDbSharedSessionFactory} objects keyed by database uri, username, settings and
+ * replica uris
+ * <p>
+ *     All repositories connecting to the same database with the same user, {@link MariaDbSettings} and replicas share
+ *     one {@link org.hibernate.SessionFactory} and thereby one connection pool. Registrations differing in their
+ *     settings or replicas get a connection of their own, so the settings of a repository are never silently
+ *     replaced by those of another one.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see MariaDbSharedSessionFactory
+ */
+public final class MariaDbSessionFactoryRegistry {
+
+    private static final Map<Key, MariaDbSharedSessionFactory> FACTORIES = new ConcurrentHashMap<>();
+
+    private MariaDbSessionFactoryRegistry() {}
+
+    /**
+     * Registers the entity class of a {@link MariaDbSessionFactoryConstructor} and any additional entity classes on
+     * the shared connection for its uri, username, settings and replica uris
+     * <p>
+     *     Registering all entity classes of a connection before its first database operation lets the
+     *     {@link org.hibernate.SessionFactory} be built only once.
+     * </p>
+     *
+     * @param constructor             the {@link MariaDbSessionFactoryConstructor} providing the connection settings and entity class
+     * @param additionalEntityClasses further entity classes to register on the same connection
+     * @return the {@link MariaDbSharedSessionFactory} for the connection
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull MariaDbSharedSessionFactory register(final @NotNull MariaDbSessionFactoryConstructor<?> constructor, final @NotNull Class<?>... additionalEntityClasses) {
+        final MariaDbSharedSessionFactory sharedSessionFactory = FACTORIES.computeIfAbsent(
+                new Key(constructor.uri(), constructor.username(), constructor.settings(), constructor.replicaUris()),
+                key -> new MariaDbSharedSessionFactory(constructor)
+        );
+
+        sharedSessionFactory.register(constructor.entityClass());
+        for (Class<?> entityClass : additionalEntityClasses) {
+            sharedSessionFactory.register(entityClass);
+        }
+
+        return sharedSessionFactory;
+    }
+
+    /**
+     * Registers entity classes like {@link MariaDbSessionFactoryRegistry#register(MariaDbSessionFactoryConstructor, Class[])}
+     * and then starts building the shared {@link org.hibernate.SessionFactory} of the connection on a background thread
+     * <p>
+     *     The build is started only once per connection, so calling this for every repository of a connection is
+     *     harmless. Database operations issued before the build has finished wait for it.
+     * </p>
+     *
+     * @param constructor             the {@link MariaDbSessionFactoryConstructor} providing the connection settings and entity class
+     * @param additionalEntityClasses further entity classes to register on the same connection
+     * @return a {@link CompletableFuture} completed once the build has finished, or exceptionally if connecting to the database failed
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see MariaDbSharedSessionFactory#bootstrap()
+     */
+    public static @NotNull CompletableFuture<Void> bootstrap(final @NotNull MariaDbSessionFactoryConstructor<?> constructor, final @NotNull Class<?>... additionalEntityClasses) {
+        return register(constructor, additionalEntityClasses).bootstrap();
+    }
+
+    /**
+     * Closes all shared {@link org.hibernate.SessionFactory} objects and their connection pools
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static void closeAll() {
+        FACTORIES.values().forEach(MariaDbSharedSessionFactory::close);
+        FACTORIES.clear();
+    }
+
+    /**
+     * Identifies a shared connection
+     *
+     * @param uri         the database uri
+     * @param username    the database username
+     * @param settings    the {@link MariaDbSettings} of the connection
+     * @param replicaUris the database uris of the read replicas
+     */
+    private record Key(@NotNull String uri, @NotNull String username, @NotNull MariaDbSettings settings, @NotNull List<String> replicaUris) {
+    }
+}
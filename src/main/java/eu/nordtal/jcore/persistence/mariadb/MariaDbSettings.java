@@ -0,0 +1,112 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * This record holds the tuning settings for a MariaDB connection, such as the sizing of its connection pool
+ * <p>
+ *     Instances are derived from {@link MariaDbSettings#DEFAULT} using the generated {@code with...} methods, e.g.
+ *     {@code MariaDbSettings.DEFAULT.withMaximumPoolSize(20)}.
+ * </p>
+ *
+ * @param minimumIdle            the minimum number of idle connections kept in the pool
+ * @param maximumPoolSize        the maximum number of connections in the pool, idle and in use
+ * @param idleTimeout            the time after which idle connections above {@code minimumIdle} are retired
+ * @param connectionTimeout      the maximum time to wait for a connection from the pool
+ * @param leakDetectionThreshold the time a connection may be out of the pool before a possible leak is logged, {@link Duration#ZERO} disables leak detection
+ * @param jdbcBatchSize          the number of statements sent to the database in one JDBC batch, also used as chunk size for flushing bulk writes
+ * @param fetchSize              the number of rows fetched from the database per round-trip when streaming results
+ * @param showSql                whether Hibernate logs every executed SQL statement, meant for debugging only
+ * @param generateStatistics     whether Hibernate collects the counters read by {@link MariaDbRepository#getStatistics()}
+ * @param diagnostics            the {@link MariaDbDiagnostics} detecting slow statements and sessions running too many statements
+ * @param replicas               the {@link MariaDbReplicaSettings} routing reads to the replicas, if any are configured
+ * @param schemaMode             the {@link MariaDbSchemaMode} checking or changing the schema of the primary when the {@link org.hibernate.SessionFactory} is built
+ * @param readOnlyReads          whether reads open read-only sessions that keep no snapshots of the loaded entities for dirty checking and never flush
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@With
+public record MariaDbSettings(int minimumIdle, int maximumPoolSize, @NotNull Duration idleTimeout,
+                              @NotNull Duration connectionTimeout, @NotNull Duration leakDetectionThreshold,
+                              int jdbcBatchSize, int fetchSize, boolean showSql, boolean generateStatistics,
+                              @NotNull MariaDbDiagnostics diagnostics, @NotNull MariaDbReplicaSettings replicas,
+                              @NotNull MariaDbSchemaMode schemaMode, boolean readOnlyReads) {
+
+    /**
+     * The default settings used if none are specified
+     */
+    public static final MariaDbSettings DEFAULT = new MariaDbSettings(
+            2,
+            10,
+            Duration.ofMinutes(10),
+            Duration.ofSeconds(30),
+            Duration.ZERO,
+            50,
+            500,
+            false,
+            false,
+            MariaDbDiagnostics.DISABLED,
+            MariaDbReplicaSettings.DEFAULT,
+            MariaDbSchemaMode.UPDATE,
+            true
+    );
+
+    /**
+     * Validates the settings
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbSettings {
+        if (minimumIdle < 0 || maximumPoolSize < 1 || minimumIdle > maximumPoolSize) {
+            throw new IllegalArgumentException(String.format("Invalid pool size [minimumIdle=%d, maximumPoolSize=%d]", minimumIdle, maximumPoolSize));
+        }
+        if (jdbcBatchSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid JDBC batch size [%d]", jdbcBatchSize));
+        }
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid fetch size [%d]", fetchSize));
+        }
+    }
+
+    /**
+     * Creates new settings with the schema handling and read sessions of {@link MariaDbSettings#DEFAULT}
+     *
+     * @param minimumIdle            the minimum number of idle connections kept in the pool
+     * @param maximumPoolSize        the maximum number of connections in the pool, idle and in use
+     * @param idleTimeout            the time after which idle connections above {@code minimumIdle} are retired
+     * @param connectionTimeout      the maximum time to wait for a connection from the pool
+     * @param leakDetectionThreshold the time a connection may be out of the pool before a possible leak is logged, {@link Duration#ZERO} disables leak detection
+     * @param jdbcBatchSize          the number of statements sent to the database in one JDBC batch, also used as chunk size for flushing bulk writes
+     * @param fetchSize              the number of rows fetched from the database per round-trip when streaming results
+     * @param showSql                whether Hibernate logs every executed SQL statement, meant for debugging only
+     * @param generateStatistics     whether Hibernate collects the counters read by {@link MariaDbRepository#getStatistics()}
+     * @param diagnostics            the {@link MariaDbDiagnostics} detecting slow statements and sessions running too many statements
+     * @param replicas               the {@link MariaDbReplicaSettings} routing reads to the replicas, if any are configured
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbSettings(final int minimumIdle, final int maximumPoolSize, final @NotNull Duration idleTimeout,
+                           final @NotNull Duration connectionTimeout, final @NotNull Duration leakDetectionThreshold,
+                           final int jdbcBatchSize, final int fetchSize, final boolean showSql, final boolean generateStatistics,
+                           final @NotNull MariaDbDiagnostics diagnostics, final @NotNull MariaDbReplicaSettings replicas) {
+        this(minimumIdle, maximumPoolSize, idleTimeout, connectionTimeout, leakDetectionThreshold, jdbcBatchSize, fetchSize,
+                showSql, generateStatistics, diagnostics, replicas, MariaDbSchemaMode.UPDATE, true);
+    }
+
+    /**
+     * Creates new settings sizing the connection pool, using {@link MariaDbSettings#DEFAULT} for everything else
+     *
+     * @param minimumIdle            the minimum number of idle connections kept in the pool
+     * @param maximumPoolSize        the maximum number of connections in the pool, idle and in use
+     * @param idleTimeout            the time after which idle connections above {@code minimumIdle} are retired
+     * @param connectionTimeout      the maximum time to wait for a connection from the pool
+     * @param leakDetectionThreshold the time a connection may be out of the pool before a possible leak is logged, {@link Duration#ZERO} disables leak detection
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MariaDbSettings(final int minimumIdle, final int maximumPoolSize, final @NotNull Duration idleTimeout,
+                           final @NotNull Duration connectionTimeout, final @NotNull Duration leakDetectionThreshold) {
+        this(minimumIdle, maximumPoolSize, idleTimeout, connectionTimeout, leakDetectionThreshold, 50, 500, false, false,
+                MariaDbDiagnostics.DISABLED, MariaDbReplicaSettings.DEFAULT);
+    }
+}
@@ -0,0 +1,568 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class holds a single {@link SessionFactory} that is shared by all repositories of one database connection
+ * <p>
+ *     The {@link SessionFactory} is built lazily on first use with all entity classes registered up to that point.
+ *     If an entity class is registered after the {@link SessionFactory} has been built, a new one containing all
+ *     entity classes is built on the next use. The replaced {@link SessionFactory} and its connection pool are kept
+ *     open for {@link MariaDbSharedSessionFactory#RETIREMENT_GRACE_PERIOD}, so sessions still using it can finish,
+ *     and closed afterwards. To avoid rebuilding, all entity classes should be registered before the first database
+ *     operation, e.g. with {@link MariaDbSessionFactoryRegistry#register(MariaDbSessionFactoryConstructor, Class[])}.
+ * </p>
+ * <p>
+ *     If replica uris are configured, a {@link SessionFactory} with its own connection pool is built for every replica
+ *     alongside the one of the primary. Reads are routed to the healthy replicas as configured in
+ *     {@link MariaDbReplicaSettings}, unless the calling thread is within a {@link ReadYourWrites} scope. A replica
+ *     reported to have failed is taken out of rotation for {@link MariaDbReplicaSettings#unhealthyCooldown()}, and
+ *     reads go to the primary while no replica is healthy. A replica that cannot be reached while building is kept
+ *     out of rotation as well, and connecting to it is retried every {@link MariaDbReplicaSettings#unhealthyCooldown()}
+ *     until it succeeds.
+ * </p>
+ * <p>
+ *     {@link MariaDbSessionFactoryRegistry#bootstrap(MariaDbSessionFactoryConstructor, Class[])} registers all entity
+ *     classes of a connection and builds the {@link SessionFactory} once on a background thread, so the application
+ *     can start up while the database is connected to. Database operations issued before the build has finished wait
+ *     for it, and {@link MariaDbSharedSessionFactory#ready()} completes once the first build has finished.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see MariaDbSessionFactoryRegistry
+ */
+public final class MariaDbSharedSessionFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MariaDbSharedSessionFactory.class);
+
+    /**
+     * The time a {@link SessionFactory} replaced by a rebuild is kept open for the sessions still using it
+     */
+    public static final Duration RETIREMENT_GRACE_PERIOD = Duration.ofMinutes(1);
+
+    /**
+     * Closes the replaced {@link SessionFactory} objects of all connections once their grace period has passed and
+     * retries connecting to the replicas that could not be reached
+     */
+    private static final ScheduledExecutorService MAINTENANCE = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("mariadb-maintenance").factory()
+    );
+
+    /**
+     * The {@link MariaDbSessionFactoryConstructor} providing the connection settings
+     */
+    @NotNull
+    private final MariaDbSessionFactoryConstructor<?> constructor;
+
+    /**
+     * All entity classes registered for this connection, guarded by {@code this}
+     */
+    @NotNull
+    private final Set<Class<?>> entityClasses = new LinkedHashSet<>();
+
+    /**
+     * All {@link SessionFactory} objects that have been replaced by a rebuild and not closed yet, guarded by {@code this}
+     */
+    @NotNull
+    private final List<SessionFactory> retiredFactories = new ArrayList<>();
+
+    /**
+     * Limits the operations run against this connection by all asynchronous repositories together, sized to the
+     * maximum size of the primary's connection pool
+     */
+    @NotNull
+    private final Semaphore operationPermits;
+
+    /**
+     * Counts the reads routed by round-robin
+     */
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * Completed once the first {@link SessionFactory} has been built, by a database operation or the bootstrap
+     */
+    @NotNull
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+
+    /**
+     * The result of the background build started by {@link MariaDbSharedSessionFactory#bootstrap()}, or {@code null}
+     * if it has not been started, guarded by {@code this}
+     */
+    @Nullable
+    private CompletableFuture<Void> bootstrap;
+
+    /**
+     * Incremented for every newly registered entity class
+     */
+    private volatile int generation;
+
+    /**
+     * The currently built {@link SessionFactory}, or {@code null} if none has been built yet
+     */
+    private volatile Built current;
+
+    /**
+     * Creates a new {@link MariaDbSharedSessionFactory}
+     *
+     * @param constructor the {@link MariaDbSessionFactoryConstructor} providing the connection settings
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    MariaDbSharedSessionFactory(final @NotNull MariaDbSessionFactoryConstructor<?> constructor) {
+        this.constructor = constructor;
+        this.operationPermits = new Semaphore(constructor.settings().maximumPoolSize(), true);
+    }
+
+    /**
+     * Registers an entity class to be contained in the shared {@link SessionFactory}
+     *
+     * @param entityClass the entity class to register
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    synchronized void register(final @NotNull Class<?> entityClass) {
+        if (entityClasses.add(entityClass)) {
+            generation++;
+        }
+    }
+
+    /**
+     * Returns the shared {@link SessionFactory}, building it if it does not exist yet or does not contain all
+     * registered entity classes
+     *
+     * @return the shared {@link SessionFactory}
+     * @throws org.hibernate.HibernateException in case an error occurs while connecting to the database
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull SessionFactory get() {
+        final Built built = current;
+        if (built != null && built.generation() == generation) {
+            return built.sessionFactory();
+        }
+        return build();
+    }
+
+    /**
+     * Builds the shared {@link SessionFactory} on a background thread, unless it already contains all registered
+     * entity classes
+     * <p>
+     *     The build is started by the first call only, later calls return the result of the same build. Entity classes
+     *     registered after the build has started cause a rebuild on the next use, so all entity classes of a
+     *     connection should be registered first, as done by
+     *     {@link MariaDbSessionFactoryRegistry#bootstrap(MariaDbSessionFactoryConstructor, Class[])}.
+     * </p>
+     *
+     * @return a {@link CompletableFuture} completed once the build has finished or exceptionally with the error that
+     *         occurred while connecting to the database
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    synchronized @NotNull CompletableFuture<Void> bootstrap() {
+        if (bootstrap == null) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            bootstrap = future;
+            Thread.ofPlatform().daemon().name("mariadb-bootstrap").start(() -> {
+                try {
+                    get();
+                    future.complete(null);
+                } catch (RuntimeException e) {
+                    LOG.error("Failed to build shared session factory for '{}' in the background", constructor.uri(), e);
+                    future.completeExceptionally(e);
+                }
+            });
+        }
+        return bootstrap.copy();
+    }
+
+    /**
+     * Returns a future signalling that the shared {@link SessionFactory} has been built
+     * <p>
+     *     The future completes with the first successful build, whether it has been started by
+     *     {@link MariaDbSharedSessionFactory#bootstrap()} or by the first database operation. A failed build leaves it
+     *     pending, as a later build may still succeed, so the future of the bootstrap reports build errors.
+     * </p>
+     *
+     * @return a {@link CompletableFuture} completed once the {@link SessionFactory} has been built
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull CompletableFuture<Void> ready() {
+        return ready.copy();
+    }
+
+    /**
+     * Returns the {@link SessionFactory} to read from, which is one of the healthy replicas if any are configured
+     * and the calling thread is not within a {@link ReadYourWrites} scope, or the primary otherwise
+     *
+     * @return the {@link SessionFactory} to read from
+     * @throws org.hibernate.HibernateException in case an error occurs while connecting to the database
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull SessionFactory getForRead() {
+        final SessionFactory primary = get();
+        final Built built = current;
+        if (built == null || built.sessionFactory() != primary || built.replicas().isEmpty() || ReadYourWrites.active()) {
+            return primary;
+        }
+
+        final Replica replica = switch (settings().replicas().selection()) {
+            case ROUND_ROBIN -> nextRoundRobin(built.replicas());
+            case LEAST_CONNECTIONS -> leastConnections(built.replicas());
+        };
+        final SessionFactory replicaFactory = replica == null ? null : replica.sessionFactory();
+        return replicaFactory == null ? primary : replicaFactory;
+    }
+
+    /**
+     * Takes a replica out of rotation for {@link MariaDbReplicaSettings#unhealthyCooldown()} after a connection failure
+     *
+     * @param sessionFactory the {@link SessionFactory} the failure occurred on, ignored if it is not a replica
+     * @return {@code true} if the {@link SessionFactory} is a replica, so the failed read can be retried on the primary
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    boolean reportFailure(final @NotNull SessionFactory sessionFactory) {
+        final Built built = current;
+        if (built == null) {
+            return false;
+        }
+        for (Replica replica : built.replicas()) {
+            if (replica.sessionFactory() == sessionFactory) {
+                replica.unhealthyUntil = System.nanoTime() + settings().replicas().unhealthyCooldown().toNanos();
+                LOG.warn("Taking replica '{}' out of rotation for {} after a connection failure", replica.uri(), settings().replicas().unhealthyCooldown());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the settings of this shared connection
+     *
+     * @return the {@link MariaDbSettings} of the {@link MariaDbSessionFactoryConstructor} this was created with
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull MariaDbSettings settings() {
+        return constructor.settings();
+    }
+
+    /**
+     * Returns the permits limiting the operations run against this connection at the same time
+     * <p>
+     *     All {@link eu.nordtal.jcore.persistence.async.AsyncEntityRepository} objects wrapping a repository of this
+     *     connection share these permits, so together they never queue more operations on the connection pool than it
+     *     has connections.
+     * </p>
+     *
+     * @return the shared {@link Semaphore}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Semaphore operationPermits() {
+        return operationPermits;
+    }
+
+    /**
+     * Builds the shared {@link SessionFactory} unless another thread already did
+     *
+     * @return the shared {@link SessionFactory}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private synchronized @NotNull SessionFactory build() {
+        final Built built = current;
+        if (built != null && built.generation() == generation) {
+            return built.sessionFactory();
+        }
+
+        if (built != null) {
+            LOG.warn(
+                    "Rebuilding shared session factory for '{}' because entity classes were registered after it was built. Register all entity classes before the first database operation to avoid this.",
+                    constructor.uri()
+            );
+        }
+
+        final int buildGeneration = generation;
+        final List<Class<?>> classes = List.copyOf(entityClasses);
+        final SessionFactory sessionFactory = constructor.construct(classes);
+
+        final List<Replica> replicas = new ArrayList<>();
+        final List<Replica> unreachable = new ArrayList<>();
+        for (String replicaUri : constructor.replicaUris()) {
+            final Replica replica = new Replica(replicaUri);
+            try {
+                replica.connect(constructor.constructReplica(replicaUri, classes));
+            } catch (RuntimeException e) {
+                LOG.warn("Replica '{}' of '{}' could not be connected to, retrying in {}", replicaUri, constructor.uri(), settings().replicas().unhealthyCooldown(), e);
+                replica.unhealthyUntil = System.nanoTime() + settings().replicas().unhealthyCooldown().toNanos();
+                unreachable.add(replica);
+            }
+            replicas.add(replica);
+        }
+
+        current = new Built(sessionFactory, List.copyOf(replicas), buildGeneration);
+        ready.complete(null);
+        unreachable.forEach(replica -> scheduleReconnect(replica, classes));
+        if (built != null) {
+            retire(built.sessionFactory());
+            for (Replica replica : built.replicas()) {
+                final SessionFactory replicaFactory = replica.sessionFactory();
+                if (replicaFactory != null) {
+                    retire(replicaFactory);
+                }
+            }
+        }
+        return sessionFactory;
+    }
+
+    /**
+     * Schedules connecting to a replica that could not be reached after {@link MariaDbReplicaSettings#unhealthyCooldown()}
+     *
+     * @param replica       the unreachable {@link Replica}
+     * @param entityClasses the entity classes of the build the replica belongs to
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void scheduleReconnect(final @NotNull Replica replica, final @NotNull List<Class<?>> entityClasses) {
+        MAINTENANCE.schedule(() -> reconnect(replica, entityClasses), settings().replicas().unhealthyCooldown().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Connects to a replica that could not be reached, putting it back into rotation on success and scheduling the
+     * next attempt otherwise
+     * <p>
+     *     Nothing is done once the replica has been replaced by a rebuild or the connection has been closed, and a
+     *     {@link SessionFactory} built meanwhile is closed again.
+     * </p>
+     *
+     * @param replica       the unreachable {@link Replica}
+     * @param entityClasses the entity classes of the build the replica belongs to
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void reconnect(final @NotNull Replica replica, final @NotNull List<Class<?>> entityClasses) {
+        if (!isCurrent(replica)) {
+            return;
+        }
+
+        final SessionFactory sessionFactory;
+        try {
+            sessionFactory = constructor.constructReplica(replica.uri(), entityClasses);
+        } catch (RuntimeException e) {
+            LOG.warn("Replica '{}' of '{}' could still not be connected to, retrying in {}", replica.uri(), constructor.uri(), settings().replicas().unhealthyCooldown(), e);
+            if (isCurrent(replica)) {
+                scheduleReconnect(replica, entityClasses);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            if (isCurrent(replica)) {
+                replica.connect(sessionFactory);
+                replica.unhealthyUntil = System.nanoTime();
+                LOG.info("Replica '{}' of '{}' is connected and back in rotation", replica.uri(), constructor.uri());
+                return;
+            }
+        }
+        sessionFactory.close();
+    }
+
+    /**
+     * Tells whether a replica belongs to the current build
+     *
+     * @param replica the {@link Replica} to check
+     * @return {@code true} if it has neither been replaced by a rebuild nor closed
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private synchronized boolean isCurrent(final @NotNull Replica replica) {
+        final Built built = current;
+        return built != null && built.replicas().contains(replica);
+    }
+
+    /**
+     * Schedules a replaced {@link SessionFactory} to be closed after {@link MariaDbSharedSessionFactory#RETIREMENT_GRACE_PERIOD}
+     *
+     * @param sessionFactory the replaced {@link SessionFactory}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private synchronized void retire(final @NotNull SessionFactory sessionFactory) {
+        retiredFactories.add(sessionFactory);
+        MAINTENANCE.schedule(() -> closeRetired(sessionFactory), RETIREMENT_GRACE_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Closes a replaced {@link SessionFactory} unless {@link MariaDbSharedSessionFactory#close()} already did
+     *
+     * @param sessionFactory the replaced {@link SessionFactory}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void closeRetired(final @NotNull SessionFactory sessionFactory) {
+        synchronized (this) {
+            if (!retiredFactories.remove(sessionFactory)) {
+                return;
+            }
+        }
+        try {
+            sessionFactory.close();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to close replaced session factory of '{}'", constructor.uri(), e);
+        }
+    }
+
+    /**
+     * Picks the next healthy replica in turn
+     *
+     * @param replicas the replicas to pick from
+     * @return the picked {@link Replica} or {@code null} if none is healthy
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @Nullable Replica nextRoundRobin(final @NotNull List<Replica> replicas) {
+        final long now = System.nanoTime();
+        final int start = nextReplica.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            final Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (replica.isHealthy(now)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Picks the healthy replica with the fewest connections in use
+     *
+     * @param replicas the replicas to pick from
+     * @return the picked {@link Replica} or {@code null} if none is healthy
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @Nullable Replica leastConnections(final @NotNull List<Replica> replicas) {
+        final long now = System.nanoTime();
+        Replica least = null;
+        int leastConnections = Integer.MAX_VALUE;
+        for (Replica replica : replicas) {
+            if (!replica.isHealthy(now)) {
+                continue;
+            }
+            final int connections = replica.activeConnections();
+            if (connections < leastConnections) {
+                least = replica;
+                leastConnections = connections;
+            }
+        }
+        return least;
+    }
+
+    /**
+     * Closes the shared {@link SessionFactory} and all replaced ones
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    synchronized void close() {
+        final Built built = current;
+        if (built != null) {
+            built.sessionFactory().close();
+            for (Replica replica : built.replicas()) {
+                final SessionFactory replicaFactory = replica.sessionFactory();
+                if (replicaFactory != null) {
+                    replicaFactory.close();
+                }
+            }
+            current = null;
+        }
+        retiredFactories.forEach(SessionFactory::close);
+        retiredFactories.clear();
+    }
+
+    /**
+     * A built {@link SessionFactory} and the registration generation it was built for
+     *
+     * @param sessionFactory the built {@link SessionFactory} of the primary
+     * @param replicas       all configured replicas, including the ones that could not be reached yet
+     * @param generation     the value of {@link MariaDbSharedSessionFactory#generation} when it was built
+     */
+    private record Built(@NotNull SessionFactory sessionFactory, @NotNull List<Replica> replicas, int generation) {
+    }
+
+    /**
+     * A configured replica, its {@link SessionFactory} once connected and its health
+     */
+    private static final class Replica {
+
+        @NotNull
+        private final String uri;
+
+        /**
+         * The {@link SessionFactory} of the replica, or {@code null} while it could not be connected to
+         */
+        @Nullable
+        private volatile SessionFactory sessionFactory;
+
+        /**
+         * The pool statistics of the replica, or {@code null} if the pool does not expose them
+         */
+        @Nullable
+        private volatile HikariPoolMXBean pool;
+
+        /**
+         * The {@link System#nanoTime()} until which this replica is out of rotation
+         */
+        private volatile long unhealthyUntil;
+
+        private Replica(final @NotNull String uri) {
+            this.uri = uri;
+            this.unhealthyUntil = System.nanoTime();
+        }
+
+        private void connect(final @NotNull SessionFactory sessionFactory) {
+            this.pool = pool(sessionFactory);
+            this.sessionFactory = sessionFactory;
+        }
+
+        private @NotNull String uri() {
+            return uri;
+        }
+
+        private @Nullable SessionFactory sessionFactory() {
+            return sessionFactory;
+        }
+
+        private boolean isHealthy(final long now) {
+            return sessionFactory != null && now - unhealthyUntil >= 0;
+        }
+
+        private int activeConnections() {
+            final HikariPoolMXBean pool = this.pool;
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+
+        /**
+         * Reads the Hikari pool statistics of a {@link SessionFactory}
+         *
+         * @param sessionFactory the {@link SessionFactory} using the Hikari connection provider
+         * @return the {@link HikariPoolMXBean} or {@code null} if it is not available
+         */
+        private static @Nullable HikariPoolMXBean pool(final @NotNull SessionFactory sessionFactory) {
+            try {
+                return sessionFactory.unwrap(SessionFactoryImplementor.class)
+                        .getServiceRegistry()
+                        .requireService(ConnectionProvider.class)
+                        .unwrap(HikariDataSource.class)
+                        .getHikariPoolMXBean();
+            } catch (RuntimeException e) {
+                LOG.debug("Pool statistics are not available, least-connections selection falls back to the first healthy replica", e);
+                return null;
+            }
+        }
+    }
+}
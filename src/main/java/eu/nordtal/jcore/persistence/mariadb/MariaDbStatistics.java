@@ -0,0 +1,59 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import org.hibernate.stat.Statistics;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * This record holds a snapshot of the Hibernate {@link Statistics} of a shared MariaDB connection
+ * <p>
+ *     Hibernate only collects the counters if {@link MariaDbSettings#generateStatistics()} is enabled, otherwise all
+ *     values are {@code 0}. The counters are shared by all repositories of the same connection.
+ * </p>
+ *
+ * @param openSessions          the number of sessions currently open
+ * @param sessionsOpened        the number of sessions opened
+ * @param connectionsObtained   the number of JDBC connections obtained from the pool
+ * @param transactions          the number of completed transactions
+ * @param statementsPrepared    the number of prepared JDBC statements
+ * @param queryExecutions       the number of executed queries
+ * @param queryExecutionMaxTime the duration of the slowest query
+ * @param entityLoads           the number of entities loaded from the database
+ * @param entityInserts         the number of entities inserted
+ * @param entityUpdates         the number of entities updated
+ * @param entityDeletes         the number of entities deleted
+ * @param queryPlanCacheHits    the number of query plans reused from the plan cache
+ * @param queryPlanCacheMisses  the number of query plans that had to be interpreted
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public record MariaDbStatistics(long openSessions, long sessionsOpened, long connectionsObtained, long transactions,
+                                long statementsPrepared, long queryExecutions, @NotNull Duration queryExecutionMaxTime,
+                                long entityLoads, long entityInserts, long entityUpdates, long entityDeletes,
+                                long queryPlanCacheHits, long queryPlanCacheMisses) {
+
+    /**
+     * Creates a snapshot of Hibernate {@link Statistics}
+     *
+     * @param statistics the {@link Statistics} of a {@link org.hibernate.SessionFactory}
+     * @return the created {@link MariaDbStatistics}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull MariaDbStatistics of(final @NotNull Statistics statistics) {
+        return new MariaDbStatistics(
+                statistics.getSessionOpenCount() - statistics.getSessionCloseCount(),
+                statistics.getSessionOpenCount(),
+                statistics.getConnectCount(),
+                statistics.getTransactionCount(),
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                Duration.ofMillis(statistics.getQueryExecutionMaxTime()),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityInsertCount(),
+                statistics.getEntityUpdateCount(),
+                statistics.getEntityDeleteCount(),
+                statistics.getQueryPlanCacheHitCount(),
+                statistics.getQueryPlanCacheMissCount()
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+/**
+ * Utility class routing the reads of the current thread to the primary instead of the replicas
+ * <p>
+ *     Replicas lag behind the primary, so a read following a write might not see it. Reads that have to see
+ *     preceding writes are wrapped into {@link ReadYourWrites#run(Supplier)}, e.g.
+ *     {@code ReadYourWrites.run(() -> repository.findFirstById(id))}. Scopes can be nested and only apply to the
+ *     calling thread, so they do not cover operations handed to other threads, e.g. by
+ *     {@link eu.nordtal.jcore.persistence.async.AsyncEntityRepository}.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see MariaDbReplicaSettings
+ */
+public final class ReadYourWrites {
+
+    /**
+     * The nesting depth of the scopes of the current thread
+     */
+    private static final ThreadLocal<int[]> DEPTH = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    /**
+     * Runs an operation with all reads of the current thread routed to the primary
+     *
+     * @param operation the operation to run
+     * @param <R>       the result type of the operation
+     * @return the result of the operation
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <R> R run(final @NotNull Supplier<R> operation) {
+        int[] depth = DEPTH.get();
+        if (depth == null) {
+            depth = new int[1];
+            DEPTH.set(depth);
+        }
+        depth[0]++;
+        try {
+            return operation.get();
+        } finally {
+            if (--depth[0] == 0) {
+                DEPTH.remove();
+            }
+        }
+    }
+
+    /**
+     * Runs an operation with all reads of the current thread routed to the primary
+     *
+     * @param operation the operation to run
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static void run(final @NotNull Runnable operation) {
+        run(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Checks whether the current thread is within a scope
+     *
+     * @return {@code true} if reads of the current thread have to be routed to the primary
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static boolean active() {
+        final int[] depth = DEPTH.get();
+        return depth != null && depth[0] > 0;
+    }
+}
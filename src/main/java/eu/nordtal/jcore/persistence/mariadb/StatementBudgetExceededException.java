@@ -0,0 +1,24 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thrown if a repository call runs more statements than allowed by {@link MariaDbDiagnostics#statementBudget()} and
+ * {@link MariaDbDiagnostics#failOnBudgetExceeded()} is enabled
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    /**
+     * Creates a new {@link StatementBudgetExceededException}
+     *
+     * @param call      the repository call that exceeded its budget, formatted with its arguments
+     * @param budget    the maximum number of statements the call may run
+     * @param statement the SQL of the statement exceeding the budget
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public StatementBudgetExceededException(final @NotNull String call, final int budget, final @NotNull String statement) {
+        super(String.format("Repository call %s exceeded its budget of %d statements with '%s'", call, budget, statement));
+    }
+}
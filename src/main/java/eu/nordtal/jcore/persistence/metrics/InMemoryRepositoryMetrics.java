@@ -0,0 +1,98 @@
+package eu.nordtal.jcore.persistence.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link RepositoryMetrics} keeping all measurements in memory
+ * <p>
+ *     Latencies are recorded per repository and {@link RepositoryOperation} in a {@link LatencyHistogram}. The latest
+ *     statistics snapshot of every type reported for a repository is kept as well, so all measurements can be read
+ *     from one place, e.g. by a periodic log line or a status endpoint.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class InMemoryRepositoryMetrics implements RepositoryMetrics {
+
+    private final Map<String, Map<RepositoryOperation, Recorder>> recorders = new ConcurrentHashMap<>();
+    private final Map<String, Map<Class<?>, Object>> reportedStatistics = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(final @NotNull String repository, final @NotNull RepositoryOperation operation, final long durationNanos, final long rows, final @Nullable Throwable error) {
+        final Recorder recorder = recorders
+                .computeIfAbsent(repository, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, key -> new Recorder());
+        recorder.latency.record(durationNanos);
+        recorder.rows.add(rows);
+        if (error != null) {
+            recorder.errors.increment();
+        }
+    }
+
+    @Override
+    public void recordStatistics(final @NotNull String repository, final @NotNull Object statistics) {
+        reportedStatistics
+                .computeIfAbsent(repository, key -> new ConcurrentHashMap<>())
+                .put(statistics.getClass(), statistics);
+    }
+
+    /**
+     * Returns a snapshot of the measurements of all operations of a repository
+     *
+     * @param repository the name of the repository
+     * @return the {@link OperationStatistics} of every operation executed at least once
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Map<RepositoryOperation, OperationStatistics> statistics(final @NotNull String repository) {
+        final Map<RepositoryOperation, Recorder> operations = recorders.get(repository);
+        if (operations == null) {
+            return Map.of();
+        }
+        final Map<RepositoryOperation, OperationStatistics> snapshot = new EnumMap<>(RepositoryOperation.class);
+        operations.forEach((operation, recorder) -> snapshot.put(operation, recorder.snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Returns the latest statistics snapshot of a type reported for a repository
+     *
+     * @param repository the name of the repository
+     * @param type       the class of the statistics snapshot, e.g. the statistics record of the repository
+     * @param <S>        the type of the statistics snapshot
+     * @return the latest snapshot of the type or {@code null} if none has been reported
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public <S> @Nullable S statistics(final @NotNull String repository, final @NotNull Class<S> type) {
+        final Map<Class<?>, Object> statistics = reportedStatistics.get(repository);
+        return statistics == null ? null : type.cast(statistics.get(type));
+    }
+
+    /**
+     * The measurements of one operation of one repository
+     */
+    private static final class Recorder {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private @NotNull OperationStatistics snapshot() {
+            return new OperationStatistics(
+                    latency.count(),
+                    errors.sum(),
+                    rows.sum(),
+                    latency.total(),
+                    latency.percentile(0.5),
+                    latency.percentile(0.99),
+                    latency.max()
+            );
+        }
+    }
+}
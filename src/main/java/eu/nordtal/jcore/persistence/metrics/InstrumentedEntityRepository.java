@@ -0,0 +1,370 @@
+package eu.nordtal.jcore.persistence.metrics;
+
+import eu.nordtal.jcore.persistence.common.Aggregate;
+import eu.nordtal.jcore.persistence.common.EntityRepository;
+import eu.nordtal.jcore.persistence.common.Page;
+import eu.nordtal.jcore.persistence.common.Slice;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class wraps an {@link EntityRepository} to record the latency, the number of rows and the errors of every
+ * operation to {@link RepositoryMetrics}
+ * <p>
+ *     Measuring an operation costs two calls to {@link System#nanoTime()} and one call to
+ *     {@link RepositoryMetrics#record(String, RepositoryOperation, long, long, Throwable)}. Use
+ *     {@link #wrap(EntityRepository, String, RepositoryMetrics)} to skip the wrapper entirely for
+ *     {@link RepositoryMetrics#NOOP}. Streams are measured from opening until they are closed, including the errors
+ *     thrown by the underlying repository while they are consumed.
+ * </p>
+ *
+ * @param <T> the class type of the entity the repository is handling
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class InstrumentedEntityRepository<T> implements EntityRepository<T> {
+
+    /**
+     * The underlying repository
+     */
+    @NotNull
+    private final EntityRepository<T> delegate;
+
+    /**
+     * The name the measurements are recorded under
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * Receives the measurements
+     */
+    @NotNull
+    private final RepositoryMetrics metrics;
+
+    /**
+     * Takes a snapshot of the statistics of the underlying repository, or {@code null} if it reports none
+     */
+    @Nullable
+    private final Supplier<?> statistics;
+
+    /**
+     * Creates a new {@link InstrumentedEntityRepository} without statistics reporting
+     *
+     * @param delegate the {@link EntityRepository} to measure
+     * @param name     the name the measurements are recorded under, e.g. the entity name
+     * @param metrics  the {@link RepositoryMetrics} receiving the measurements
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public InstrumentedEntityRepository(final @NotNull EntityRepository<T> delegate, final @NotNull String name, final @NotNull RepositoryMetrics metrics) {
+        this(delegate, name, metrics, null);
+    }
+
+    /**
+     * Creates a new {@link InstrumentedEntityRepository}
+     *
+     * @param delegate   the {@link EntityRepository} to measure
+     * @param name       the name the measurements are recorded under, e.g. the entity name
+     * @param metrics    the {@link RepositoryMetrics} receiving the measurements
+     * @param statistics takes a snapshot of the statistics of the underlying repository for
+     *                   {@link InstrumentedEntityRepository#reportStatistics()}, e.g. {@code repository::getStatistics},
+     *                   or {@code null} if it reports none
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public InstrumentedEntityRepository(final @NotNull EntityRepository<T> delegate, final @NotNull String name, final @NotNull RepositoryMetrics metrics,
+                                        final @Nullable Supplier<?> statistics) {
+        this.delegate = delegate;
+        this.name = name;
+        this.metrics = metrics;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Wraps an {@link EntityRepository} to record its operations, unless the metrics are {@link RepositoryMetrics#NOOP}
+     *
+     * @param delegate the {@link EntityRepository} to measure
+     * @param name     the name the measurements are recorded under, e.g. the entity name
+     * @param metrics  the {@link RepositoryMetrics} receiving the measurements
+     * @param <T>      the class type of the entity the repository is handling
+     * @return the wrapped {@link EntityRepository}, or the given one for {@link RepositoryMetrics#NOOP}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <T> @NotNull EntityRepository<T> wrap(final @NotNull EntityRepository<T> delegate, final @NotNull String name, final @NotNull RepositoryMetrics metrics) {
+        if (metrics == RepositoryMetrics.NOOP) {
+            return delegate;
+        }
+        return new InstrumentedEntityRepository<>(delegate, name, metrics);
+    }
+
+    /**
+     * Wraps an {@link EntityRepository} to record its operations and statistics, unless the metrics are
+     * {@link RepositoryMetrics#NOOP}
+     *
+     * @param delegate   the {@link EntityRepository} to measure
+     * @param name       the name the measurements are recorded under, e.g. the entity name
+     * @param metrics    the {@link RepositoryMetrics} receiving the measurements
+     * @param statistics takes a snapshot of the statistics of the underlying repository, e.g. {@code repository::getStatistics}
+     * @param <T>        the class type of the entity the repository is handling
+     * @return the wrapped {@link EntityRepository}, or the given one for {@link RepositoryMetrics#NOOP}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static <T> @NotNull EntityRepository<T> wrap(final @NotNull EntityRepository<T> delegate, final @NotNull String name, final @NotNull RepositoryMetrics metrics,
+                                                        final @NotNull Supplier<?> statistics) {
+        if (metrics == RepositoryMetrics.NOOP) {
+            return delegate;
+        }
+        return new InstrumentedEntityRepository<>(delegate, name, metrics, statistics);
+    }
+
+    @Override
+    public @NotNull T save(final @NotNull T entity) {
+        return measure(RepositoryOperation.SAVE, () -> delegate.save(entity), result -> 1);
+    }
+
+    @Override
+    public @NotNull List<T> saveAll(final @NotNull Collection<T> entities) {
+        return measure(RepositoryOperation.SAVE_ALL, () -> delegate.saveAll(entities), List::size);
+    }
+
+    @Override
+    public @Nullable T findFirst(final @NotNull String field, final @Nullable Object value) {
+        return measure(RepositoryOperation.FIND_FIRST, () -> delegate.findFirst(field, value), result -> result == null ? 0 : 1);
+    }
+
+    @Override
+    public @Nullable T findFirstById(final @Nullable Object value) {
+        return measure(RepositoryOperation.FIND_BY_ID, () -> delegate.findFirstById(value), result -> result == null ? 0 : 1);
+    }
+
+    @Override
+    public @NotNull List<T> findAllByIds(final @NotNull Collection<?> ids) {
+        return measure(RepositoryOperation.FIND_BY_IDS, () -> delegate.findAllByIds(ids), List::size);
+    }
+
+    @Override
+    public <K> @NotNull Map<K, T> findAllByIdsAsMap(final @NotNull Collection<K> ids) {
+        return measure(RepositoryOperation.FIND_BY_IDS, () -> delegate.findAllByIdsAsMap(ids), Map::size);
+    }
+
+    @Override
+    public @NotNull List<T> findAll(final @NotNull String field, final @Nullable Object value) {
+        return measure(RepositoryOperation.FIND_ALL, () -> delegate.findAll(field, value), List::size);
+    }
+
+    @Override
+    public @NotNull List<T> findAllIn(final @NotNull String field, final @NotNull Collection<?> values) {
+        return measure(RepositoryOperation.FIND_ALL_IN, () -> delegate.findAllIn(field, values), List::size);
+    }
+
+    @Override
+    public @NotNull List<T> findAll(final @NotNull Map<String, Object> criteria) {
+        return measure(RepositoryOperation.FIND_ALL, () -> delegate.findAll(criteria), List::size);
+    }
+
+    @Override
+    public <P extends Record> @NotNull List<P> findAll(final @NotNull String field, final @Nullable Object value, final @NotNull Class<P> projection) {
+        return measure(RepositoryOperation.FIND_PROJECTION, () -> delegate.findAll(field, value, projection), List::size);
+    }
+
+    @Override
+    public @NotNull List<Map<String, Object>> findFields(final @NotNull String field, final @Nullable Object value, final @NotNull List<String> fields) {
+        return measure(RepositoryOperation.FIND_PROJECTION, () -> delegate.findFields(field, value, fields), List::size);
+    }
+
+    @Override
+    public @NotNull List<T> all() {
+        return measure(RepositoryOperation.ALL, delegate::all, List::size);
+    }
+
+    @Override
+    public @NotNull Stream<T> stream(final @NotNull String field, final @Nullable Object value) {
+        return measureStream(() -> delegate.stream(field, value));
+    }
+
+    @Override
+    public @NotNull Stream<T> streamAll() {
+        return measureStream(delegate::streamAll);
+    }
+
+    @Override
+    public @NotNull Page<T> page(final @NotNull String orderField, final int pageNumber, final int pageSize) {
+        return measure(RepositoryOperation.PAGE, () -> delegate.page(orderField, pageNumber, pageSize), page -> page.content().size());
+    }
+
+    @Override
+    public @NotNull Slice<T> slice(final @NotNull String orderField, final @Nullable Comparable<?> afterKey, final int size) {
+        return measure(RepositoryOperation.SLICE, () -> delegate.slice(orderField, afterKey, size), slice -> slice.content().size());
+    }
+
+    @Override
+    public void delete(final @NotNull T entity) {
+        measure(RepositoryOperation.DELETE, () -> {
+            delegate.delete(entity);
+            return null;
+        }, result -> 1);
+    }
+
+    @Override
+    public void deleteAll(final @NotNull Collection<T> entities) {
+        measure(RepositoryOperation.DELETE_ALL, () -> {
+            delegate.deleteAll(entities);
+            return null;
+        }, result -> entities.size());
+    }
+
+    @Override
+    public long count(final @NotNull String field, final @Nullable Object value) {
+        return measure(RepositoryOperation.COUNT, () -> delegate.count(field, value), count -> 1);
+    }
+
+    @Override
+    public boolean exists(final @NotNull String field, final @Nullable Object value) {
+        return measure(RepositoryOperation.EXISTS, () -> delegate.exists(field, value), exists -> exists ? 1 : 0);
+    }
+
+    @Override
+    public @Nullable Number aggregate(final @NotNull Aggregate aggregate, final @NotNull String field) {
+        return measure(RepositoryOperation.AGGREGATE, () -> delegate.aggregate(aggregate, field), result -> 1);
+    }
+
+    @Override
+    public <K> @NotNull Map<K, Number> aggregate(final @NotNull Aggregate aggregate, final @NotNull String field, final @NotNull String groupByField) {
+        return measure(RepositoryOperation.AGGREGATE, () -> delegate.<K>aggregate(aggregate, field, groupByField), Map::size);
+    }
+
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes) {
+        return measure(RepositoryOperation.UPDATE, () -> delegate.update(id, changes), updated -> updated ? 1 : 0);
+    }
+
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes, final @NotNull Object expectedVersion) {
+        return measure(RepositoryOperation.UPDATE, () -> delegate.update(id, changes, expectedVersion), updated -> updated ? 1 : 0);
+    }
+
+    @Override
+    public boolean increment(final @NotNull Object id, final @NotNull String field, final @NotNull Number delta) {
+        return measure(RepositoryOperation.INCREMENT, () -> delegate.increment(id, field, delta), updated -> updated ? 1 : 0);
+    }
+
+    @Override
+    public long deleteWhere(final @NotNull String field, final @Nullable Object value) {
+        return measure(RepositoryOperation.DELETE_WHERE, () -> delegate.deleteWhere(field, value), deleted -> deleted);
+    }
+
+    /**
+     * Reports a snapshot of the statistics of the underlying repository to the {@link RepositoryMetrics}, if a
+     * statistics source has been given
+     * <p>
+     *     This is meant to be called periodically, e.g. by a scheduled task.
+     * </p>
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public void reportStatistics() {
+        if (statistics == null) {
+            return;
+        }
+        final Object snapshot = statistics.get();
+        if (snapshot != null) {
+            metrics.recordStatistics(name, snapshot);
+        }
+    }
+
+    /**
+     * Runs an operation and records its duration, the number of rows and the exception it threw
+     *
+     * @param operation the {@link RepositoryOperation} to record
+     * @param call      runs the operation on the underlying repository
+     * @param rows      counts the rows of the result
+     * @param <R>       the result type of the operation
+     * @return the result of the operation
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private <R> R measure(final @NotNull RepositoryOperation operation, final @NotNull Supplier<R> call, final @NotNull ToLongFunction<R> rows) {
+        final long start = System.nanoTime();
+        final R result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            metrics.record(name, operation, System.nanoTime() - start, 0, e);
+            throw e;
+        }
+        metrics.record(name, operation, System.nanoTime() - start, rows.applyAsLong(result), null);
+        return result;
+    }
+
+    /**
+     * Opens a {@link Stream} and records its duration, number of entities and the error thrown while reading it once
+     * it is closed
+     *
+     * @param call opens the {@link Stream} on the underlying repository
+     * @return the measured {@link Stream}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Stream<T> measureStream(final @NotNull Supplier<Stream<T>> call) {
+        final long start = System.nanoTime();
+        final Stream<T> stream;
+        try {
+            stream = call.get();
+        } catch (RuntimeException e) {
+            metrics.record(name, RepositoryOperation.STREAM, System.nanoTime() - start, 0, e);
+            throw e;
+        }
+        final MeasuredSpliterator<T> measured = new MeasuredSpliterator<>(stream.spliterator());
+        return StreamSupport.stream(measured, false)
+                .onClose(stream::close)
+                .onClose(() -> metrics.record(name, RepositoryOperation.STREAM, System.nanoTime() - start, measured.rows.sum(), measured.error));
+    }
+
+    /**
+     * Counts the entities read from a {@link Spliterator} and keeps the first error it throws
+     * <p>
+     *     Errors thrown by the consumer of the entities are passed on without being kept, as they are not errors of the
+     *     repository.
+     * </p>
+     *
+     * @param <T> the class type of the entities
+     */
+    private static final class MeasuredSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Spliterator<T> source;
+        private final LongAdder rows = new LongAdder();
+        private volatile RuntimeException error;
+        private boolean consuming;
+
+        private MeasuredSpliterator(final @NotNull Spliterator<T> source) {
+            super(source.estimateSize(), source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+            this.source = source;
+        }
+
+        @Override
+        public boolean tryAdvance(final @NotNull Consumer<? super T> action) {
+            consuming = false;
+            try {
+                return source.tryAdvance(entity -> {
+                    rows.increment();
+                    consuming = true;
+                    action.accept(entity);
+                    consuming = false;
+                });
+            } catch (RuntimeException e) {
+                if (!consuming && error == null) {
+                    error = e;
+                }
+                throw e;
+            }
+        }
+    }
+}
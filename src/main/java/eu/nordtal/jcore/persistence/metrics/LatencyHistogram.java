@@ -0,0 +1,104 @@
+package eu.nordtal.jcore.persistence.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with power-of-two buckets
+ * <p>
+ *     Every duration is counted in the bucket of its highest set bit, so recording costs a few atomic increments and
+ *     percentiles are accurate to within a factor of two, which is enough to tell microseconds from milliseconds.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one duration
+     *
+     * @param durationNanos the duration in nanoseconds, negative durations are counted as {@code 0}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public void record(final long durationNanos) {
+        final long nanos = Math.max(durationNanos, 0);
+        buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(nanos | 1));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Returns the number of recorded durations
+     *
+     * @return the number of recorded durations
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of all recorded durations
+     *
+     * @return the total {@link Duration}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Duration total() {
+        return Duration.ofNanos(totalNanos.sum());
+    }
+
+    /**
+     * Returns the longest recorded duration
+     *
+     * @return the maximum {@link Duration}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Duration max() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Estimates a percentile of the recorded durations as the upper bound of the bucket containing it
+     *
+     * @param percentile the percentile between {@code 0} and {@code 1}, e.g. {@code 0.99}
+     * @return the estimated {@link Duration}, or {@link Duration#ZERO} if nothing has been recorded
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Duration percentile(final double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException(String.format("Invalid percentile [%s]", percentile));
+        }
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                final long upperBound = i >= BUCKETS - 2 ? Long.MAX_VALUE : (2L << i) - 1;
+                return Duration.ofNanos(Math.min(upperBound, maxNanos.get()));
+            }
+        }
+        return max();
+    }
+}
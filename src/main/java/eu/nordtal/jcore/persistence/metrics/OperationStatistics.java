@@ -0,0 +1,32 @@
+package eu.nordtal.jcore.persistence.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * This record holds a snapshot of the measurements of one repository operation recorded by
+ * {@link InMemoryRepositoryMetrics}
+ *
+ * @param count  the number of executions
+ * @param errors the number of executions that threw an exception
+ * @param rows   the total number of entities returned or written
+ * @param total  the summed duration of all executions
+ * @param p50    the estimated median duration
+ * @param p99    the estimated 99th percentile duration
+ * @param max    the longest duration
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public record OperationStatistics(long count, long errors, long rows, @NotNull Duration total,
+                                  @NotNull Duration p50, @NotNull Duration p99, @NotNull Duration max) {
+
+    /**
+     * Calculates the mean duration of an execution
+     *
+     * @return the mean {@link Duration}, or {@link Duration#ZERO} if there were no executions
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull Duration mean() {
+        return count == 0 ? Duration.ZERO : total.dividedBy(count);
+    }
+}
@@ -0,0 +1,50 @@
+package eu.nordtal.jcore.persistence.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Service provider interface receiving the measurements of instrumented repositories
+ * <p>
+ *     Implementations bridge the measurements to a metrics or tracing library and are called on the thread executing
+ *     the repository operation, so they have to be thread-safe and should not block. {@link #NOOP} discards all
+ *     measurements and is used when no metrics are configured.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ * @see InstrumentedEntityRepository
+ * @see InMemoryRepositoryMetrics
+ */
+public interface RepositoryMetrics {
+
+    /**
+     * A {@link RepositoryMetrics} discarding all measurements
+     */
+    RepositoryMetrics NOOP = (repository, operation, durationNanos, rows, error) -> {};
+
+    /**
+     * Records one completed repository operation
+     *
+     * @param repository    the name of the repository
+     * @param operation     the {@link RepositoryOperation} that has been executed
+     * @param durationNanos the duration of the operation in nanoseconds
+     * @param rows          the number of entities returned or written by the operation
+     * @param error         the exception thrown by the operation, or {@code null} if it succeeded
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    void record(@NotNull String repository, @NotNull RepositoryOperation operation, long durationNanos, long rows, @Nullable Throwable error);
+
+    /**
+     * Records a snapshot of the statistics a repository reports about itself
+     * <p>
+     *     The type of the snapshot depends on the repository, e.g. the session statistics of a MariaDB repository or the
+     *     hit rates of a caching repository. Implementations handle the types they know and ignore all others.
+     * </p>
+     *
+     * @param repository the name of the repository
+     * @param statistics the statistics snapshot
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see InstrumentedEntityRepository#reportStatistics()
+     */
+    default void recordStatistics(final @NotNull String repository, final @NotNull Object statistics) {}
+}
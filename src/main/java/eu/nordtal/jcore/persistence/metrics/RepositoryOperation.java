@@ -0,0 +1,30 @@
+package eu.nordtal.jcore.persistence.metrics;
+
+/**
+ * The operations of an {@link eu.nordtal.jcore.persistence.common.EntityRepository} recorded by {@link RepositoryMetrics}
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public enum RepositoryOperation {
+
+    SAVE,
+    SAVE_ALL,
+    FIND_FIRST,
+    FIND_BY_ID,
+    FIND_BY_IDS,
+    FIND_ALL,
+    FIND_ALL_IN,
+    FIND_PROJECTION,
+    ALL,
+    STREAM,
+    PAGE,
+    SLICE,
+    COUNT,
+    EXISTS,
+    AGGREGATE,
+    UPDATE,
+    INCREMENT,
+    DELETE,
+    DELETE_ALL,
+    DELETE_WHERE
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024-2025 Till Hoffmann.
+ *
+ * Licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives 4.0 International License (CC BY-NC-ND 4.0).
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://creativecommons.org/licenses/by-nc-nd/4.0/legalcode
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.nordtal.jcore.persistence.mongodb;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Process-wide registry of {@link MongoClient} and {@link Datastore} objects
+ * <p>
+ *     Every {@link MongoClient} maintains its own connection pool and monitoring threads, so all repositories connecting
+ *     with the same uri and client settings share one {@link MongoClient}, and all repositories using the same database
+ *     on it share one {@link Datastore}.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public final class MongoDbClientRegistry {
+
+    private static final Map<ClientKey, MongoClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final Map<DatastoreKey, Datastore> DATASTORES = new ConcurrentHashMap<>();
+    private static final Map<ClientKey, Semaphore> OPERATION_PERMITS = new ConcurrentHashMap<>();
+
+    private MongoDbClientRegistry() {}
+
+    /**
+     * Returns the shared {@link Datastore} for the database of the credentials, creating it and its
+     * {@link MongoClient} if they do not exist yet
+     *
+     * @param credentials the {@link MongoDbCredentials} to connect with
+     * @return the shared {@link Datastore}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull Datastore datastore(final @NotNull MongoDbCredentials<?> credentials) {
+        final ClientKey clientKey = ClientKey.of(credentials);
+        return DATASTORES.computeIfAbsent(
+                new DatastoreKey(clientKey, credentials.database()),
+                key -> Morphia.createDatastore(client(clientKey, credentials), credentials.database())
+        );
+    }
+
+    /**
+     * Returns the permits limiting the operations run against the shared {@link MongoClient} of the credentials at the
+     * same time
+     * <p>
+     *     All {@link eu.nordtal.jcore.persistence.async.AsyncEntityRepository} objects wrapping a repository of the same
+     *     client share these permits, which are sized to the client's maximum pool size, so together they never queue
+     *     more operations on the connection pool than it has connections.
+     * </p>
+     *
+     * @param credentials the {@link MongoDbCredentials} to connect with
+     * @return the shared {@link Semaphore}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static @NotNull Semaphore operationPermits(final @NotNull MongoDbCredentials<?> credentials) {
+        return OPERATION_PERMITS.computeIfAbsent(
+                ClientKey.of(credentials),
+                key -> new Semaphore(credentials.effectiveMaxPoolSize(), true)
+        );
+    }
+
+    /**
+     * Closes all shared {@link MongoClient} objects
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public static void closeAll() {
+        DATASTORES.clear();
+        OPERATION_PERMITS.clear();
+        CLIENTS.values().forEach(MongoClient::close);
+        CLIENTS.clear();
+    }
+
+    /**
+     * Returns the shared {@link MongoClient} for a key, creating it if it does not exist yet
+     *
+     * @param clientKey   the {@link ClientKey} of the client
+     * @param credentials the {@link MongoDbCredentials} to create the client with
+     * @return the shared {@link MongoClient}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private static @NotNull MongoClient client(final @NotNull ClientKey clientKey, final @NotNull MongoDbCredentials<?> credentials) {
+        return CLIENTS.computeIfAbsent(clientKey, key -> MongoClients.create(credentials.getClientSettings()));
+    }
+
+    /**
+     * Identifies a shared {@link MongoClient} by its uri and all settings affecting the client
+     */
+    private record ClientKey(String uri, int minPoolSize, int maxPoolSize, Duration maxWaitTime,
+                             ReadPreference readPreference, WriteConcern writeConcern) {
+
+        private static @NotNull ClientKey of(final @NotNull MongoDbCredentials<?> credentials) {
+            return new ClientKey(
+                    credentials.getUriString(),
+                    credentials.minPoolSize(),
+                    credentials.maxPoolSize(),
+                    credentials.maxWaitTime(),
+                    credentials.readPreference(),
+                    credentials.writeConcern()
+            );
+        }
+    }
+
+    /**
+     * Identifies a shared {@link Datastore} by its client and database
+     */
+    private record DatastoreKey(@NotNull ClientKey clientKey, @NotNull String database) {
+    }
+}
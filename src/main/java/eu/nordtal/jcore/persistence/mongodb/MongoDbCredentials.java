@@ -16,11 +16,17 @@
 
 package eu.nordtal.jcore.persistence.mongodb;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
 import lombok.Builder;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This record holds credentials for a MongoDB database connection
@@ -31,17 +37,61 @@ import java.nio.charset.StandardCharsets;
  * @param password the password to authenticate with - can be null
  * @param database the database within the database server to use
  * @param entityClass the entity class of this repository, equal to T
+ * @param batchSize the number of documents fetched per round-trip when streaming results, {@code 0} uses the driver default
+ * @param minPoolSize the minimum number of connections kept open per server, {@code 0} uses the driver default
+ * @param maxPoolSize the maximum number of connections per server, {@code 0} uses the driver default
+ * @param maxWaitTime the maximum time to wait for a connection from the pool - can be null to use the driver default
+ * @param readPreference the {@link ReadPreference} for reads - can be null to use the driver default
+ * @param writeConcern the {@link WriteConcern} for writes - can be null to use the driver default
  * @param <T> the type of entity this repository is handling
  * @author Till Hoffmann / @tillhfm - 05.04.2024
  */
 @Builder
-public record MongoDbCredentials<T>(@NotNull String hostname, int port, String username, String password, @NotNull String database, @NotNull Class<T> entityClass) {
+public record MongoDbCredentials<T>(@NotNull String hostname, int port, String username, String password, @NotNull String database, @NotNull Class<T> entityClass, int batchSize,
+                                    int minPoolSize, int maxPoolSize, Duration maxWaitTime, ReadPreference readPreference, WriteConcern writeConcern) {
+
+    /**
+     * The maximum number of connections per server the driver uses if none is specified
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 100;
 
     /**
      * Specifies the protocol of a MongoDB connection URI
      */
     private static final String MONGODB_PROTOCOL = "mongodb://";
 
+    /**
+     * Creates new {@link MongoDbCredentials} using the driver defaults for streaming, the connection pool, reads and
+     * writes
+     *
+     * @param hostname the hostname of the database server
+     * @param port the port of the database server
+     * @param username the username to authenticate with - can be null
+     * @param password the password to authenticate with - can be null
+     * @param database the database within the database server to use
+     * @param entityClass the entity class of this repository, equal to T
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MongoDbCredentials(final @NotNull String hostname, final int port, final String username, final String password, final @NotNull String database, final @NotNull Class<T> entityClass) {
+        this(hostname, port, username, password, database, entityClass, 0, 0, 0, null, null, null);
+    }
+
+    /**
+     * Creates new {@link MongoDbCredentials} using the driver defaults for the connection pool, reads and writes
+     *
+     * @param hostname the hostname of the database server
+     * @param port the port of the database server
+     * @param username the username to authenticate with - can be null
+     * @param password the password to authenticate with - can be null
+     * @param database the database within the database server to use
+     * @param entityClass the entity class of this repository, equal to T
+     * @param batchSize the number of documents fetched per round-trip when streaming results, {@code 0} uses the driver default
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public MongoDbCredentials(final @NotNull String hostname, final int port, final String username, final String password, final @NotNull String database, final @NotNull Class<T> entityClass, final int batchSize) {
+        this(hostname, port, username, password, database, entityClass, batchSize, 0, 0, null, null, null);
+    }
+
     /**
      * Builds a URI {@link String} from the credentials
      *
@@ -81,4 +131,45 @@ public record MongoDbCredentials<T>(@NotNull String hostname, int port, String u
         return uriBuilder.toString();
     }
 
+    /**
+     * Returns the effective maximum number of connections per server
+     *
+     * @return {@link MongoDbCredentials#maxPoolSize()} or {@link MongoDbCredentials#DEFAULT_MAX_POOL_SIZE} if not specified
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public int effectiveMaxPoolSize() {
+        return maxPoolSize > 0 ? maxPoolSize : DEFAULT_MAX_POOL_SIZE;
+    }
+
+    /**
+     * Builds the {@link MongoClientSettings} for a client connecting with these credentials
+     *
+     * @return the {@link MongoClientSettings}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull MongoClientSettings getClientSettings() {
+        final MongoClientSettings.Builder builder = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(getUriString()))
+                .applyToConnectionPoolSettings(pool -> {
+                    if (minPoolSize > 0) {
+                        pool.minSize(minPoolSize);
+                    }
+                    if (maxPoolSize > 0) {
+                        pool.maxSize(maxPoolSize);
+                    }
+                    if (maxWaitTime != null) {
+                        pool.maxWaitTime(maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                });
+
+        if (readPreference != null) {
+            builder.readPreference(readPreference);
+        }
+        if (writeConcern != null) {
+            builder.writeConcern(writeConcern);
+        }
+
+        return builder.build();
+    }
+
 }
@@ -16,31 +16,84 @@
 
 package eu.nordtal.jcore.persistence.mongodb;
 
-import com.mongodb.client.MongoClients;
 import dev.morphia.Datastore;
-import dev.morphia.Morphia;
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.aggregation.expressions.AccumulatorExpressions;
+import dev.morphia.aggregation.expressions.Expressions;
+import dev.morphia.aggregation.expressions.impls.Expression;
+import dev.morphia.aggregation.stages.Group;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.MorphiaCursor;
+import dev.morphia.query.Query;
+import dev.morphia.query.Sort;
+import dev.morphia.query.filters.Filter;
 import dev.morphia.query.filters.Filters;
+import dev.morphia.query.updates.UpdateOperator;
+import dev.morphia.query.updates.UpdateOperators;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.bson.Document;
 import org.jetbrains.annotations.Nullable;
+import eu.nordtal.jcore.persistence.common.Aggregate;
+import eu.nordtal.jcore.persistence.common.EntityFields;
 import eu.nordtal.jcore.persistence.common.EntityRepository;
+import eu.nordtal.jcore.persistence.common.Page;
+import eu.nordtal.jcore.persistence.common.Projections;
+import eu.nordtal.jcore.persistence.common.RequestOrder;
+import eu.nordtal.jcore.persistence.common.Slice;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class implements abstract database actions for the MongoDB entities of this project
+ * <p>
+ *     Fields are resolved through the Morphia mapping of {@link T}, so they can be named by their Java name or by the
+ *     name they are stored under in the database, e.g. {@code _id}. Queries are always sent with the stored names.
+ * </p>
  *
  * @param <T> the class type of the entity the repository is handling
  * @author Till Hoffmann / @tillhfm - 20.03.2024
  */
 public abstract class MongoDbRepository<T> implements EntityRepository<T> {
 
+    /**
+     * The name of the field holding the computed value in the results of an aggregation
+     */
+    private static final String AGGREGATE_VALUE = "value";
+
     /**
      * The type of class returned by this repository
      */
     private final Class<T> resultClass;
 
+    /**
+     * The number of documents fetched per round-trip when streaming results
+     */
+    private final int batchSize;
+
+    /**
+     * The maximum number of connections per server of this repository's client
+     */
+    private final int maxPoolSize;
+
+    /**
+     * Limits the operations run against this repository's client at the same time, shared with all repositories of it
+     */
+    private final Semaphore operationPermits;
+
     /**
      * Holds this instance's datastore for database interactions
      */
@@ -49,13 +102,42 @@ public abstract class MongoDbRepository<T> implements EntityRepository<T> {
 
     /**
      * Default constructor that sets the repository up for database operation
+     * <p>
+     *     The {@link Datastore} and its client are shared with all other repositories connecting with the same
+     *     credentials.
+     * </p>
      *
      * @param credentials the {@link MongoDbCredentials} containing the database information and result class of the repository
      * @author Till Hoffmann / @tillhfm - 05.04.2024
+     * @see MongoDbClientRegistry
      */
     protected MongoDbRepository(final MongoDbCredentials<T> credentials) {
         this.resultClass = credentials.entityClass();
-        datastore = Morphia.createDatastore(MongoClients.create(credentials.getUriString()), credentials.database());
+        this.batchSize = credentials.batchSize();
+        this.maxPoolSize = credentials.effectiveMaxPoolSize();
+        this.operationPermits = MongoDbClientRegistry.operationPermits(credentials);
+        datastore = MongoDbClientRegistry.datastore(credentials);
+    }
+
+    /**
+     * Returns the maximum number of connections per server of this repository's client
+     *
+     * @return the effective maximum pool size
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * Returns the permits limiting the operations run against this repository's client at the same time
+     *
+     * @return the {@link Semaphore} shared by all repositories of the same client
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     * @see MongoDbClientRegistry#operationPermits(MongoDbCredentials)
+     */
+    public @NotNull Semaphore getOperationPermits() {
+        return operationPermits;
     }
 
     /**
@@ -70,18 +152,34 @@ public abstract class MongoDbRepository<T> implements EntityRepository<T> {
         return datastore.save(entity);
     }
 
+    /**
+     * Creates or updates multiple entities to the database in one bulk operation
+     *
+     * @param entities the entities of type {@link T} to be saved to the database
+     * @return the saved entities of type {@link T} in the order of the given {@link Collection}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> saveAll(@NotNull final Collection<T> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        return datastore.save(List.copyOf(entities));
+    }
+
     /**
      * Finds the first entity of type {@link T} from the database by entry field name and value
      *
      * @param field the name of the field to filter for
      * @param value the value of the field to filter for
      * @return the first entity of type {@link T} or {@code null} if none was found
+     * @throws IllegalArgumentException if the entity has no field with the given name
      * @author Till Hoffmann / @tillhfm - 29.04.2024
      */
     @Override
     public @Nullable T findFirst(final @NotNull String field, final @Nullable Object value) {
         return datastore.find(resultClass)
-                .filter(Filters.eq(field, value))
+                .filter(equalTo(field, value))
                 .first();
     }
 
@@ -101,19 +199,171 @@ public abstract class MongoDbRepository<T> implements EntityRepository<T> {
         return findFirst("_id", value);
     }
 
+    /**
+     * Finds all entities of type {@link T} from the database by their ids using a single {@code $in} filter
+     * <p>
+     *     Ids without an entity are left out, all other entities are returned in the order of the given ids.
+     * </p>
+     *
+     * @param ids the ids to look up, of the same type as the id field
+     * @return the found entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> findAllByIds(final @NotNull Collection<?> ids) {
+        return List.copyOf(findAllByIdsAsMap(ids).values());
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by their ids using a single {@code $in} filter and maps
+     * them by id
+     *
+     * @param ids the ids to look up, of the same type as the id field
+     * @param <K> the type of the ids
+     * @return a {@link Map} of the found ids and entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public <K> @NotNull Map<K, T> findAllByIdsAsMap(final @NotNull Collection<K> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        final List<K> idList = List.copyOf(ids);
+        final List<T> entities = list(datastore.find(resultClass)
+                .filter(Filters.in("_id", idList)));
+        return RequestOrder.map(idList, entities, entity -> datastore.getMapper().getId(entity));
+    }
+
     /**
      * Finds all entities of type {@link T} from the database by entry field name and value
      *
      * @param field the name of the field to filter for
      * @param value the value of the field to filter for
      * @return all entities of type {@link T} contained in a {@link List} or an empty {@link List} if none were found
+     * @throws IllegalArgumentException if the entity has no field with the given name
      * @author Till Hoffmann / @tillhfm - 29.04.2024
      */
     @Override
     public @NotNull List<T> findAll(final @NotNull String field, final @Nullable Object value) {
-        return datastore.find(resultClass)
-                .filter(Filters.eq(field, value))
-                .stream().toList();
+        return list(datastore.find(resultClass)
+                .filter(equalTo(field, value)));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database whose field equals one of the given values using a single
+     * {@code $in} filter
+     * <p>
+     *     The entities are returned in the order of the values they matched.
+     * </p>
+     *
+     * @param field  the Java name of the field to filter for or the name it is stored under in the database
+     * @param values the values of the field to filter for, of the same type as the field
+     * @return all matching entities of type {@link T} contained in a {@link List} or an empty {@link List} if none were found
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> findAllIn(final @NotNull String field, final @NotNull Collection<?> values) {
+        final List<?> valueList = values.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (valueList.isEmpty()) {
+            return List.of();
+        }
+        final PropertyModel property = property(field);
+        final List<T> entities = list(datastore.find(resultClass)
+                .filter(Filters.in(property.getMappedName(), valueList)));
+        return RequestOrder.sort(valueList, entities, entity -> read(entity, property));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database matching all given field names and values
+     * <p>
+     *     A {@code null} value matches all entities whose field is {@code null} or missing. An empty {@link Map}
+     *     matches all entities.
+     * </p>
+     *
+     * @param criteria the names and values of the fields to filter for
+     * @return all matching entities of type {@link T} contained in a {@link List} or an empty {@link List} if none were found
+     * @throws IllegalArgumentException if the entity has no field with one of the given names
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> findAll(final @NotNull Map<String, Object> criteria) {
+        final Filter[] filters = criteria.entrySet().stream()
+                .map(entry -> equalTo(entry.getKey(), entry.getValue()))
+                .toArray(Filter[]::new);
+        return list(datastore.find(resultClass)
+                .filter(filters));
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by entry field name and value and reads only the fields
+     * needed for a projection
+     * <p>
+     *     Only the fields named like the components of the projection are transferred from the database.
+     * </p>
+     *
+     * @param field      the name of the field to filter for
+     * @param value      the value of the field to filter for
+     * @param projection the {@link Record} class to map the read fields into
+     * @param <P>        the type of the projection
+     * @return the projections of all matching entities contained in a {@link List} or an empty {@link List} if none were found
+     * @throws IllegalArgumentException if the entity has no field with the given name or named like one of the components
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public <P extends Record> @NotNull List<P> findAll(final @NotNull String field, final @Nullable Object value, final @NotNull Class<P> projection) {
+        final List<PropertyModel> properties = Projections.componentNames(projection).stream()
+                .map(this::property)
+                .toList();
+        try (Stream<T> entities = projectedStream(field, value, properties)) {
+            return entities.map(entity -> Projections.fromEntity(projection, entity)).toList();
+        }
+    }
+
+    /**
+     * Finds all entities of type {@link T} from the database by entry field name and value and reads only the given
+     * fields
+     *
+     * @param field  the name of the field to filter for
+     * @param value  the value of the field to filter for
+     * @param fields the names of the entity fields to read
+     * @return a {@link Map} of the given field names and values in the order of the given fields for every matching entity, contained in a {@link List}
+     * @throws IllegalArgumentException if the entity has no field with one of the given names
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<Map<String, Object>> findFields(final @NotNull String field, final @Nullable Object value, final @NotNull List<String> fields) {
+        final List<PropertyModel> properties = fields.stream()
+                .map(this::property)
+                .toList();
+        try (Stream<T> entities = projectedStream(field, value, properties)) {
+            return entities.map(entity -> {
+                final Map<String, Object> values = new LinkedHashMap<>();
+                for (int i = 0; i < fields.size(); i++) {
+                    values.put(fields.get(i), read(entity, properties.get(i)));
+                }
+                return values;
+            }).toList();
+        }
+    }
+
+    /**
+     * Streams partially loaded entities that only have the given fields set
+     *
+     * @param field      the name of the field to filter for
+     * @param value      the value of the field to filter for
+     * @param properties the {@link PropertyModel} objects of the entity fields to load
+     * @return a {@link Stream} of partially loaded entities of type {@link T}
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Stream<T> projectedStream(final @NotNull String field, final @Nullable Object value, final @NotNull List<PropertyModel> properties) {
+        final FindOptions options = new FindOptions();
+        options.projection().include(properties.stream().map(PropertyModel::getMappedName).toArray(String[]::new));
+        return cursorStream(datastore.find(resultClass).filter(equalTo(field, value)), options);
     }
 
     /**
@@ -124,8 +374,413 @@ public abstract class MongoDbRepository<T> implements EntityRepository<T> {
      */
     @Override
     public @NotNull List<T> all() {
+        return list(datastore.find(resultClass));
+    }
+
+    /**
+     * Counts the entities of type {@link T} in the database by entry field name and value without loading them
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return the number of matching entities
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public long count(final @NotNull String field, final @Nullable Object value) {
+        return datastore.find(resultClass)
+                .filter(equalTo(field, value))
+                .count();
+    }
+
+    /**
+     * Checks whether any entity of type {@link T} in the database matches an entry field name and value by loading
+     * only the id of at most one of them
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return {@code true} if at least one entity matches
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean exists(final @NotNull String field, final @Nullable Object value) {
+        final FindOptions options = new FindOptions().limit(1);
+        options.projection().include("_id");
         return datastore.find(resultClass)
-                .stream().toList();
+                .filter(equalTo(field, value))
+                .first(options) != null;
+    }
+
+    /**
+     * Computes an aggregate over a numeric field of all entities of type {@link T} in the database using a single
+     * {@code $group} stage
+     *
+     * @param aggregate the {@link Aggregate} function to compute
+     * @param field     the name of the numeric field to aggregate
+     * @return the computed value, or {@code null} if there are no entities with a value in the field
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @Nullable Number aggregate(final @NotNull Aggregate aggregate, final @NotNull String field) {
+        final List<Document> results = group(Group.group(), aggregate, field);
+        return results.isEmpty() ? null : results.getFirst().get(AGGREGATE_VALUE, Number.class);
+    }
+
+    /**
+     * Computes an aggregate over a numeric field of all entities of type {@link T} in the database for every value of
+     * another field using a single {@code $group} stage
+     * <p>
+     *     The keys of the {@link Map} are the group values as stored in the database, e.g. enums are keyed by their
+     *     name.
+     * </p>
+     *
+     * @param aggregate    the {@link Aggregate} function to compute
+     * @param field        the name of the numeric field to aggregate
+     * @param groupByField the name of the field whose values the entities are grouped by
+     * @param <K>          the type of the group by field
+     * @return a {@link Map} of every value of the group by field and the value computed for its entities
+     * @throws IllegalArgumentException if the entity has no field with one of the given names
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K> @NotNull Map<K, Number> aggregate(final @NotNull Aggregate aggregate, final @NotNull String field, final @NotNull String groupByField) {
+        final Map<K, Number> results = new LinkedHashMap<>();
+        for (final Document document : group(Group.group(Group.id(mappedName(groupByField))), aggregate, field)) {
+            results.put((K) document.get("_id"), document.get(AGGREGATE_VALUE, Number.class));
+        }
+        return results;
+    }
+
+    /**
+     * Runs an aggregation with a single {@code $group} stage computing an aggregate function
+     *
+     * @param group     the {@link Group} stage defining the group id
+     * @param aggregate the {@link Aggregate} function to compute
+     * @param field     the name of the numeric field to aggregate
+     * @return one {@link Document} per group, holding the computed value in {@link MongoDbRepository#AGGREGATE_VALUE}
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull List<Document> group(final @NotNull Group group, final @NotNull Aggregate aggregate, final @NotNull String field) {
+        final Expression path = Expressions.field(mappedName(field));
+        final Expression accumulator = switch (aggregate) {
+            case SUM -> AccumulatorExpressions.sum(path);
+            case MIN -> AccumulatorExpressions.min(path);
+            case MAX -> AccumulatorExpressions.max(path);
+            case AVG -> AccumulatorExpressions.avg(path);
+        };
+        try (MorphiaCursor<Document> cursor = datastore.aggregate(resultClass)
+                .group(group.field(AGGREGATE_VALUE, accumulator))
+                .execute(Document.class)) {
+            return cursor.toList();
+        }
+    }
+
+    /**
+     * Streams all entities of type {@link T} from the database by entry field name and value
+     * <p>
+     *     The {@link Stream} is backed by a database cursor that stays open until the {@link Stream} is closed, so it
+     *     has to be used within a try-with-resources block.
+     * </p>
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return a {@link Stream} of all matching entities of type {@link T}
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull Stream<T> stream(final @NotNull String field, final @Nullable Object value) {
+        return cursorStream(datastore.find(resultClass).filter(equalTo(field, value)));
+    }
+
+    /**
+     * Streams all entities of type {@link T} from the database
+     * <p>
+     *     The {@link Stream} is backed by a database cursor that stays open until the {@link Stream} is closed, so it
+     *     has to be used within a try-with-resources block.
+     * </p>
+     *
+     * @return a {@link Stream} of all entities of type {@link T}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull Stream<T> streamAll() {
+        return cursorStream(datastore.find(resultClass));
+    }
+
+    /**
+     * Reads one page of entities of type {@link T} from the database ordered by a field using offset pagination
+     *
+     * @param orderField the name of the field to order by
+     * @param pageNumber the zero-based number of the page
+     * @param pageSize   the maximum number of entities per page
+     * @return the requested {@link Page}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull Page<T> page(final @NotNull String orderField, final int pageNumber, final int pageSize) {
+        if (pageNumber < 0 || pageSize < 1) {
+            throw new IllegalArgumentException(String.format("Invalid page [pageNumber=%d, pageSize=%d]", pageNumber, pageSize));
+        }
+
+        final Query<T> query = datastore.find(resultClass);
+        final List<T> content = query.iterator(new FindOptions()
+                        .sort(Sort.ascending(mappedName(orderField)))
+                        .skip(Math.multiplyExact(pageNumber, pageSize))
+                        .limit(pageSize))
+                .toList();
+
+        return new Page<>(content, pageNumber, pageSize, query.count());
+    }
+
+    /**
+     * Reads one slice of entities of type {@link T} from the database ordered by a field using keyset pagination
+     * <p>
+     *     One more entity than requested is read to determine whether there is a next slice without a separate count.
+     * </p>
+     *
+     * @param orderField the name of the unique field to order by
+     * @param afterKey   the {@link Slice#lastKey()} of the previous slice, or {@code null} for the first slice
+     * @param size       the maximum number of entities in the slice
+     * @return the requested {@link Slice}
+     * @throws IllegalArgumentException if the size is not positive or the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull Slice<T> slice(final @NotNull String orderField, final @Nullable Comparable<?> afterKey, final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(String.format("Invalid slice size [%d]", size));
+        }
+
+        final PropertyModel orderProperty = property(orderField);
+        final Query<T> query = datastore.find(resultClass);
+        if (afterKey != null) {
+            query.filter(Filters.gt(orderProperty.getMappedName(), afterKey));
+        }
+        final List<T> rows = query.iterator(new FindOptions()
+                        .sort(Sort.ascending(orderProperty.getMappedName()))
+                        .limit(size + 1))
+                .toList();
+
+        final boolean hasNext = rows.size() > size;
+        final List<T> content = hasNext ? rows.subList(0, size) : rows;
+        final Comparable<?> lastKey = content.isEmpty() ? null : (Comparable<?>) read(content.getLast(), orderProperty);
+
+        return new Slice<>(content, lastKey, hasNext);
+    }
+
+    /**
+     * Resolves a field of {@link T} in the Morphia mapping
+     *
+     * @param field the Java name of the field or the name it is stored under in the database, e.g. {@code _id}
+     * @return the {@link PropertyModel} of the field
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull PropertyModel property(final @NotNull String field) {
+        for (PropertyModel property : datastore.getMapper().getEntityModel(resultClass).getProperties()) {
+            if (property.getName().equals(field) || property.getMappedName().equals(field)) {
+                return property;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Entity class [%s] has no field '%s'", resultClass.getName(), field));
+    }
+
+    /**
+     * Resolves the name a field of {@link T} is stored under in the database
+     *
+     * @param field the Java name of the field or the name it is stored under in the database
+     * @return the mapped name of the field
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull String mappedName(final @NotNull String field) {
+        return property(field).getMappedName();
+    }
+
+    /**
+     * Creates an equality filter on a field of {@link T}, addressed by the name it is stored under in the database
+     *
+     * @param field the Java name of the field or the name it is stored under in the database
+     * @param value the value of the field to filter for
+     * @return the {@link Filter}
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Filter equalTo(final @NotNull String field, final @Nullable Object value) {
+        return Filters.eq(mappedName(field), value);
+    }
+
+    /**
+     * Reads the value of a mapped field from an entity through its Java field
+     *
+     * @param entity   the entity to read the field from
+     * @param property the {@link PropertyModel} of the field
+     * @return the value of the field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @Nullable Object read(final @NotNull T entity, final @NotNull PropertyModel property) {
+        return EntityFields.read(entity, property.getName());
+    }
+
+    /**
+     * Reads all results of a {@link Query} through a cursor fetching {@link MongoDbCredentials#batchSize()} documents
+     * per round-trip, closing the cursor afterwards
+     *
+     * @param query the {@link Query} to read
+     * @return the results contained in a {@link List}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull List<T> list(final @NotNull Query<T> query) {
+        try (Stream<T> results = cursorStream(query)) {
+            return results.toList();
+        }
+    }
+
+    /**
+     * Opens a cursor for a {@link Query} and wraps it into a {@link Stream} that closes the cursor when closed
+     *
+     * @param query the {@link Query} to open the cursor for
+     * @return a {@link Stream} of the query results
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Stream<T> cursorStream(final @NotNull Query<T> query) {
+        return cursorStream(query, new FindOptions());
+    }
+
+    /**
+     * Opens a cursor for a {@link Query} with the given {@link FindOptions} and wraps it into a {@link Stream} that
+     * closes the cursor when closed
+     *
+     * @param query   the {@link Query} to open the cursor for
+     * @param options the {@link FindOptions} to open the cursor with
+     * @return a {@link Stream} of the query results
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull Stream<T> cursorStream(final @NotNull Query<T> query, final @NotNull FindOptions options) {
+        if (batchSize > 0) {
+            options.batchSize(batchSize);
+        }
+        final MorphiaCursor<T> cursor = query.iterator(options);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    /**
+     * Updates fields of an entity of type {@link T} in the database by its id using a single {@code $set} update
+     * without loading it
+     * <p>
+     *     If the entity has a version field, Morphia increments the version in the same update.
+     * </p>
+     *
+     * @param id      the id of the entity to update
+     * @param changes the names of the fields to update and their new values
+     * @return {@code true} if an entity with the id has been updated, {@code false} if none exists
+     * @throws IllegalArgumentException if no changes are given, the entity has no field with one of the names, or one of them is the id or version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes) {
+        return updateById(id, null, setOperators(changes));
+    }
+
+    /**
+     * Updates fields of an entity of type {@link T} in the database by its id using a single {@code $set} update
+     * without loading it, if its version still equals the expected version
+     *
+     * @param id              the id of the entity to update
+     * @param changes         the names of the fields to update and their new values
+     * @param expectedVersion the version the entity has to have
+     * @return {@code true} if the entity has been updated, {@code false} if no entity with the id and version exists
+     * @throws IllegalArgumentException if no changes are given, the entity has no field with one of the names, one of them is the id or version field, or the entity has no version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes, final @NotNull Object expectedVersion) {
+        return updateById(id, expectedVersion, setOperators(changes));
+    }
+
+    /**
+     * Adds a delta to a numeric field of an entity of type {@link T} in the database by its id using a single
+     * {@code $inc} update without loading it
+     *
+     * @param id    the id of the entity to update
+     * @param field the name of the numeric field to increment
+     * @param delta the value to add, negative to decrement
+     * @return {@code true} if an entity with the id has been updated, {@code false} if none exists
+     * @throws IllegalArgumentException if the entity has no field with the name, or it is the id or version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean increment(final @NotNull Object id, final @NotNull String field, final @NotNull Number delta) {
+        return updateById(id, null, List.of(UpdateOperators.inc(updatableName(field, "incremented"), delta)));
+    }
+
+    /**
+     * Creates a {@code $set} operator for every change
+     *
+     * @param changes the names of the fields to update and their new values
+     * @return the {@link UpdateOperator} objects
+     * @throws IllegalArgumentException if no changes are given, the entity has no field with one of the names, or one of them is the id or version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull List<UpdateOperator> setOperators(final @NotNull Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException(String.format("No changes given for entity class [%s]", resultClass.getName()));
+        }
+        return changes.entrySet().stream()
+                .map(entry -> UpdateOperators.set(updatableName(entry.getKey(), "updated"), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Resolves the name a field of {@link T} is stored under for an update, rejecting the id and version field
+     * <p>
+     *     The id of a document cannot be changed, and the version is only changed by Morphia itself, so changing either
+     *     would break the identity or the optimistic locking of the entity.
+     * </p>
+     *
+     * @param field the Java name of the field or the name it is stored under in the database
+     * @param verb  the kind of change for the error message, e.g. {@code updated}
+     * @return the mapped name of the field
+     * @throws IllegalArgumentException if the entity has no field with the given name, or it is the id or version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull String updatableName(final @NotNull String field, final @NotNull String verb) {
+        final PropertyModel property = property(field);
+        final EntityModel model = datastore.getMapper().getEntityModel(resultClass);
+        if (property == model.getIdProperty() || property == model.getVersionProperty()) {
+            throw new IllegalArgumentException(String.format("Field '%s' of entity class [%s] cannot be %s", field, resultClass.getName(), verb));
+        }
+        return property.getMappedName();
+    }
+
+    /**
+     * Runs an update on the entity with an id
+     *
+     * @param id              the id of the entity to update
+     * @param expectedVersion the version the entity has to have, or {@code null} to update regardless of the version
+     * @param operators       the {@link UpdateOperator} objects to apply
+     * @return {@code true} if an entity has matched the filter
+     * @throws IllegalArgumentException if a version is expected but the entity has no version field
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private boolean updateById(final @NotNull Object id, final @Nullable Object expectedVersion, final @NotNull List<UpdateOperator> operators) {
+        final Query<T> query = datastore.find(resultClass)
+                .filter(Filters.eq("_id", id));
+        if (expectedVersion != null) {
+            final PropertyModel versionProperty = datastore.getMapper().getEntityModel(resultClass).getVersionProperty();
+            if (versionProperty == null) {
+                throw new IllegalArgumentException(String.format("Entity class [%s] has no version field", resultClass.getName()));
+            }
+            query.filter(Filters.eq(versionProperty.getMappedName(), expectedVersion));
+        }
+        return query.update(new UpdateOptions(), operators.toArray(UpdateOperator[]::new))
+                .getMatchedCount() > 0;
     }
 
     /**
@@ -139,4 +794,40 @@ public abstract class MongoDbRepository<T> implements EntityRepository<T> {
         datastore.delete(entity);
     }
 
+    /**
+     * Deletes multiple entities of type {@link T} from the database using a single {@code $in} filter on their ids
+     *
+     * @param entities the entities of type {@link T} to be deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void deleteAll(@NotNull final Collection<T> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        final List<Object> ids = entities.stream()
+                .map(entity -> datastore.getMapper().getId(entity))
+                .toList();
+        datastore.find(resultClass)
+                .filter(Filters.in("_id", ids))
+                .delete(new DeleteOptions().multi(true));
+    }
+
+    /**
+     * Deletes all entities of type {@link T} from the database by entry field name and value without loading them
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return the number of deleted entities
+     * @throws IllegalArgumentException if the entity has no field with the given name
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public long deleteWhere(final @NotNull String field, final @Nullable Object value) {
+        return datastore.find(resultClass)
+                .filter(equalTo(field, value))
+                .delete(new DeleteOptions().multi(true))
+                .getDeletedCount();
+    }
+
 }
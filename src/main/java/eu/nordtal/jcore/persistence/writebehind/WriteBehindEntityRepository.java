@@ -0,0 +1,920 @@
+package eu.nordtal.jcore.persistence.writebehind;
+
+import eu.nordtal.jcore.persistence.common.Aggregate;
+import eu.nordtal.jcore.persistence.common.EntityRepository;
+import eu.nordtal.jcore.persistence.common.Page;
+import eu.nordtal.jcore.persistence.common.Slice;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * This class wraps an {@link EntityRepository} to buffer saves and write them in batches
+ * <p>
+ *     Saved entities are buffered by id, so repeated saves of the same id before the next flush are coalesced into a
+ *     single write of the latest state. The buffer is flushed in transactions of up to
+ *     {@link WriteBehindSettings#batchSize()} entities once it holds that many entities, every
+ *     {@link WriteBehindSettings#flushInterval()} and when this repository is closed. Callers saving into a full buffer
+ *     flush it themselves, which slows them down to the speed of the database. Entities without an id are saved
+ *     directly.
+ * </p>
+ * <p>
+ *     Entities of a failed batch are put back into the buffer unless a newer state has been saved meanwhile, and
+ *     periodic and triggered flushes pause for {@link WriteBehindSettings#retryBackoff()}. Callers saving into a full
+ *     buffer wait for the pause as well, and their flushes are not counted as attempts. An entity whose write has
+ *     failed {@link WriteBehindSettings#maxAttempts()} times, or which is still buffered after the final flush on
+ *     {@link WriteBehindEntityRepository#close()}, is dropped and handed to the failure handler. A failed batch is
+ *     only thrown to a caller of {@link WriteBehindEntityRepository#flush()} if it contains an entity the calling
+ *     thread has saved, so callers never see errors of other callers' writes.
+ * </p>
+ * <p>
+ *     {@link WriteBehindEntityRepository#findFirstById(Object)} and lookups of multiple ids answer from the buffer,
+ *     all other reads go to the
+ *     underlying repository and do not see buffered saves until they have been flushed. Deletes flush the buffer
+ *     before deleting, so a buffered save can never resurrect a deleted entity. Updates and increments write only
+ *     the buffered save of their id first, so it can never overwrite them later.
+ * </p>
+ *
+ * @param <T> the class type of the entity the repository is handling
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public class WriteBehindEntityRepository<T> implements EntityRepository<T>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindEntityRepository.class);
+
+    /**
+     * The underlying repository
+     */
+    @NotNull
+    private final EntityRepository<T> delegate;
+
+    /**
+     * Extracts the id of an entity, as used for {@link EntityRepository#findFirstById(Object)}
+     */
+    @NotNull
+    private final Function<? super T, ?> idExtractor;
+
+    /**
+     * The settings of this buffer
+     */
+    @NotNull
+    private final WriteBehindSettings settings;
+
+    /**
+     * The buffered entities by id in the order they were first saved, guarded by {@link WriteBehindEntityRepository#lock}
+     */
+    private final Map<Object, Pending<T>> pending = new LinkedHashMap<>();
+
+    /**
+     * The entities taken from the buffer by the running flush and not written yet by id, guarded by
+     * {@link WriteBehindEntityRepository#lock}
+     */
+    private final Map<Object, Pending<T>> flushing = new LinkedHashMap<>();
+
+    /**
+     * Receives the entities that are dropped without having been written and the error of their last attempt
+     */
+    @NotNull
+    private final BiConsumer<? super List<T>, ? super RuntimeException> failureHandler;
+
+    /**
+     * Guards {@link WriteBehindEntityRepository#pending} and {@link WriteBehindEntityRepository#flushing}
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Serializes flushes and deletes, so writes of the same id are never reordered
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * Runs the periodic and triggered flushes
+     */
+    @NotNull
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * Whether a triggered flush has been submitted but not started yet
+     */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * The {@link System#nanoTime()} before which periodic and triggered flushes are skipped after a failed batch
+     */
+    private volatile long pausedUntil;
+
+    /**
+     * The hook flushing the buffer on JVM shutdown, or {@code null} if none is registered
+     */
+    @Nullable
+    private final Thread shutdownHook;
+
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedEntities = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final LongAdder droppedEntities = new LongAdder();
+
+    /**
+     * Creates a new {@link WriteBehindEntityRepository} and starts flushing periodically
+     *
+     * @param delegate       the {@link EntityRepository} to write to
+     * @param idExtractor    extracts the id of an entity, as used for {@link EntityRepository#findFirstById(Object)}
+     * @param settings       the {@link WriteBehindSettings} of the buffer
+     * @param failureHandler receives the entities dropped without having been written and the error of their last attempt
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public WriteBehindEntityRepository(final @NotNull EntityRepository<T> delegate, final @NotNull Function<? super T, ?> idExtractor, final @NotNull WriteBehindSettings settings,
+                                       final @NotNull BiConsumer<? super List<T>, ? super RuntimeException> failureHandler) {
+        this.delegate = delegate;
+        this.idExtractor = idExtractor;
+        this.settings = settings;
+        this.failureHandler = failureHandler;
+        this.pausedUntil = System.nanoTime();
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("write-behind-flusher").factory());
+        final long intervalNanos = settings.flushInterval().toNanos();
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+
+        if (settings.flushOnShutdown()) {
+            this.shutdownHook = Thread.ofPlatform().unstarted(this::flush);
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        } else {
+            this.shutdownHook = null;
+        }
+    }
+
+    /**
+     * Creates a new {@link WriteBehindEntityRepository} logging the entities dropped without having been written
+     *
+     * @param delegate    the {@link EntityRepository} to write to
+     * @param idExtractor extracts the id of an entity, as used for {@link EntityRepository#findFirstById(Object)}
+     * @param settings    the {@link WriteBehindSettings} of the buffer
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public WriteBehindEntityRepository(final @NotNull EntityRepository<T> delegate, final @NotNull Function<? super T, ?> idExtractor, final @NotNull WriteBehindSettings settings) {
+        this(delegate, idExtractor, settings, (entities, e) -> LOG.error("Dropped {} write-behind entities that could not be written", entities.size(), e));
+    }
+
+    /**
+     * Creates a new {@link WriteBehindEntityRepository} using {@link WriteBehindSettings#DEFAULT}
+     *
+     * @param delegate    the {@link EntityRepository} to write to
+     * @param idExtractor extracts the id of an entity, as used for {@link EntityRepository#findFirstById(Object)}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public WriteBehindEntityRepository(final @NotNull EntityRepository<T> delegate, final @NotNull Function<? super T, ?> idExtractor) {
+        this(delegate, idExtractor, WriteBehindSettings.DEFAULT);
+    }
+
+    /**
+     * Buffers an entity to be saved with the next flush, replacing a buffered entity with the same id
+     * <p>
+     *     Entities without an id are saved directly.
+     * </p>
+     *
+     * @param entity the entity of type {@link T} to be saved to the database
+     * @return the given entity
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull T save(final @NotNull T entity) {
+        final Object id = idExtractor.apply(entity);
+        if (id == null) {
+            return delegate.save(entity);
+        }
+
+        buffer(id, entity);
+        return entity;
+    }
+
+    /**
+     * Buffers multiple entities to be saved with the next flush, replacing buffered entities with the same ids
+     * <p>
+     *     Entities without an id are saved directly.
+     * </p>
+     *
+     * @param entities the entities of type {@link T} to be saved to the database
+     * @return the given entities in the order of the given {@link Collection}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> saveAll(final @NotNull Collection<T> entities) {
+        final List<T> withoutId = new ArrayList<>();
+        for (T entity : entities) {
+            final Object id = idExtractor.apply(entity);
+            if (id == null) {
+                withoutId.add(entity);
+            } else {
+                buffer(id, entity);
+            }
+        }
+        if (!withoutId.isEmpty()) {
+            delegate.saveAll(withoutId);
+        }
+        return new ArrayList<>(entities);
+    }
+
+    @Override
+    public @Nullable T findFirst(final @NotNull String field, final @Nullable Object value) {
+        return delegate.findFirst(field, value);
+    }
+
+    /**
+     * Finds an entity by id, answering from the buffer if a save of it has not been flushed yet
+     *
+     * @param value the value of the id to look up
+     * @return the entity of type {@link T} or {@code null} if none was found
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @Nullable T findFirstById(final @Nullable Object value) {
+        if (value != null) {
+            lock.lock();
+            try {
+                final T buffered = buffered(value);
+                if (buffered != null) {
+                    return buffered;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return delegate.findFirstById(value);
+    }
+
+    /**
+     * Finds entities by id, answering from the buffer for saves that have not been flushed yet
+     *
+     * @param ids the ids to look up
+     * @return the found entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public @NotNull List<T> findAllByIds(final @NotNull Collection<?> ids) {
+        return List.copyOf(findAllByIdsAsMap(ids).values());
+    }
+
+    /**
+     * Finds entities by id and maps them by id, answering from the buffer for saves that have not been flushed yet and
+     * loading all other ids in one call to the underlying repository
+     *
+     * @param ids the ids to look up
+     * @param <K> the type of the ids
+     * @return a {@link Map} of the found ids and entities of type {@link T} in the order of the given ids
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public <K> @NotNull Map<K, T> findAllByIdsAsMap(final @NotNull Collection<K> ids) {
+        final Map<K, T> buffered = new HashMap<>();
+        final List<K> remaining = new ArrayList<>();
+        lock.lock();
+        try {
+            for (K id : ids) {
+                if (id == null) {
+                    continue;
+                }
+                final T entity = buffered(id);
+                if (entity != null) {
+                    buffered.put(id, entity);
+                } else {
+                    remaining.add(id);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        final Map<K, T> loaded = remaining.isEmpty() ? Map.of() : delegate.findAllByIdsAsMap(remaining);
+        final Map<K, T> result = new LinkedHashMap<>();
+        for (K id : ids) {
+            final T entity = buffered.containsKey(id) ? buffered.get(id) : loaded.get(id);
+            if (entity != null) {
+                result.put(id, entity);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull List<T> findAll(final @NotNull String field, final @Nullable Object value) {
+        return delegate.findAll(field, value);
+    }
+
+    @Override
+    public @NotNull List<T> findAllIn(final @NotNull String field, final @NotNull Collection<?> values) {
+        return delegate.findAllIn(field, values);
+    }
+
+    @Override
+    public @NotNull List<T> findAll(final @NotNull Map<String, Object> criteria) {
+        return delegate.findAll(criteria);
+    }
+
+    @Override
+    public <P extends Record> @NotNull List<P> findAll(final @NotNull String field, final @Nullable Object value, final @NotNull Class<P> projection) {
+        return delegate.findAll(field, value, projection);
+    }
+
+    @Override
+    public @NotNull List<Map<String, Object>> findFields(final @NotNull String field, final @Nullable Object value, final @NotNull List<String> fields) {
+        return delegate.findFields(field, value, fields);
+    }
+
+    @Override
+    public @NotNull List<T> all() {
+        return delegate.all();
+    }
+
+    @Override
+    public @NotNull Stream<T> stream(final @NotNull String field, final @Nullable Object value) {
+        return delegate.stream(field, value);
+    }
+
+    @Override
+    public @NotNull Stream<T> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public long count(final @NotNull String field, final @Nullable Object value) {
+        return delegate.count(field, value);
+    }
+
+    @Override
+    public boolean exists(final @NotNull String field, final @Nullable Object value) {
+        return delegate.exists(field, value);
+    }
+
+    @Override
+    public @Nullable Number aggregate(final @NotNull Aggregate aggregate, final @NotNull String field) {
+        return delegate.aggregate(aggregate, field);
+    }
+
+    @Override
+    public <K> @NotNull Map<K, Number> aggregate(final @NotNull Aggregate aggregate, final @NotNull String field, final @NotNull String groupByField) {
+        return delegate.aggregate(aggregate, field, groupByField);
+    }
+
+    @Override
+    public @NotNull Page<T> page(final @NotNull String orderField, final int pageNumber, final int pageSize) {
+        return delegate.page(orderField, pageNumber, pageSize);
+    }
+
+    @Override
+    public @NotNull Slice<T> slice(final @NotNull String orderField, final @Nullable Comparable<?> afterKey, final int size) {
+        return delegate.slice(orderField, afterKey, size);
+    }
+
+    /**
+     * Writes a buffered save of the entity and updates it in the database, so that the buffered save cannot overwrite
+     * the update later
+     * <p>
+     *     Only the buffered save of this id is written, see {@link WriteBehindEntityRepository#flush(Object)}.
+     * </p>
+     *
+     * @param id      the id of the entity to update
+     * @param changes the names of the fields to update and their new values
+     * @return {@code true} if an entity with the id has been updated
+     * @throws RuntimeException if writing the buffered save of the entity fails, the update is not run then
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes) {
+        flushLock.lock();
+        try {
+            flush(id);
+            return delegate.update(id, changes);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a buffered save of the entity and updates it with a version check in the database
+     *
+     * @param id              the id of the entity to update
+     * @param changes         the names of the fields to update and their new values
+     * @param expectedVersion the version the entity has to have
+     * @return {@code true} if the entity has been updated
+     * @throws RuntimeException if writing the buffered save of the entity fails, the update is not run then
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes, final @NotNull Object expectedVersion) {
+        flushLock.lock();
+        try {
+            flush(id);
+            return delegate.update(id, changes, expectedVersion);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a buffered save of the entity and increments a field of it in the database
+     *
+     * @param id    the id of the entity to update
+     * @param field the name of the numeric field to increment
+     * @param delta the value to add
+     * @return {@code true} if an entity with the id has been updated
+     * @throws RuntimeException if writing the buffered save of the entity fails, the increment is not run then
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public boolean increment(final @NotNull Object id, final @NotNull String field, final @NotNull Number delta) {
+        flushLock.lock();
+        try {
+            flush(id);
+            return delegate.increment(id, field, delta);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Discards a buffered save of the entity and deletes it from the database
+     *
+     * @param entity the entity of type {@link T} to be deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void delete(final @NotNull T entity) {
+        deleteAll(List.of(entity));
+    }
+
+    /**
+     * Discards buffered saves of the entities and deletes them from the database
+     *
+     * @param entities the entities of type {@link T} to be deleted
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void deleteAll(final @NotNull Collection<T> entities) {
+        flushLock.lock();
+        try {
+            lock.lock();
+            try {
+                for (T entity : entities) {
+                    final Object id = idExtractor.apply(entity);
+                    if (id != null) {
+                        pending.remove(id);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (entities.size() == 1) {
+                delegate.delete(entities.iterator().next());
+            } else {
+                delegate.deleteAll(entities);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the buffer and deletes all matching entities from the database
+     *
+     * @param field the name of the field to filter for
+     * @param value the value of the field to filter for
+     * @return the number of deleted entities
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public long deleteWhere(final @NotNull String field, final @Nullable Object value) {
+        flushLock.lock();
+        try {
+            flush();
+            return delegate.deleteWhere(field, value);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes all buffered entities to the underlying repository in batches of up to
+     * {@link WriteBehindSettings#batchSize()} entities
+     * <p>
+     *     A failed batch does not stop the flush. Its entities are put back into the buffer once all other batches
+     *     have been written, or dropped if they have failed {@link WriteBehindSettings#maxAttempts()} times.
+     * </p>
+     *
+     * @throws RuntimeException if writing a batch containing an entity saved by the calling thread fails, errors of
+     *                          batches of other threads' writes are only logged
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public void flush() {
+        flushBuffer(true);
+    }
+
+    /**
+     * Writes all buffered entities to the underlying repository as described by {@link WriteBehindEntityRepository#flush()}
+     *
+     * @param countAttempts whether failed writes count toward {@link WriteBehindSettings#maxAttempts()}, which is not
+     *                      the case for the flushes of callers saving into a full buffer
+     * @throws RuntimeException if writing a batch containing an entity saved by the calling thread fails
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void flushBuffer(final boolean countAttempts) {
+        final long caller = Thread.currentThread().threadId();
+        final List<T> dropped = new ArrayList<>();
+        RuntimeException ownError = null;
+        RuntimeException lastError = null;
+
+        flushLock.lock();
+        try {
+            List<Pending<T>> batch;
+            while (!(batch = takeBatch()).isEmpty()) {
+                final RuntimeException error = writeBatch(batch);
+                if (error == null) {
+                    continue;
+                }
+                lastError = error;
+                if (ownError == null && batch.stream().anyMatch(entry -> entry.owner() == caller)) {
+                    ownError = error;
+                } else {
+                    LOG.warn("Error writing a write-behind batch of {} entities, retrying later", batch.size(), error);
+                }
+            }
+            if (lastError != null) {
+                requeueFailed(dropped, countAttempts);
+                pausedUntil = System.nanoTime() + settings.retryBackoff().toNanos();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+
+        if (!dropped.isEmpty()) {
+            handleDropped(dropped, lastError);
+        }
+        if (ownError != null) {
+            throw ownError;
+        }
+    }
+
+    /**
+     * Writes the buffered save of a single entity to the underlying repository, leaving all other buffered entities
+     * to the next flush
+     * <p>
+     *     Must be called while holding {@link WriteBehindEntityRepository#flushLock}, so a running flush that has
+     *     already taken the entity has finished writing it. Unlike {@link WriteBehindEntityRepository#flush()}, a failure
+     *     is always thrown, whichever thread saved the entity, as the caller's following write would otherwise be
+     *     overwritten by the retried save. The failed entity is put back into the buffer or dropped as by a flush.
+     * </p>
+     *
+     * @param id the id of the entity
+     * @throws RuntimeException if writing the buffered save fails
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void flush(final @NotNull Object id) {
+        final Pending<T> entry;
+        lock.lock();
+        try {
+            entry = pending.remove(id);
+            if (entry != null) {
+                flushing.put(id, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (entry == null) {
+            return;
+        }
+
+        final RuntimeException error = writeBatch(List.of(entry));
+        if (error == null) {
+            return;
+        }
+        final List<T> dropped = new ArrayList<>();
+        requeueFailed(dropped, true);
+        pausedUntil = System.nanoTime() + settings.retryBackoff().toNanos();
+        if (!dropped.isEmpty()) {
+            handleDropped(dropped, error);
+        }
+        throw error;
+    }
+
+    /**
+     * Creates a snapshot of the counters of this buffer
+     *
+     * @return the current {@link WriteBehindStatistics}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public @NotNull WriteBehindStatistics statistics() {
+        final int queueDepth;
+        lock.lock();
+        try {
+            queueDepth = pending.size();
+        } finally {
+            lock.unlock();
+        }
+        return new WriteBehindStatistics(
+                queueDepth,
+                saves.sum(),
+                coalesced.sum(),
+                flushes.sum(),
+                flushedEntities.sum(),
+                failedFlushes.sum(),
+                Duration.ofNanos(lastFlushNanos.get()),
+                Duration.ofNanos(maxFlushNanos.get()),
+                droppedEntities.sum()
+        );
+    }
+
+    /**
+     * Stops the periodic flushing and flushes the buffer
+     * <p>
+     *     Entities still buffered after the final flush, because their batch failed, are dropped and handed to the
+     *     failure handler.
+     * </p>
+     *
+     * @throws RuntimeException if writing a batch containing an entity saved by the calling thread fails
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(settings.flushInterval().toMillis() * 10, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Write-behind flusher did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException ignored) {
+                // The JVM is already shutting down and the hook is running
+            }
+        }
+
+        RuntimeException error = null;
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            error = e;
+        }
+
+        final List<T> remaining = new ArrayList<>();
+        lock.lock();
+        try {
+            pending.values().forEach(entry -> remaining.add(entry.entity()));
+            pending.clear();
+        } finally {
+            lock.unlock();
+        }
+        if (!remaining.isEmpty()) {
+            handleDropped(remaining, error != null ? error : new IllegalStateException(String.format("Write-behind buffer closed with %d unwritten entities", remaining.size())));
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Puts an entity into the buffer and triggers a flush if the buffer holds a full batch
+     * <p>
+     *     If the buffer is full, the calling thread flushes it before buffering. After a failed batch it waits for
+     *     {@link WriteBehindSettings#retryBackoff()} first, and its failed flushes do not count toward
+     *     {@link WriteBehindSettings#maxAttempts()}, so a saving thread is held back while the database is down
+     *     instead of retrying and dropping the buffered entities in a tight loop.
+     * </p>
+     *
+     * @param id     the id of the entity
+     * @param entity the entity to buffer
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void buffer(final @NotNull Object id, final @NotNull T entity) {
+        while (true) {
+            lock.lock();
+            try {
+                final Pending<T> entry = new Pending<>(entity, Thread.currentThread().threadId(), 0);
+                if (pending.containsKey(id)) {
+                    pending.put(id, entry);
+                    coalesced.increment();
+                    saves.increment();
+                    return;
+                }
+                if (pending.size() < settings.capacity()) {
+                    pending.put(id, entry);
+                    saves.increment();
+                    if (pending.size() >= settings.batchSize() && flushScheduled.compareAndSet(false, true)) {
+                        flusher.execute(() -> {
+                            flushScheduled.set(false);
+                            flushQuietly();
+                        });
+                    }
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // Back-pressure: the buffer is full, so the caller has to help flushing it once the backoff has passed
+            final long backoffNanos = pausedUntil - System.nanoTime();
+            if (backoffNanos > 0) {
+                awaitBackoff(backoffNanos);
+                continue;
+            }
+            flushBuffer(false);
+        }
+    }
+
+    /**
+     * Blocks a caller saving into a full buffer while flushing is paused after a failed batch
+     *
+     * @param backoffNanos the remaining time of the pause
+     * @throws IllegalStateException if the calling thread is interrupted, the entity has not been buffered then
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void awaitBackoff(final long backoffNanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(backoffNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for space in the write-behind buffer", e);
+        }
+    }
+
+    /**
+     * Returns the buffered state of an entity, either waiting to be flushed or being flushed
+     * <p>
+     *     Must be called while holding {@link WriteBehindEntityRepository#lock}.
+     * </p>
+     *
+     * @param id the id of the entity
+     * @return the buffered entity, or {@code null} if none is buffered
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @Nullable T buffered(final @NotNull Object id) {
+        final Pending<T> entry = pending.containsKey(id) ? pending.get(id) : flushing.get(id);
+        return entry == null ? null : entry.entity();
+    }
+
+    /**
+     * Removes up to {@link WriteBehindSettings#batchSize()} entities from the buffer and marks them as flushing
+     *
+     * @return the removed entries, empty if the buffer is empty
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @NotNull List<Pending<T>> takeBatch() {
+        lock.lock();
+        try {
+            final List<Pending<T>> batch = new ArrayList<>();
+            final Iterator<Map.Entry<Object, Pending<T>>> iterator = pending.entrySet().iterator();
+            while (batch.size() < settings.batchSize() && iterator.hasNext()) {
+                final Map.Entry<Object, Pending<T>> entry = iterator.next();
+                flushing.put(entry.getKey(), entry.getValue());
+                batch.add(entry.getValue());
+                iterator.remove();
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a batch to the underlying repository and records its duration
+     * <p>
+     *     The entities of a written batch are no longer marked as flushing. The entities of a failed batch stay marked
+     *     until the flush puts them back into the buffer.
+     * </p>
+     *
+     * @param batch the entries to write
+     * @return the error writing the batch, or {@code null} if it has been written
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private @Nullable RuntimeException writeBatch(final @NotNull List<Pending<T>> batch) {
+        final List<T> entities = new ArrayList<>(batch.size());
+        for (Pending<T> entry : batch) {
+            entities.add(entry.entity());
+        }
+
+        final long start = System.nanoTime();
+        try {
+            delegate.saveAll(entities);
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            return e;
+        }
+
+        final long duration = System.nanoTime() - start;
+        lastFlushNanos.set(duration);
+        maxFlushNanos.accumulateAndGet(duration, Math::max);
+        flushes.increment();
+        flushedEntities.add(batch.size());
+
+        lock.lock();
+        try {
+            for (T entity : entities) {
+                flushing.remove(idExtractor.apply(entity));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return null;
+    }
+
+    /**
+     * Puts the entities of the failed batches of a flush back into the buffer
+     * <p>
+     *     Entities whose id has been saved again meanwhile are replaced by the newer state. If the attempts are counted,
+     *     entities that have now failed {@link WriteBehindSettings#maxAttempts()} times are dropped instead.
+     * </p>
+     *
+     * @param dropped       receives the dropped entities
+     * @param countAttempts whether the failed attempt counts toward {@link WriteBehindSettings#maxAttempts()}
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void requeueFailed(final @NotNull List<T> dropped, final boolean countAttempts) {
+        lock.lock();
+        try {
+            for (Map.Entry<Object, Pending<T>> entry : flushing.entrySet()) {
+                if (pending.containsKey(entry.getKey())) {
+                    continue;
+                }
+                final Pending<T> failed = entry.getValue();
+                final int attempts = countAttempts ? failed.attempts() + 1 : failed.attempts();
+                if (attempts >= settings.maxAttempts()) {
+                    dropped.add(failed.entity());
+                } else {
+                    pending.put(entry.getKey(), new Pending<>(failed.entity(), failed.owner(), attempts));
+                }
+            }
+            flushing.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Counts dropped entities and hands them to the failure handler, logging errors of the handler
+     *
+     * @param dropped the dropped entities
+     * @param cause   the error of their last attempt
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void handleDropped(final @NotNull List<T> dropped, final @NotNull RuntimeException cause) {
+        droppedEntities.add(dropped.size());
+        try {
+            failureHandler.accept(List.copyOf(dropped), cause);
+        } catch (RuntimeException e) {
+            LOG.error("Error handling {} dropped write-behind entities", dropped.size(), e);
+        }
+    }
+
+    /**
+     * Flushes the buffer unless flushing is paused after a failed batch, logging instead of throwing errors
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    private void flushQuietly() {
+        if (System.nanoTime() - pausedUntil < 0) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOG.error("Error flushing write-behind buffer, the failed batch will be retried", e);
+        }
+    }
+
+    /**
+     * A buffered entity with the thread that saved it and the number of failed attempts to write it
+     *
+     * @param entity   the entity to write
+     * @param owner    the {@link Thread#threadId()} of the thread that saved the entity
+     * @param attempts the number of failed attempts to write this state of the entity
+     * @param <T>      the class type of the entity
+     */
+    private record Pending<T>(@NotNull T entity, long owner, int attempts) {
+    }
+}
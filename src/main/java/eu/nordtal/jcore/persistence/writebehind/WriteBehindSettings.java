@@ -0,0 +1,71 @@
+package eu.nordtal.jcore.persistence.writebehind;
+
+import lombok.With;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * This record holds the settings of a {@link WriteBehindEntityRepository}
+ * <p>
+ *     Instances are derived from {@link WriteBehindSettings#DEFAULT} using the generated {@code with...} methods, e.g.
+ *     {@code WriteBehindSettings.DEFAULT.withFlushInterval(Duration.ofMillis(500))}.
+ * </p>
+ *
+ * @param batchSize       the number of buffered entities that triggers a flush, also the maximum number of entities saved per transaction
+ * @param flushInterval   the interval in which buffered entities are flushed regardless of their number
+ * @param capacity        the maximum number of buffered entities, callers saving into a full buffer flush it themselves
+ * @param flushOnShutdown whether a JVM shutdown hook flushing the buffer is registered
+ * @param maxAttempts     the number of times writing an entity is attempted before it is dropped and handed to the failure handler
+ * @param retryBackoff    the time periodic and triggered flushes pause after a batch has failed, callers saving into a full buffer wait as long before flushing it
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+@With
+public record WriteBehindSettings(int batchSize, @NotNull Duration flushInterval, int capacity, boolean flushOnShutdown,
+                                  int maxAttempts, @NotNull Duration retryBackoff) {
+
+    /**
+     * The default settings used if none are specified
+     */
+    public static final WriteBehindSettings DEFAULT = new WriteBehindSettings(
+            500,
+            Duration.ofSeconds(1),
+            10_000,
+            true,
+            5,
+            Duration.ofSeconds(5)
+    );
+
+    /**
+     * Validates the settings
+     *
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public WriteBehindSettings {
+        if (batchSize < 1 || capacity < batchSize) {
+            throw new IllegalArgumentException(String.format("Invalid write-behind sizes [batchSize=%d, capacity=%d]", batchSize, capacity));
+        }
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Write-behind flush interval must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException(String.format("Invalid write-behind maximum attempts [%d]", maxAttempts));
+        }
+        if (retryBackoff.isNegative()) {
+            throw new IllegalArgumentException("Write-behind retry backoff must not be negative");
+        }
+    }
+
+    /**
+     * Creates new settings retrying failed writes as often and as late as {@link WriteBehindSettings#DEFAULT}
+     *
+     * @param batchSize       the number of buffered entities that triggers a flush, also the maximum number of entities saved per transaction
+     * @param flushInterval   the interval in which buffered entities are flushed regardless of their number
+     * @param capacity        the maximum number of buffered entities, callers saving into a full buffer flush it themselves
+     * @param flushOnShutdown whether a JVM shutdown hook flushing the buffer is registered
+     * @author Till Hoffmann / @tillhfm - 17.10.2026
+     */
+    public WriteBehindSettings(final int batchSize, final @NotNull Duration flushInterval, final int capacity, final boolean flushOnShutdown) {
+        this(batchSize, flushInterval, capacity, flushOnShutdown, 5, Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,24 @@
+package eu.nordtal.jcore.persistence.writebehind;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * This record holds a snapshot of the counters of a {@link WriteBehindEntityRepository}
+ *
+ * @param queueDepth        the number of entities currently waiting to be flushed
+ * @param saves             the number of saves accepted into the buffer
+ * @param coalesced         the number of saves that replaced an entity with the same id already in the buffer
+ * @param flushes           the number of batches written to the underlying repository
+ * @param flushedEntities   the number of entities written to the underlying repository
+ * @param failedFlushes     the number of batches that failed to be written
+ * @param lastFlushDuration the duration of the most recent flushed batch
+ * @param maxFlushDuration  the duration of the slowest flushed batch
+ * @param droppedEntities   the number of entities given up on after {@link WriteBehindSettings#maxAttempts()} failed writes or on close
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public record WriteBehindStatistics(int queueDepth, long saves, long coalesced, long flushes, long flushedEntities,
+                                    long failedFlushes, @NotNull Duration lastFlushDuration, @NotNull Duration maxFlushDuration,
+                                    long droppedEntities) {
+}
@@ -0,0 +1,87 @@
+package eu.nordtal.jcore.config;
+
+import eu.nordtal.jcore.config.exception.ConfigException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class JsonConfigLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void registerMigrations() {
+        // Renames "host" to "address", overwriting the address with null if it is run on an already migrated file
+        JsonConfigLoader.registerMigration(RenamedConfig.class, 0, json -> json.set("address", json.remove("host")));
+    }
+
+    @Test
+    void savesNewInstancesWithTheLatestVersion() throws ConfigException {
+        final Path configPath = directory.resolve("renamed.json");
+        final RenamedConfig config = new RenamedConfig();
+        config.address = "example.org";
+        JsonConfigLoader.save(configPath, config);
+
+        final RenamedConfig loaded = JsonConfigLoader.load(configPath, RenamedConfig.class);
+
+        assertEquals("example.org", loaded.address);
+        assertEquals(JsonConfigLoader.latestVersion(RenamedConfig.class), loaded.getConfigVersion());
+    }
+
+    @Test
+    void keepsThePermissionsOfTheReplacedFile() throws ConfigException, IOException {
+        assumeTrue(Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null, "No POSIX file system");
+        final Path configPath = directory.resolve("server.json");
+        JsonConfigLoader.save(configPath, new ServerConfig());
+
+        final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(configPath, permissions);
+        final ServerConfig config = JsonConfigLoader.load(configPath, ServerConfig.class);
+        config.port = 9090;
+        JsonConfigLoader.save(configPath, config);
+
+        assertEquals(permissions, Files.getPosixFilePermissions(configPath));
+        assertEquals(9090, JsonConfigLoader.load(configPath, ServerConfig.class).port);
+    }
+
+    @Test
+    void createsNewFilesWithTheDefaultPermissions() throws ConfigException, IOException {
+        assumeTrue(Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null, "No POSIX file system");
+        // A file created without the loader gets the permissions left by the umask of the process
+        final Set<PosixFilePermission> defaultPermissions = Files.getPosixFilePermissions(Files.createFile(directory.resolve("plain.json")));
+        final Path configPath = directory.resolve("server.json");
+
+        JsonConfigLoader.save(configPath, new ServerConfig());
+
+        assertEquals(defaultPermissions, Files.getPosixFilePermissions(configPath));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(Set.of(configPath, directory.resolve("plain.json")), files.collect(Collectors.toSet()));
+        }
+    }
+
+    public static class ServerConfig extends JsonConfig {
+
+        public String host = "localhost";
+
+        public int port = 8080;
+    }
+
+    public static class RenamedConfig extends JsonConfig {
+
+        public String address = "localhost";
+    }
+}
@@ -0,0 +1,73 @@
+package eu.nordtal.jcore.config;
+
+import eu.nordtal.jcore.config.exception.ConfigException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReloadableConfigTest {
+
+    /**
+     * Long enough that the watcher never reloads while a test reloads explicitly
+     */
+    private static final Duration DEBOUNCE = Duration.ofMinutes(1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reloadsWithoutWritingTheFile() throws ConfigException, IOException {
+        final Path configPath = directory.resolve("server.json");
+        try (ReloadableConfig<ServerConfig> config = ReloadableConfig.watch(configPath, ServerConfig.class, DEBOUNCE)) {
+            final String edited = "{\"host\": \"example.org\"}";
+            Files.writeString(configPath, edited);
+
+            assertTrue(config.reload());
+            assertEquals("example.org", config.get().host);
+            assertEquals(8080, config.get().port);
+            assertEquals(edited, Files.readString(configPath));
+        }
+    }
+
+    @Test
+    void keepsThePreviousInstanceIfTheFileCannotBeParsed() throws ConfigException, IOException {
+        final Path configPath = directory.resolve("server.json");
+        try (ReloadableConfig<ServerConfig> config = ReloadableConfig.watch(configPath, ServerConfig.class, DEBOUNCE)) {
+            final ServerConfig previous = config.get();
+            Files.writeString(configPath, "{\"host\": ");
+
+            assertThrows(ConfigException.class, config::reload);
+            assertSame(previous, config.get());
+            assertEquals("{\"host\": ", Files.readString(configPath));
+        }
+    }
+
+    @Test
+    void doesNotRecreateADeletedFile() throws ConfigException, IOException {
+        final Path configPath = directory.resolve("server.json");
+        try (ReloadableConfig<ServerConfig> config = ReloadableConfig.watch(configPath, ServerConfig.class, DEBOUNCE)) {
+            Files.delete(configPath);
+
+            assertThrows(ConfigException.class, config::reload);
+            assertFalse(Files.exists(configPath));
+            assertEquals("localhost", config.get().host);
+        }
+    }
+
+    public static class ServerConfig extends JsonConfig {
+
+        public String host = "localhost";
+
+        public int port = 8080;
+    }
+}
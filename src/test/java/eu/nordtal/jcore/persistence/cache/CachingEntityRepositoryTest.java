@@ -0,0 +1,120 @@
+package eu.nordtal.jcore.persistence.cache;
+
+import eu.nordtal.jcore.persistence.cache.InMemoryEntityRepository.TestEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CachingEntityRepositoryTest {
+
+    private InMemoryEntityRepository delegate;
+    private CachingEntityRepository<TestEntity> cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new InMemoryEntityRepository();
+        cache = new CachingEntityRepository<>(delegate, TestEntity::id);
+    }
+
+    @Test
+    void answersRepeatedLookupsFromTheCache() {
+        delegate.store(new TestEntity(1, "first"));
+
+        assertEquals("first", cache.findFirstById(1L).name());
+        assertEquals("first", cache.findFirstById(1L).name());
+
+        assertEquals(1, delegate.loads());
+        assertEquals(1, cache.statistics().hits());
+        assertEquals(1, cache.statistics().misses());
+    }
+
+    @Test
+    void cachesMissesForTheNegativeTimeToLive() {
+        assertNull(cache.findFirstById(1L));
+        assertNull(cache.findFirstById(1L));
+        assertEquals(1, delegate.loads());
+
+        final CachingEntityRepository<TestEntity> uncachedMisses = new CachingEntityRepository<>(delegate, TestEntity::id, CacheSettings.DEFAULT.withNegativeTimeToLive(Duration.ZERO));
+        assertNull(uncachedMisses.findFirstById(1L));
+        assertNull(uncachedMisses.findFirstById(1L));
+        assertEquals(3, delegate.loads());
+    }
+
+    @Test
+    void reloadsAfterTheTimeToLive() throws InterruptedException {
+        cache = new CachingEntityRepository<>(delegate, TestEntity::id, CacheSettings.DEFAULT.withTimeToLive(Duration.ofMillis(20)));
+        delegate.store(new TestEntity(1, "first"));
+
+        cache.findFirstById(1L);
+        Thread.sleep(50);
+        cache.findFirstById(1L);
+
+        assertEquals(2, delegate.loads());
+        assertEquals(1, cache.statistics().evictions());
+    }
+
+    @Test
+    void writesThroughTheCacheInvalidateTheId() {
+        delegate.store(new TestEntity(1, "first"));
+        cache.findFirstById(1L);
+
+        cache.save(new TestEntity(1, "second"));
+
+        assertEquals("second", cache.findFirstById(1L).name());
+        assertEquals(2, delegate.loads());
+    }
+
+    @Test
+    void doesNotCacheAValueInvalidatedWhileLoading() {
+        delegate.store(new TestEntity(1, "first"));
+        delegate.afterRead(() -> {
+            delegate.afterRead(() -> {});
+            cache.save(new TestEntity(1, "second"));
+        });
+
+        assertEquals("first", cache.findFirstById(1L).name());
+        assertEquals("second", cache.findFirstById(1L).name());
+        assertEquals(2, delegate.loads());
+    }
+
+    @Test
+    void loadsOnlyTheUncachedIdsOfAMultipleIdLookup() {
+        delegate.store(new TestEntity(1, "first"));
+        delegate.store(new TestEntity(2, "second"));
+        cache.findFirstById(1L);
+
+        final Map<Long, TestEntity> found = cache.findAllByIdsAsMap(List.of(2L, 1L, 3L));
+
+        assertEquals(List.of(2L, 1L), List.copyOf(found.keySet()));
+        assertEquals(3, delegate.loads());
+        assertNull(cache.findFirstById(3L));
+        assertEquals(3, delegate.loads());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntries() {
+        cache = new CachingEntityRepository<>(delegate, TestEntity::id, CacheSettings.DEFAULT.withMaximumSize(3));
+        for (long id = 1; id <= 4; id++) {
+            delegate.store(new TestEntity(id, "entity-" + id));
+        }
+
+        cache.findFirstById(1L);
+        cache.findFirstById(2L);
+        cache.findFirstById(3L);
+        cache.findFirstById(1L);
+        cache.findFirstById(4L);
+
+        // The cache shrinks to two entries, keeping the recently used ids 1 and 4
+        assertEquals(2, cache.statistics().size());
+        final int loads = delegate.loads();
+        cache.findFirstById(1L);
+        cache.findFirstById(4L);
+        assertEquals(loads, delegate.loads());
+    }
+}
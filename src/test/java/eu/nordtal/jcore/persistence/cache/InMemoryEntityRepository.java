@@ -0,0 +1,272 @@
+package eu.nordtal.jcore.persistence.cache;
+
+import eu.nordtal.jcore.persistence.common.Aggregate;
+import eu.nordtal.jcore.persistence.common.EntityRepository;
+import eu.nordtal.jcore.persistence.common.Page;
+import eu.nordtal.jcore.persistence.common.Slice;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * An {@link EntityRepository} keeping {@link TestEntity} objects in memory and counting the lookups by id and writes
+ * <p>
+ *     Only the operations used by the cache and the write-behind buffer are supported, all others throw an
+ *     {@link UnsupportedOperationException}. Writes can be made to fail to simulate an unavailable database.
+ * </p>
+ *
+ * @author Till Hoffmann / @tillhfm - 17.10.2026
+ */
+public final class InMemoryEntityRepository implements EntityRepository<InMemoryEntityRepository.TestEntity> {
+
+    /**
+     * The stored entities by id
+     */
+    private final Map<Object, TestEntity> entities = new ConcurrentHashMap<>();
+
+    /**
+     * The number of ids looked up, by single and by multiple id lookups
+     */
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * Runs after an entity has been read and before it is returned by {@link InMemoryEntityRepository#findFirstById(Object)}
+     */
+    private volatile Runnable afterRead = () -> {};
+
+    /**
+     * The number of calls to {@link InMemoryEntityRepository#saveAll(Collection)}, including failed ones
+     */
+    private final AtomicInteger saveCalls = new AtomicInteger();
+
+    /**
+     * Whether writes throw instead of storing the entities
+     */
+    private volatile boolean failWrites;
+
+    /**
+     * Stores an entity without going through a cache
+     *
+     * @param entity the entity to store
+     */
+    public void store(final @NotNull TestEntity entity) {
+        entities.put(entity.id(), entity);
+    }
+
+    /**
+     * Returns the number of ids looked up so far
+     *
+     * @return the number of loaded ids
+     */
+    public int loads() {
+        return loads.get();
+    }
+
+    /**
+     * Sets the action run between reading an entity and returning it, simulating a write racing with a load
+     *
+     * @param afterRead the action to run
+     */
+    public void afterRead(final @NotNull Runnable afterRead) {
+        this.afterRead = afterRead;
+    }
+
+    /**
+     * Returns the number of calls to {@link InMemoryEntityRepository#saveAll(Collection)} so far, including failed ones
+     *
+     * @return the number of batch writes
+     */
+    public int saveCalls() {
+        return saveCalls.get();
+    }
+
+    /**
+     * Makes writes fail with an {@link IllegalStateException} or succeed again
+     *
+     * @param failWrites whether writes fail
+     */
+    public void failWrites(final boolean failWrites) {
+        this.failWrites = failWrites;
+    }
+
+    /**
+     * Returns a stored entity without counting a lookup
+     *
+     * @param id the id of the entity
+     * @return the stored entity or {@code null} if none is stored
+     */
+    public @Nullable TestEntity stored(final long id) {
+        return entities.get(id);
+    }
+
+    @Override
+    public @NotNull TestEntity save(final @NotNull TestEntity entity) {
+        failIfUnavailable();
+        store(entity);
+        return entity;
+    }
+
+    @Override
+    public @NotNull List<TestEntity> saveAll(final @NotNull Collection<TestEntity> entities) {
+        saveCalls.incrementAndGet();
+        failIfUnavailable();
+        entities.forEach(this::store);
+        return List.copyOf(entities);
+    }
+
+    @Override
+    public @Nullable TestEntity findFirstById(final @Nullable Object value) {
+        loads.incrementAndGet();
+        final TestEntity entity = entities.get(value);
+        afterRead.run();
+        return entity;
+    }
+
+    @Override
+    public @NotNull List<TestEntity> findAllByIds(final @NotNull Collection<?> ids) {
+        return List.copyOf(findAllByIdsAsMap(ids).values());
+    }
+
+    @Override
+    public <K> @NotNull Map<K, TestEntity> findAllByIdsAsMap(final @NotNull Collection<K> ids) {
+        final Map<K, TestEntity> found = new LinkedHashMap<>();
+        for (K id : ids) {
+            loads.incrementAndGet();
+            final TestEntity entity = entities.get(id);
+            if (entity != null) {
+                found.put(id, entity);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void delete(final @NotNull TestEntity entity) {
+        entities.remove(entity.id());
+    }
+
+    @Override
+    public void deleteAll(final @NotNull Collection<TestEntity> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public @Nullable TestEntity findFirst(final @NotNull String field, final @Nullable Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull List<TestEntity> findAll(final @NotNull String field, final @Nullable Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull List<TestEntity> findAllIn(final @NotNull String field, final @NotNull Collection<?> values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull List<TestEntity> findAll(final @NotNull Map<String, Object> criteria) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <P extends Record> @NotNull List<P> findAll(final @NotNull String field, final @Nullable Object value, final @NotNull Class<P> projection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull List<Map<String, Object>> findFields(final @NotNull String field, final @Nullable Object value, final @NotNull List<String> fields) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull List<TestEntity> all() {
+        return List.copyOf(entities.values());
+    }
+
+    @Override
+    public long count(final @NotNull String field, final @Nullable Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean exists(final @NotNull String field, final @Nullable Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @Nullable Number aggregate(final @NotNull Aggregate aggregate, final @NotNull String field) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <K> @NotNull Map<K, Number> aggregate(final @NotNull Aggregate aggregate, final @NotNull String field, final @NotNull String groupByField) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull Stream<TestEntity> stream(final @NotNull String field, final @Nullable Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull Stream<TestEntity> streamAll() {
+        return all().stream();
+    }
+
+    @Override
+    public @NotNull Page<TestEntity> page(final @NotNull String orderField, final int pageNumber, final int pageSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull Slice<TestEntity> slice(final @NotNull String orderField, final @Nullable Comparable<?> afterKey, final int size) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean update(final @NotNull Object id, final @NotNull Map<String, Object> changes, final @NotNull Object expectedVersion) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean increment(final @NotNull Object id, final @NotNull String field, final @NotNull Number delta) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long deleteWhere(final @NotNull String field, final @Nullable Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Throws if writes have been made to fail
+     */
+    private void failIfUnavailable() {
+        if (failWrites) {
+            throw new IllegalStateException("Database unavailable");
+        }
+    }
+
+    /**
+     * The entity stored by this repository
+     *
+     * @param id   the id of the entity
+     * @param name a value to tell versions of the entity apart
+     */
+    public record TestEntity(long id, @NotNull String name) {
+    }
+}
@@ -0,0 +1,103 @@
+package eu.nordtal.jcore.persistence.common;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityRepositoryTest {
+
+    private LegacyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new LegacyRepository();
+        repository.saveAll(List.of(new Item(1, "red"), new Item(2, "blue"), new Item(3, "red")));
+    }
+
+    @Test
+    void buildsTheDefaultsOnTheAbstractMethods() {
+        assertEquals(List.of(new Item(3, "red"), new Item(1, "red")), repository.findAllByIds(List.of(3L, 4L, 1L)));
+        assertEquals(Map.of(2L, new Item(2, "blue")), repository.findAllByIdsAsMap(List.of(2L, 4L)));
+        assertEquals(List.of(new Item(2, "blue"), new Item(1, "red"), new Item(3, "red")), repository.findAllIn("color", List.of("blue", "red")));
+        assertEquals(2, repository.count("color", "red"));
+        assertTrue(repository.exists("color", "blue"));
+        assertFalse(repository.exists("color", "green"));
+        try (Stream<Item> items = repository.stream("color", "blue")) {
+            assertEquals(List.of(new Item(2, "blue")), items.toList());
+        }
+
+        assertEquals(2, repository.deleteWhere("color", "red"));
+        assertEquals(List.of(new Item(2, "blue")), repository.all());
+    }
+
+    @Test
+    void throwsForOperationsWithoutAFallback() {
+        assertThrows(UnsupportedOperationException.class, () -> repository.update(1L, Map.of("color", "green")));
+        assertThrows(UnsupportedOperationException.class, () -> repository.page("id", 0, 10));
+        assertThrows(UnsupportedOperationException.class, () -> repository.findAll(Map.of("id", 1L, "color", "red")));
+    }
+
+    /**
+     * An entity with an id and one field
+     *
+     * @param id    the id of the entity
+     * @param color the color of the entity
+     */
+    record Item(long id, @NotNull String color) {}
+
+    /**
+     * An {@link EntityRepository} implementing only the methods of the first release, like implementations written
+     * against it
+     */
+    private static final class LegacyRepository implements EntityRepository<Item> {
+
+        private final List<Item> items = new ArrayList<>();
+
+        @Override
+        public @NotNull Item save(final @NotNull Item entity) {
+            delete(entity);
+            items.add(entity);
+            return entity;
+        }
+
+        @Override
+        public @Nullable Item findFirst(final @NotNull String field, final @Nullable Object value) {
+            final List<Item> found = findAll(field, value);
+            return found.isEmpty() ? null : found.getFirst();
+        }
+
+        @Override
+        public @Nullable Item findFirstById(final @Nullable Object value) {
+            return findFirst("id", value);
+        }
+
+        @Override
+        public @NotNull List<Item> findAll(final @NotNull String field, final @Nullable Object value) {
+            return items.stream()
+                    .filter(item -> Objects.equals(field.equals("id") ? item.id() : item.color(), value))
+                    .toList();
+        }
+
+        @Override
+        public @NotNull List<Item> all() {
+            return List.copyOf(items);
+        }
+
+        @Override
+        public void delete(final @NotNull Item entity) {
+            items.removeIf(item -> item.id() == entity.id());
+        }
+    }
+}
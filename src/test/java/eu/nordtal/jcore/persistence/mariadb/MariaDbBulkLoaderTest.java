@@ -0,0 +1,147 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MariaDbBulkLoaderTest {
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactory() {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("hibernate.dialect", "org.hibernate.dialect.MariaDBDialect");
+        // Builds the metamodel without connecting to a database
+        configuration.setProperty("hibernate.boot.allow_jdbc_metadata_access", "false");
+        configuration.addAnnotatedClass(VersionedEntity.class);
+        configuration.addAnnotatedClass(TimestampedEntity.class);
+        configuration.addAnnotatedClass(ChildEntity.class);
+        configuration.addAnnotatedClass(BaseEntity.class);
+        configuration.addAnnotatedClass(SubEntity.class);
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void insertsAllColumnsWithTheVersionLast() {
+        final MariaDbBulkLoader.Table<VersionedEntity> table = MariaDbBulkLoader.Table.read(sessionFactory, VersionedEntity.class);
+
+        assertEquals("INSERT INTO versioned_entity (id, created, name, version) VALUES (?, ?, ?, ?), (?, ?, ?, ?)", table.sql(2, false));
+    }
+
+    @Test
+    void upsertsIncrementTheVersionInsteadOfOverwritingIt() {
+        final MariaDbBulkLoader.Table<VersionedEntity> table = MariaDbBulkLoader.Table.read(sessionFactory, VersionedEntity.class);
+
+        assertEquals("INSERT INTO versioned_entity (id, created, name, version) VALUES (?, ?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE name = VALUES(name), version = version + 1", table.sql(1, true));
+    }
+
+    @Test
+    void upsertsWriteTimestampVersions() {
+        final MariaDbBulkLoader.Table<TimestampedEntity> table = MariaDbBulkLoader.Table.read(sessionFactory, TimestampedEntity.class);
+
+        assertEquals("INSERT INTO timestamped_entity (id, name, updated) VALUES (?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE name = VALUES(name), updated = VALUES(updated)", table.sql(1, true));
+    }
+
+    @Test
+    void seedsTheVersionOfEntitiesWithoutOne() {
+        final MariaDbBulkLoader.Column<VersionedEntity> version = MariaDbBulkLoader.Table.read(sessionFactory, VersionedEntity.class).columns().getLast();
+        final VersionedEntity entity = new VersionedEntity();
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            final SharedSessionContractImplementor sessionImplementor = (SharedSessionContractImplementor) session;
+            assertEquals(0L, version.getter().apply(entity, sessionImplementor));
+            entity.version = 5L;
+            assertEquals(5L, version.getter().apply(entity, sessionImplementor));
+        }
+    }
+
+    @Test
+    void rejectsNonBasicAttributes() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> MariaDbBulkLoader.Table.read(sessionFactory, ChildEntity.class));
+
+        assertEquals("Entity class [" + ChildEntity.class.getName() + "] has non-basic attributes [parent]", exception.getMessage());
+    }
+
+    @Test
+    void rejectsInheritance() {
+        assertThrows(IllegalArgumentException.class, () -> MariaDbBulkLoader.Table.read(sessionFactory, BaseEntity.class));
+        assertThrows(IllegalArgumentException.class, () -> MariaDbBulkLoader.Table.read(sessionFactory, SubEntity.class));
+    }
+
+    @Entity
+    @Table(name = "versioned_entity")
+    public static class VersionedEntity {
+
+        @Id
+        public Long id;
+
+        @Column(updatable = false)
+        public String created;
+
+        public String name;
+
+        @Version
+        public Long version;
+    }
+
+    @Entity
+    @Table(name = "timestamped_entity")
+    public static class TimestampedEntity {
+
+        @Id
+        public Long id;
+
+        public String name;
+
+        @Version
+        public Instant updated;
+    }
+
+    @Entity
+    @Table(name = "child_entity")
+    public static class ChildEntity {
+
+        @Id
+        public Long id;
+
+        @ManyToOne
+        public VersionedEntity parent;
+    }
+
+    @Entity
+    @Table(name = "base_entity")
+    public static class BaseEntity {
+
+        @Id
+        public Long id;
+    }
+
+    @Entity
+    public static class SubEntity extends BaseEntity {
+
+        public String name;
+    }
+}
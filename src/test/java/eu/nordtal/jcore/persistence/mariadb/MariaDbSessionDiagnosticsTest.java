@@ -0,0 +1,35 @@
+package eu.nordtal.jcore.persistence.mariadb;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MariaDbSessionDiagnosticsTest {
+
+    private static final String SELECT = "select e.id, e.name from entity e where e.id=?";
+
+    @Test
+    void countsRepeatsOfTheSameStatement() {
+        final MariaDbSessionDiagnostics diagnostics = diagnostics(MariaDbDiagnostics.DISABLED.withStatementBudget(2).withFailOnBudgetExceeded(true));
+
+        assertEquals(SELECT, diagnostics.inspect(SELECT));
+        assertEquals(SELECT, diagnostics.inspect(SELECT));
+        final StatementBudgetExceededException exception = assertThrows(StatementBudgetExceededException.class, () -> diagnostics.inspect(SELECT));
+        assertEquals("Repository call String.findAll[name, Till] exceeded its budget of 2 statements with '" + SELECT + "'", exception.getMessage());
+    }
+
+    @Test
+    void onlyWarnsIfNotStrict() {
+        final MariaDbSessionDiagnostics diagnostics = diagnostics(MariaDbDiagnostics.DISABLED.withStatementBudget(1));
+
+        diagnostics.inspect(SELECT);
+        assertDoesNotThrow(() -> diagnostics.inspect(SELECT));
+        assertDoesNotThrow(diagnostics::end);
+    }
+
+    private static MariaDbSessionDiagnostics diagnostics(final MariaDbDiagnostics settings) {
+        return new MariaDbSessionDiagnostics(settings, String.class, "findAll", new Object[]{"name", "Till"});
+    }
+}
@@ -0,0 +1,142 @@
+package eu.nordtal.jcore.persistence.mongodb;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs against a mongod listening on {@code localhost:27017} and is skipped if none is reachable
+ */
+class MongoDbClientRegistryTest {
+
+    private static final String HOSTNAME = "localhost";
+    private static final int PORT = 27017;
+    private static final String DATABASE = "jcore_test_" + UUID.randomUUID().toString().replace("-", "");
+    private static final String OTHER_DATABASE = DATABASE + "_other";
+
+    private static boolean available;
+
+    @BeforeAll
+    static void requireMongod() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(HOSTNAME, PORT), 500);
+            available = true;
+        } catch (IOException e) {
+            available = false;
+        }
+        assumeTrue(available, "No mongod reachable on " + HOSTNAME + ":" + PORT);
+    }
+
+    @AfterAll
+    static void dropDatabases() {
+        if (available) {
+            new Repository<>(credentials(Item.class, DATABASE, 0)).getDatastore().getDatabase().drop();
+            new Repository<>(credentials(Item.class, OTHER_DATABASE, 0)).getDatastore().getDatabase().drop();
+        }
+        MongoDbClientRegistry.closeAll();
+    }
+
+    @Test
+    void sharesTheDatastoreAcrossEntityClasses() {
+        final Repository<Item> items = new Repository<>(credentials(Item.class, DATABASE, 0));
+        final Repository<Tag> tags = new Repository<>(credentials(Tag.class, DATABASE, 0));
+
+        assertSame(items.getDatastore(), tags.getDatastore());
+        assertSame(items.getOperationPermits(), tags.getOperationPermits());
+    }
+
+    @Test
+    void sharesTheClientAcrossDatabases() {
+        final Repository<Item> items = new Repository<>(credentials(Item.class, DATABASE, 0));
+        final Repository<Item> otherDatabase = new Repository<>(credentials(Item.class, OTHER_DATABASE, 0));
+
+        assertNotSame(items.getDatastore(), otherDatabase.getDatastore());
+        assertSame(items.getOperationPermits(), otherDatabase.getOperationPermits());
+    }
+
+    @Test
+    void usesASeparateClientForOtherPoolSettings() {
+        final Repository<Item> items = new Repository<>(credentials(Item.class, DATABASE, 0));
+        final Repository<Item> smallPool = new Repository<>(credentials(Item.class, DATABASE, 4));
+
+        assertNotSame(items.getDatastore(), smallPool.getDatastore());
+        assertEquals(4, smallPool.getMaxPoolSize());
+        assertEquals(4, smallPool.getOperationPermits().availablePermits());
+    }
+
+    @Test
+    void readsAndWritesThroughTheSharedClient() {
+        final Repository<Item> items = new Repository<>(credentials(Item.class, DATABASE, 0));
+        final Repository<Tag> tags = new Repository<>(credentials(Tag.class, DATABASE, 0));
+
+        items.saveAll(List.of(new Item("first", 1), new Item("second", 2), new Item("third", 2)));
+        tags.save(new Tag("green"));
+
+        assertEquals("first", items.findFirstById("first").name);
+        assertEquals(2, items.findAll("score", 2).size());
+        try (Stream<Item> stream = items.streamAll()) {
+            assertEquals(3, stream.count());
+        }
+        assertEquals(1, tags.all().size());
+    }
+
+    private static <T> MongoDbCredentials<T> credentials(final Class<T> entityClass, final String database, final int maxPoolSize) {
+        return MongoDbCredentials.<T>builder()
+                .hostname(HOSTNAME)
+                .port(PORT)
+                .database(database)
+                .entityClass(entityClass)
+                .maxPoolSize(maxPoolSize)
+                .build();
+    }
+
+    static final class Repository<T> extends MongoDbRepository<T> {
+
+        Repository(final MongoDbCredentials<T> credentials) {
+            super(credentials);
+        }
+    }
+
+    @Entity("items")
+    public static class Item {
+
+        @Id
+        public String name;
+
+        public int score;
+
+        public Item() {}
+
+        Item(final String name, final int score) {
+            this.name = name;
+            this.score = score;
+        }
+    }
+
+    @Entity("tags")
+    public static class Tag {
+
+        @Id
+        public String label;
+
+        public Tag() {}
+
+        Tag(final String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package eu.nordtal.jcore.persistence.writebehind;
+
+import eu.nordtal.jcore.persistence.cache.InMemoryEntityRepository;
+import eu.nordtal.jcore.persistence.cache.InMemoryEntityRepository.TestEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindEntityRepositoryTest {
+
+    /**
+     * Never flushes periodically during a test, a flush is only triggered by a full batch or called explicitly
+     */
+    private static final WriteBehindSettings SETTINGS = new WriteBehindSettings(2, Duration.ofHours(1), 2, false, 3, Duration.ofMillis(100));
+
+    private InMemoryEntityRepository delegate;
+    private List<TestEntity> dropped;
+    private WriteBehindEntityRepository<TestEntity> buffer;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new InMemoryEntityRepository();
+        dropped = new CopyOnWriteArrayList<>();
+        buffer = new WriteBehindEntityRepository<>(delegate, TestEntity::id, SETTINGS, (entities, e) -> dropped.addAll(entities));
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.failWrites(false);
+        buffer.close();
+    }
+
+    @Test
+    void coalescesSavesOfTheSameIdAndAnswersFromTheBuffer() {
+        buffer.save(new TestEntity(1, "first"));
+        buffer.save(new TestEntity(1, "second"));
+
+        assertEquals("second", buffer.findFirstById(1L).name());
+        assertEquals(0, delegate.loads());
+        assertNull(delegate.stored(1));
+
+        buffer.flush();
+
+        assertEquals("second", delegate.stored(1).name());
+        assertEquals(1, delegate.saveCalls());
+        assertEquals(1, buffer.statistics().coalesced());
+    }
+
+    @Test
+    void dropsAnEntityOnlyAfterTheMaximumAttempts() {
+        delegate.failWrites(true);
+        buffer.save(new TestEntity(1, "first"));
+
+        for (int attempt = 1; attempt < SETTINGS.maxAttempts(); attempt++) {
+            assertThrows(IllegalStateException.class, buffer::flush);
+            assertTrue(dropped.isEmpty());
+            assertEquals(1, buffer.statistics().queueDepth());
+        }
+        assertThrows(IllegalStateException.class, buffer::flush);
+
+        assertEquals(List.of(new TestEntity(1, "first")), dropped);
+        assertEquals(1, buffer.statistics().droppedEntities());
+        assertEquals(0, buffer.statistics().queueDepth());
+        assertEquals(SETTINGS.maxAttempts(), delegate.saveCalls());
+    }
+
+    @Test
+    void throwsOnlyErrorsOfBatchesWithOwnEntities() throws InterruptedException {
+        delegate.failWrites(true);
+        saveOnOtherThread(new TestEntity(1, "other"));
+
+        assertDoesNotThrow(buffer::flush);
+        assertEquals(1, buffer.statistics().failedFlushes());
+        assertEquals(1, buffer.statistics().queueDepth());
+
+        buffer.save(new TestEntity(2, "own"));
+        assertThrows(IllegalStateException.class, buffer::flush);
+    }
+
+    @Test
+    void requeuesFailedEntitiesAndWritesThemOnceTheDatabaseIsBack() throws InterruptedException {
+        delegate.failWrites(true);
+        saveOnOtherThread(new TestEntity(1, "first"));
+        buffer.flush();
+
+        delegate.failWrites(false);
+        buffer.flush();
+
+        assertEquals("first", delegate.stored(1).name());
+        assertEquals(0, buffer.statistics().queueDepth());
+        assertTrue(dropped.isEmpty());
+    }
+
+    @Test
+    void backPressureWaitsForTheBackoffAndDoesNotCountAsAttempts() throws InterruptedException {
+        delegate.failWrites(true);
+        saveOnOtherThread(new TestEntity(1, "first"));
+        // Fails the first attempt and pauses flushing, so the flush triggered by the full batch below is skipped
+        buffer.flush();
+        saveOnOtherThread(new TestEntity(2, "second"));
+        final int callsBefore = delegate.saveCalls();
+
+        // The buffer is full with entities of another thread, so this save waits until they can be written
+        final Thread saver = Thread.ofPlatform().start(() -> buffer.save(new TestEntity(3, "third")));
+        final long blockedMillis = SETTINGS.retryBackoff().toMillis() * 5;
+        saver.join(blockedMillis);
+        assertTrue(saver.isAlive());
+
+        // Without the backoff the saving thread would have retried in a tight loop and dropped both entities
+        final int backPressureCalls = delegate.saveCalls() - callsBefore;
+        assertTrue(backPressureCalls >= 2, "Back-pressure flushed " + backPressureCalls + " times");
+        assertTrue(backPressureCalls <= blockedMillis / SETTINGS.retryBackoff().toMillis() + 1, "Back-pressure flushed " + backPressureCalls + " times");
+        assertTrue(dropped.isEmpty());
+
+        delegate.failWrites(false);
+        saver.join(Duration.ofSeconds(5));
+        assertFalse(saver.isAlive());
+        assertEquals("first", delegate.stored(1).name());
+        assertEquals("second", delegate.stored(2).name());
+        assertEquals("third", buffer.findFirstById(3L).name());
+        assertEquals(0, buffer.statistics().droppedEntities());
+    }
+
+    /**
+     * Saves an entity on another thread, so that errors writing it are not thrown to flushes of the test thread
+     *
+     * @param entity the entity to save
+     * @throws InterruptedException if the test thread is interrupted while waiting
+     */
+    private void saveOnOtherThread(final TestEntity entity) throws InterruptedException {
+        Thread.ofPlatform().start(() -> buffer.save(entity)).join();
+    }
+}